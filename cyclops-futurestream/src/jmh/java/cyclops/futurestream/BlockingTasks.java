@@ -0,0 +1,81 @@
+package cyclops.futurestream;
+
+import com.oath.cyclops.react.collectors.lazy.MaxActive;
+import com.oath.cyclops.react.threads.ParallelElasticPools;
+import com.oath.cyclops.react.threads.ReactPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of 10,000 concurrent blocking (HTTP style, simulated with sleep) tasks on a LazyReact backed by virtual
+ * threads, compared with the platform thread configurations : a fixed pool sized for IO, the elastic ForkJoinPool
+ * backed pool and the default (common ForkJoinPool) builder
+ */
+@State(Scope.Benchmark)
+public class BlockingTasks {
+
+    @Param({"virtual","fixedIO","elastic","standard"})
+    String pool;
+
+    @Param({"10"})
+    long latencyMillis;
+
+    int tasks = 10_000;
+
+    ReactPool<LazyReact> reactors;
+
+    @Setup
+    public void before() {
+        switch (pool) {
+            case "virtual":
+                reactors = ReactPool.virtualThreadPool();
+                break;
+            case "fixedIO":
+                reactors = ReactPool.elasticPool(() -> new LazyReact(MaxActive.IO.getMaxActive(),
+                                                                     Executors.newFixedThreadPool(MaxActive.IO.getMaxActive())));
+                break;
+            case "elastic":
+                reactors = ParallelElasticPools.lazyReact;
+                break;
+            default:
+                reactors = ReactPool.elasticPool(LazyReact::new);
+        }
+    }
+
+    private Integer call(Integer request) {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return request;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(
+        iterations = 2
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public long blockingCalls() {
+        return reactors.react(reactor -> reactor.range(0, tasks)
+                                                .map(this::call)
+                                                .count());
+    }
+}
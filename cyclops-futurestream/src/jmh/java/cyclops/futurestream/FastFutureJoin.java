@@ -0,0 +1,106 @@
+package cyclops.futurestream;
+
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+import com.oath.cyclops.internal.react.async.future.FinalPipeline;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares FastFuture join (spin briefly, then park until unparked on completion) with the parkNanos polling loop it
+ * replaced : latency when joining a task completed on another thread, and the CPU time a joining thread burns while
+ * it waits for a long running task
+ */
+@State(Scope.Benchmark)
+public class FastFutureJoin {
+
+    @Param({"park","poll"})
+    String join;
+
+    ExecutorService executor;
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Setup
+    public void before() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void after() {
+        executor.shutdown();
+    }
+
+    private <T> T join(FastFuture<T> future) {
+        if ("poll".equals(join)) {
+            long spin = 1;
+            while (!future.isDone()) {
+                LockSupport.parkNanos(spin++);
+            }
+        }
+        return future.join();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Cpu {
+        public long waitingJoinerCpuNanos;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Integer joinLatency() {
+        FastFuture<Integer> future = new FastFuture<>(FinalPipeline.empty(), f -> {});
+        executor.execute(() -> future.set(1));
+        return join(future);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 2
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public void waitingJoiner(Cpu cpu) throws InterruptedException {
+        FastFuture<Integer> future = new FastFuture<>(FinalPipeline.empty(), f -> {});
+        long[] used = {0};
+        Thread joiner = new Thread(() -> {
+            long start = threads.getCurrentThreadCpuTime();
+            join(future);
+            used[0] = threads.getCurrentThreadCpuTime() - start;
+        });
+        joiner.start();
+        Thread.sleep(100);
+        future.set(1);
+        joiner.join();
+        cpu.waitingJoinerCpuNanos += used[0];
+    }
+}
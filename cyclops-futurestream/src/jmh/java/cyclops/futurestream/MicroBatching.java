@@ -0,0 +1,45 @@
+package cyclops.futurestream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of pushing many small, cheap elements through a FutureStream, with one task submission per element (batchSize 1)
+ * and with micro-batched submission
+ */
+@State(Scope.Benchmark)
+public class MicroBatching {
+
+    @Param({"1","64","256"})
+    int batchSize;
+
+    LazyReact react = new LazyReact();
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(
+        iterations = 5
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public long smallMessages() {
+        FutureStream<Integer> stream = react.range(0, 100_000);
+        if (batchSize > 1)
+            stream = stream.batched(batchSize, 1);
+        return stream.map(i -> i + 1)
+                     .count();
+    }
+}
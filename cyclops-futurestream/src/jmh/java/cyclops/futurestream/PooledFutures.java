@@ -0,0 +1,51 @@
+package cyclops.futurestream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares LazyReact Streams with and without FastFuture pooling, run with -prof gc to see the garbage allocated per
+ * element
+ */
+@State(Scope.Benchmark)
+public class PooledFutures {
+
+    @Param({"pooled","unpooled"})
+    String pooling;
+
+    LazyReact react;
+
+    @Setup
+    public void before() {
+        react = "pooled".equals(pooling) ? LazyReact.sequentialCurrentBuilder()
+                                         : LazyReact.sequentialCurrentBuilder()
+                                                    .objectPoolingOff();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(
+        iterations = 5
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public long mapAndReduce() {
+        return react.range(0, 100_000)
+                    .map(i -> i * 2l)
+                    .reduce(0l, (Long a, Long b) -> a + b);
+    }
+}
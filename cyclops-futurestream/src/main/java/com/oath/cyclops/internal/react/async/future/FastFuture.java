@@ -3,7 +3,8 @@ package com.oath.cyclops.internal.react.async.future;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -25,75 +26,178 @@ import lombok.Getter;
  * 						lazy the thread that sets the result / error and eventually done,
  * 							or if done already set - the calling thread can execute post-hoc events)
  */
-@AllArgsConstructor
 public class FastFuture<T> {
 
-    @Getter
-    private volatile boolean done = false;
+    //state bits, completion is published by the write to state so result is always written first
+    private static final int DONE = 1;
+    private static final int FAILED = 2;
+    //the completing thread has finished running listeners, so the future can safely be recycled
+    private static final int QUIESCENT = 4;
+    //returned to a FuturePool, any further use (until it is reused) is an error
+    private static final int RECYCLED = 8;
+
+    private static final AtomicIntegerFieldUpdater<FastFuture> STATE = AtomicIntegerFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                           "state");
+    private static final AtomicIntegerFieldUpdater<FastFuture> COUNT = AtomicIntegerFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                           "count");
+    private static final AtomicReferenceFieldUpdater<FastFuture, Object> RESULT = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                        Object.class,
+                                                                                                                        "result");
+    private static final AtomicReferenceFieldUpdater<FastFuture, Thread> WAITER = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                        Thread.class,
+                                                                                                                        "waiter");
+    private static final AtomicReferenceFieldUpdater<FastFuture, Consumer> ON_DONE = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                           Consumer.class,
+                                                                                                                           "onDone");
+
+    private volatile int state;
+    //bumped each time this future is recycled, so holders of an earlier use can detect it even once it is reused
+    private volatile int generation;
     private volatile Consumer<OnComplete> forXOf;
     private volatile Consumer<OnComplete> essential;
-    @Getter
-    private volatile boolean completedExceptionally = false;
-    private final AtomicReference result = new AtomicReference(
-                                                               UNSET);
-    private final AtomicReference exception = new AtomicReference(
-                                                                  UNSET);
-    private final Consumer<FastFuture<T>> doFinally;
-    private static UnSet UNSET = new UnSet();
-
-    static class UnSet {
-    }
+    //the result, or the Throwable if completed exceptionally
+    private volatile Object result;
+    private Consumer<FastFuture<T>> doFinally;
 
     @Getter
-    private final FinalPipeline pipeline;
+    private FinalPipeline pipeline;
 
-    private final AtomicInteger count = new AtomicInteger(
-                                                          0);
-    private final AtomicInteger max = new AtomicInteger(
-                                                        0);
+    private volatile int count;
+    private final int max;
+    //thread blocked in join / await, unparked once by the thread that completes this future
+    private volatile Thread waiter;
+    //notified exactly once, after completion
+    private volatile Consumer<FastFuture<T>> onDone;
+    //completion checks made before a joining thread parks, so very short tasks are picked up without a context switch
+    private static final int SPIN_TRIES = 256;
 
     public FastFuture() {
-        max.set(0);
+        this.max = 0;
         this.doFinally = null;
         this.pipeline = null;
     }
 
-    private T result() {
-        Object res = UNSET;
-        while ((res = result.get()) == UNSET) {
-            Thread.yield();
-        }
-        return (T) res;
-    }
-
-    private Throwable exception() {
-        Object result = UNSET;
-        while ((result = exception.get()) == UNSET) {
-            Thread.yield();
-        }
-        return (Throwable) result;
-    }
-
     public FastFuture(final FinalPipeline pipeline, final Consumer<FastFuture<T>> doFinally) {
-        this.max.set(0);
+        this.max = 0;
         this.pipeline = pipeline;
         this.doFinally = doFinally;
 
     }
 
     public FastFuture(final FinalPipeline pipeline, final int max) {
-        this.max.set(max);
+        this.max = max;
         this.pipeline = pipeline;
         this.doFinally = null;
     }
 
+    public boolean isDone() {
+        return (state & DONE) != 0;
+    }
+
+    public boolean isCompletedExceptionally() {
+        return (state & FAILED) != 0;
+    }
+
     public void await() {
+        checkLive();
+        awaitDone();
+    }
+
+    /**
+     * A pooled future may be recycled and handed out again once joined. Capture the stamp when taking hold of a future
+     * and pass it to {@link #join(int)} or {@link #set(Object, int)} to detect use after it was recycled, even if it has
+     * since been reused.
+     *
+     * @return Stamp identifying the current use of this future
+     */
+    public int stamp() {
+        return generation;
+    }
+
+    private void checkLive() {
+        if ((state & RECYCLED) != 0)
+            throw new IllegalStateException(
+                                            "FastFuture used after it was recycled");
+    }
+
+    private void checkLive(final int stamp) {
+        if (generation != stamp)
+            throw new IllegalStateException(
+                                            "FastFuture used after it was recycled");
+        checkLive();
+    }
 
-        long spin = 1;
-        while (!done) {
-            LockSupport.parkNanos(spin++);
+    /**
+     * Mark this (completed) future as returned to a pool. Only succeeds once the completing thread has finished with it,
+     * and only once per completion, so a future can never be handed out twice or while still in use.
+     *
+     * @return true if the future can now be reused
+     */
+    boolean recycle() {
+        int current = state;
+        //a joiner is often woken while the completing thread is still notifying listeners, give it a moment to finish
+        for (int i = 0; i < SPIN_TRIES && (current & (DONE | QUIESCENT)) == DONE; i++) {
+            Thread.yield();
+            current = state;
         }
+        if ((current & (QUIESCENT | RECYCLED)) != QUIESCENT || !STATE.compareAndSet(this, current, current | RECYCLED))
+            return false;
+        generation++;
+        //don't keep the last result, or the last stream's pipeline, reachable from the pool
+        this.result = null;
+        this.pipeline = null;
+        this.doFinally = null;
+        this.forXOf = null;
+        this.essential = null;
+        this.onDone = null;
+        return true;
+    }
 
+    /**
+     * Prepare a recycled future for its next use
+     */
+    void reuse(final FinalPipeline pipeline, final Consumer<FastFuture<T>> doFinally) {
+        clearFast();
+        this.pipeline = pipeline;
+        this.doFinally = doFinally;
+    }
+
+    /**
+     * Block until done : spin briefly, then park until the completing thread unparks us
+     */
+    private void awaitDone() {
+        for (int i = 0; i < SPIN_TRIES; i++) {
+            if (isDone())
+                return;
+        }
+        final Thread current = Thread.currentThread();
+        if (!WAITER.compareAndSet(this, null, current)) {
+            //another thread is already waiting, there is only one waiter slot so poll
+            long spin = 1;
+            while (!isDone()) {
+                LockSupport.parkNanos(this, spin++);
+            }
+            return;
+        }
+        boolean interrupted = false;
+        try {
+            //recheck after registering, so a completion between the spin and register is not missed
+            while (!isDone()) {
+                LockSupport.park(this);
+                if (Thread.interrupted())
+                    interrupted = true;
+            }
+        } finally {
+            WAITER.compareAndSet(this, current, null);
+        }
+        if (interrupted)
+            current.interrupt();
+    }
+
+    private void wakeWaiter() {
+        final Thread parked = WAITER.getAndSet(this, null);
+        if (parked != null)
+            LockSupport.unpark(parked);
     }
 
     /**
@@ -102,16 +206,28 @@ public class FastFuture<T> {
      * @return Result
      */
     public T join() {
+        checkLive();
+        return joinLive();
+    }
+
+    /**
+     * Join which can be called exactly once, failing if this future has been recycled since stamp was taken
+     *
+     * @param stamp Stamp captured via {@link #stamp()}
+     * @return Result
+     */
+    public T join(final int stamp) {
+        checkLive(stamp);
+        return joinLive();
+    }
 
+    private T joinLive() {
         try {
-            long spin = 1;
-            while (!done) {
-                LockSupport.parkNanos(spin++);
-            }
-            if (completedExceptionally)
+            awaitDone();
+            if (isCompletedExceptionally())
                 throw new SimpleReactCompletionException(
-                                                         exception());
-            return result();
+                                                         (Throwable) result);
+            return (T) result;
         } finally {
             markComplete();
         }
@@ -124,8 +240,8 @@ public class FastFuture<T> {
 
     public static <T> FastFuture<T> completedFuture(final T value) {
         final FastFuture<T> f = new FastFuture();
-        f.result.lazySet(value);
-        f.done = true;
+        RESULT.lazySet(f, value);
+        f.state = DONE | QUIESCENT;
         return f;
     }
 
@@ -146,10 +262,12 @@ public class FastFuture<T> {
     }
 
     public FastFuture<T> populateFromCompletableFuture(final CompletableFuture<T> cf) {
-        cf.thenAccept(i -> this.set(i));
+        final int stamp = stamp();
+        cf.thenAccept(i -> this.set(i, stamp));
         cf.exceptionally(t -> {
             completedExceptionally(t);
-            return join();
+            //joining here would recycle a pooled future before its consumer had read it
+            return null;
         });
         return this;
     }
@@ -164,21 +282,23 @@ public class FastFuture<T> {
 
             } catch (final Throwable e) {
                 finalError = e;
-                this.exception.lazySet(e);
             }
         }
         this.completeExceptionally(finalError);
 
-        throw (RuntimeException) exception();
+        throw (RuntimeException) finalError;
     }
 
     private FastFuture<T> completeExceptionally(final Throwable t) {
-        exception.lazySet(t);
-        completedExceptionally = true;
+        RESULT.lazySet(this, t);
+        state = FAILED;
         handleOnComplete(true);
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
-        done = true;
+        state = FAILED | DONE;
+        wakeWaiter();
+        notifyDone();
+        state = FAILED | DONE | QUIESCENT;
         return this;
     }
 
@@ -199,6 +319,10 @@ public class FastFuture<T> {
         return f;
     }
 
+    /**
+     * @param onComplete Run once all of the supplied futures have completed
+     * @return FastFuture that completes (after onComplete has run) once all of the supplied futures have completed
+     */
     public static <R> FastFuture<List<R>> allOf(final Runnable onComplete, final FastFuture... futures) {
         //needs to use onComplete
         final FastFuture allOf = new FastFuture(
@@ -210,8 +334,10 @@ public class FastFuture<T> {
             next.onComplete(v -> {
                 if (!count.compareAndSet(0, 1))
                     return;
-                if (allOf.count.incrementAndGet() == allOf.max.get()) {
+                if (COUNT.incrementAndGet(allOf) == allOf.max) {
                     onComplete.run();
+                    RESULT.lazySet(allOf, null);
+                    allOf.done();
                 }
 
             });
@@ -219,6 +345,12 @@ public class FastFuture<T> {
         return allOf;
     }
 
+    /**
+     * @param x Number of futures to wait for
+     * @param onComplete Run when x or more of the supplied futures have completed
+     * @return FastFuture that completes once x of the supplied futures have completed, callers can block on it with
+     *         {@link #await()} rather than polling
+     */
     public static <R> FastFuture<List<R>> xOf(final int x, final Runnable onComplete, final FastFuture... futures) {
         //needs to use onComplete
         final FastFuture xOf = new FastFuture(
@@ -229,9 +361,14 @@ public class FastFuture<T> {
             next.onComplete(v -> {
                 if (!count.compareAndSet(0, 1))
                     return;
-                if (xOf.count.incrementAndGet() >= xOf.max.get()) {
+                final int completed = COUNT.incrementAndGet(xOf);
+                if (completed >= xOf.max) {
 
                     onComplete.run();
+                    if (completed == xOf.max) {
+                        RESULT.lazySet(xOf, null);
+                        xOf.done();
+                    }
 
                 }
 
@@ -246,7 +383,7 @@ public class FastFuture<T> {
 
         for (final FastFuture next : futures) {
             next.onComplete(v -> {
-                anyOf.result.lazySet(true);
+                RESULT.lazySet(anyOf, true);
                 anyOf.done();
 
             });
@@ -254,14 +391,29 @@ public class FastFuture<T> {
         return anyOf;
     }
 
+    /**
+     * Set the result, failing if this future has been recycled since stamp was taken
+     *
+     * @param result Result
+     * @param stamp Stamp captured via {@link #stamp()}
+     */
+    public void set(final T result, final int stamp) {
+        checkLive(stamp);
+        setLive(result);
+    }
+
     public void set(final T result) {
+        checkLive();
+        setLive(result);
+    }
 
+    private void setLive(final T result) {
         try {
 
             final Object use = result;
 
             if (pipeline == null || pipeline.functions.length == 0) {
-                this.result.lazySet(use);
+                RESULT.lazySet(this, use);
                 done();
                 return;
             }
@@ -298,7 +450,7 @@ public class FastFuture<T> {
                 return;
             }
 
-            this.result.lazySet(current);
+            RESULT.lazySet(this, current);
             done();
 
         } catch (final Throwable t) {
@@ -314,23 +466,23 @@ public class FastFuture<T> {
     }
 
     private boolean done() {
-        this.completedExceptionally = false;
-        this.done = true;
+        this.state = DONE;
+        wakeWaiter();
         handleOnComplete(true);
-
+        notifyDone();
+        this.state = DONE | QUIESCENT;
         return true;
 
     }
 
     public void clearFast() {
-        result.set(UNSET);
-        exception.set(UNSET);
+        this.result = null;
         this.forXOf = null;
         this.essential = null;
-        this.count.set(0);
-        this.max.set(0);
-        this.completedExceptionally = false;
-        this.done = false;
+        this.count = 0;
+        this.waiter = null;
+        this.onDone = null;
+        this.state = 0;
     }
 
     /**
@@ -339,7 +491,7 @@ public class FastFuture<T> {
      */
     public void essential(final Consumer<OnComplete> fn) {
         this.essential = fn; //set - could also be called on a separate thread
-        if (done) { //can be called again
+        if (isDone()) { //can be called again
             fn.accept(buildOnComplete());
         }
     }
@@ -352,11 +504,34 @@ public class FastFuture<T> {
 
         this.forXOf = fn; //set - could also be called on a separate thread
 
-        if (done) { //can be called again
+        if (isDone()) { //can be called again
             fn.accept(buildOnComplete());
         }
     }
 
+    /**
+     * Called exactly once, when this future completes (successfully or not). If it has already completed fn is called
+     * immediately on the calling thread.
+     *
+     * @param fn Completion listener, called after any listeners registered before it
+     */
+    public void onDone(final Consumer<FastFuture<T>> fn) {
+        Consumer<FastFuture<T>> current;
+        Consumer<FastFuture<T>> next;
+        do {
+            current = onDone;
+            next = current == null ? fn : current.andThen(fn);
+        } while (!ON_DONE.compareAndSet(this, current, next));
+        if (isDone() && ON_DONE.compareAndSet(this, next, null))
+            next.accept(this);
+    }
+
+    private void notifyDone() {
+        final Consumer<FastFuture<T>> fn = ON_DONE.getAndSet(this, null);
+        if (fn != null)
+            fn.accept(this);
+    }
+
     private void handleOnComplete(final boolean force) {
         if (forXOf != null)
             forXOf.accept(buildOnComplete());
@@ -367,9 +542,11 @@ public class FastFuture<T> {
     }
 
     private OnComplete buildOnComplete() {
+        final int current = state;
+        final boolean failed = (current & FAILED) != 0;
         final OnComplete c = new OnComplete(
-                                            !completedExceptionally && done ? result() : null, completedExceptionally ? exception() : null,
-                                            this.completedExceptionally);
+                                            !failed && (current & DONE) != 0 ? result : null, failed ? (Throwable) result : null,
+                                            failed);
         return c;
     }
 
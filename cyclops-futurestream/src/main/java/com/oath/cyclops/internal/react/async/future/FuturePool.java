@@ -1,38 +1,54 @@
 package com.oath.cyclops.internal.react.async.future;
 
-import java.util.function.Supplier;
-
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
-
-import lombok.AllArgsConstructor;
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
 
 /**
- * Active consumer / multiple producer future pool
+ * FastFuture pool, shared by all LazyReact Streams. Recycled futures are kept on a freelist local to the thread that
+ * joined them, so handing a future out and taking it back never contends with other threads.
+ *
+ * A future is only returned to the pool once it has completed and its completing thread has finished with it, and at
+ * most once per use - a recycled future rejects joins and results until it is handed out again.
  *
  * @author johnmcclean
  *
  */
-@AllArgsConstructor
 public class FuturePool {
 
-    private final ManyToOneConcurrentArrayQueue<FastFuture> pool;
+    private static final ThreadLocal<ArrayDeque<FastFuture>> freelist = ThreadLocal.withInitial(ArrayDeque::new);
+
     private final int max;
+    private final Consumer<FastFuture> recycler = this::done;
 
-    public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
-        if (pool.size() > 0) {
+    /**
+     * @param max Max number of recycled futures to hold per thread
+     */
+    public FuturePool(final int max) {
+        this.max = max;
+    }
 
-            final FastFuture next = pool.poll();
-            next.clearFast();
+    /**
+     * @param pipeline Pipeline for the next future to execute
+     * @return A recycled future if one is available, otherwise a new one. Either way it is returned to the pool once
+     *         joined
+     */
+    public <T> FastFuture<T> next(final FinalPipeline pipeline) {
+        final FastFuture next = freelist.get()
+                                        .poll();
+        if (next != null) {
+            next.reuse(pipeline, recycler);
             return next;
         }
 
-        return factory.get();
+        return new FastFuture(
+                              pipeline, recycler);
     }
 
     public <T> void done(final FastFuture<T> f) {
-        if (pool.size() < max) {
+        final ArrayDeque<FastFuture> futures = freelist.get();
+        if (futures.size() < max && f.recycle()) {
 
-            pool.offer(f);
+            futures.push(f);
         }
 
     }
@@ -8,7 +8,6 @@ import java.util.stream.Stream;
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import com.oath.cyclops.internal.react.async.future.FuturePool;
 import com.oath.cyclops.internal.react.async.future.PipelineBuilder;
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 
 import cyclops.futurestream.LazyReact;
 import cyclops.reactive.ReactiveSeq;
@@ -35,9 +34,6 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         this.react = react;
         if (react.isPoolingActive())
             pool = new FuturePool(
-                                  new ManyToOneConcurrentArrayQueue<>(
-                                                                      react.getMaxActive()
-                                                                           .getMaxActive()),
                                   react.getMaxActive()
                                        .getMaxActive());
         else
@@ -53,8 +49,7 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         final FastFuture f = pipeline.build();
         final Function<Object, FastFuture> factory = v -> {
 
-            final FastFuture next = pool != null ? pool.next(() -> new FastFuture<>(
-                                                                                    f.getPipeline(), fut -> pool.done(fut)))
+            final FastFuture next = pool != null ? pool.next(f.getPipeline())
                     : new FastFuture<>(
                                        f.getPipeline(), 0);
             next.set(v);
@@ -78,8 +73,7 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
     }
 
     private FastFuture buildPool(final FinalPipeline pipeline) {
-        return pool != null ? pool.next(() -> new FastFuture<>(
-                                                               pipeline, fut -> pool.done(fut)))
+        return pool != null ? pool.next(pipeline)
                 : new FastFuture<>(
                                    pipeline, 0);
     }
@@ -2,12 +2,13 @@ package com.oath.cyclops.react.collectors.lazy;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import com.oath.cyclops.types.futurestream.BlockingStream;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +20,12 @@ import lombok.experimental.Wither;
  * This class allows a Batch of completable futures to be processed before collecting their results, to increase
  * parallelism.
  *
+ * Futures push themselves onto a lock-free completion queue as they complete, and are moved into the results by the
+ * accepting thread, so there is no rescanning of active futures. Results are therefore collected in the order the
+ * futures complete, not the order they were accepted. Once more than maxActive futures are in flight, upstream is
+ * suspended until completions bring that down to reduceTo. A future accepted again while it is still active is only
+ * tracked (and collected) once.
+ *
  * @author johnmcclean
  *
  * @param <T> Result type
@@ -29,7 +36,11 @@ import lombok.experimental.Wither;
 public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
   private final Collection<FastFuture<T>> results;
-  private final List<FastFuture<T>> active = new ArrayList<>();
+  private final Set<FastFuture<T>> active = new LinkedHashSet<>();
+  private final ConcurrentLinkedQueue<FastFuture<T>> completed = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger inFlight = new AtomicInteger(0);
+  //resumes a suspended upstream, run once by the completion that brings inFlight down to reduceTo
+  private final AtomicReference<Runnable> resume = new AtomicReference<>();
   @Getter
   private final MaxActive maxActive;
   @Getter
@@ -50,29 +61,51 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
   @Override
   public void accept(final FastFuture<T> t) {
 
-    active.add(t);
-
-    if (active.size() > maxActive.getMaxActive()) {
+    if (!add(t)) {
+      final FastFuture<Void> capacity = new FastFuture<>();
+      if (!suspend(() -> capacity.set(null)))
+        capacity.await();
+    }
+    drainCompleted();
 
-      while (active.size() > maxActive.getReduceTo()) {
+  }
 
-        final List<FastFuture<T>> toRemove = active.stream()
-          .filter(cf -> cf.isDone())
-          .collect(Collectors.toList());
-        active.removeAll(toRemove);
-        results.addAll(toRemove);
-        if (active.size() > maxActive.getReduceTo()) {
-          final CompletableFuture promise = new CompletableFuture();
-          FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-            promise.complete(true);
-          } , active.toArray(new FastFuture[0]));
+  /*
+   * @return true if no more than maxActive futures are in flight
+   */
+  private boolean add(final FastFuture<T> t) {
+    drainCompleted();
+    //register one completion listener per future, so it is counted in flight once however often it is accepted
+    if (active.add(t)) {
+      inFlight.incrementAndGet();
+      t.onDone(this::completed);
+    }
+    return inFlight.get() <= maxActive.getMaxActive();
+  }
 
-          promise.join();
-        }
+  /*
+   * @return true if no longer above reduceTo, in which case resume will not be run
+   */
+  private boolean suspend(final Runnable resume) {
+    this.resume.set(resume);
+    return inFlight.get() <= maxActive.getReduceTo() && this.resume.compareAndSet(resume, null);
+  }
 
-      }
+  private void completed(final FastFuture<T> f) {
+    completed.add(f);
+    if (inFlight.decrementAndGet() <= maxActive.getReduceTo()) {
+      final Runnable next = resume.getAndSet(null);
+      if (next != null)
+        next.run();
     }
+  }
 
+  private void drainCompleted() {
+    FastFuture<T> next;
+    while ((next = completed.poll()) != null) {
+      if (active.remove(next))
+        results.add(next);
+    }
   }
 
   /* (non-Javadoc)
@@ -103,6 +136,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
    */
   @Override
   public Collection<FastFuture<T>> getAllResults() {
+    drainCompleted();
     results.addAll(active);
     active.clear();
     return results;
@@ -3,7 +3,6 @@ package com.oath.cyclops.react.collectors.lazy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -55,10 +54,9 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
 
         active.removeAll(toRemove);
         if (active.size() > maxActive.getReduceTo()) {
-          final CompletableFuture promise = new CompletableFuture();
-          FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> promise.complete(true), active.toArray(new FastFuture[0]));
-
-          promise.join();
+          FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
+          } , active.toArray(new FastFuture[0]))
+                    .await();
         }
 
       }
@@ -23,5 +23,12 @@ public class MaxActive {
                                                              .availableProcessors() - 1);
     public static final MaxActive SEQUENTIAL = new MaxActive(
                                                              10, 1);
+    /**
+     * For blocking tasks each run on their own virtual thread, where threads are cheap and in-flight work is only capped
+     * to bound memory use. Too high a limit for platform threads, see
+     * {@link com.oath.cyclops.react.ThreadPools#isVirtualThreadsSupported()}
+     */
+    public static final MaxActive VIRTUAL_THREADS = new MaxActive(
+                                                                  10_000, 9_000);
 
 }
@@ -0,0 +1,107 @@
+package com.oath.cyclops.react.threads;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.oath.cyclops.react.ThreadPools;
+
+import lombok.Getter;
+
+/**
+ * Executor that micro-batches tasks : rather than submitting one task per element to the underlying Executor, tasks
+ * are queued and run in chunks of up to batchSize, with a single submission to the underlying Executor per chunk.
+ *
+ * A full chunk is submitted as soon as it is available. Tasks from a partially filled chunk wait for at most maxDelay
+ * milliseconds (a maxDelay of 0 submits them straight away, later tasks joining the chunk until it starts running).
+ *
+ * Each task still runs (and completes its own Future) individually, so results downstream are per element.
+ */
+public class BatchingExecutor implements Executor {
+
+    @Getter
+    private final Executor executor;
+    @Getter
+    private final int batchSize;
+    @Getter
+    private final long maxDelay;
+    private final ScheduledExecutorService timer;
+
+    private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicLong queued = new AtomicLong(0);
+    //at most one flush of a partial chunk is outstanding at a time
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    /**
+     * @param executor Executor to run chunks of tasks on
+     * @param batchSize Max tasks to run per submission to the executor
+     * @param maxDelay Max time (in milliseconds) a task waits for its chunk to fill
+     */
+    public BatchingExecutor(final Executor executor, final int batchSize, final long maxDelay) {
+        this(executor, batchSize, maxDelay, ThreadPools.getStandardSchedular());
+    }
+
+    /**
+     * @param executor Executor to run chunks of tasks on
+     * @param batchSize Max tasks to run per submission to the executor
+     * @param maxDelay Max time (in milliseconds) a task waits for its chunk to fill
+     * @param timer Scheduler used to flush partially filled chunks
+     */
+    public BatchingExecutor(final Executor executor, final int batchSize, final long maxDelay, final ScheduledExecutorService timer) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batchSize must be at least 1 " + batchSize);
+        if (maxDelay < 0)
+            throw new IllegalArgumentException("maxDelay must not be negative " + maxDelay);
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.timer = timer;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        pending.add(task);
+        //each multiple of batchSize is seen by exactly one thread, which submits that chunk
+        if (queued.incrementAndGet() % batchSize == 0)
+            executor.execute(this::runChunk);
+        else
+            scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true))
+            return;
+        if (maxDelay == 0)
+            executor.execute(this::flush);
+        else
+            timer.schedule(() -> executor.execute(this::flush), maxDelay, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        //reset before draining, so tasks added from now on schedule their own flush if this one misses them
+        flushScheduled.set(false);
+        runChunk();
+        //anything left over has already waited, so run it straight away
+        if (!pending.isEmpty() && flushScheduled.compareAndSet(false, true))
+            executor.execute(this::flush);
+    }
+
+    private void runChunk() {
+        for (int i = 0; i < batchSize; i++) {
+            final Runnable next = pending.poll();
+            if (next == null)
+                return;
+            try {
+                next.run();
+            } catch (final Throwable t) {
+                //don't let one failing task prevent the rest of the chunk from running
+                final Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler()
+                       .uncaughtException(current, t);
+            }
+        }
+    }
+}
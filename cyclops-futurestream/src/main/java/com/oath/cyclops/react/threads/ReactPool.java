@@ -10,6 +10,8 @@ import java.util.function.Supplier;
 import com.oath.cyclops.internal.react.stream.ReactBuilder;
 import com.oath.cyclops.util.ExceptionSoftener;
 
+import cyclops.futurestream.LazyReact;
+
 /**
  * Maintain a pool of x-react builders
  * x-react builders (SimpleReact,LazyReact) can be extracted and returned to the pool externally
@@ -86,6 +88,17 @@ public class ReactPool<REACTOR extends ReactBuilder> {
 
     }
 
+    /**
+     * Generate an elastic pool of LazyReact builders that all share the virtual thread executor, so (unlike the
+     * elastic pools in SequentialElasticPools and ParallelElasticPools) extra demand does not create new thread pools.
+     *
+     * @see LazyReact#virtualThreads()
+     * @return ReactPool
+     */
+    public static ReactPool<LazyReact> virtualThreadPool() {
+        return elasticPool(LazyReact::virtualThreads);
+    }
+
     /**
      * @return Synchronous pool requires consumers and producers of the ReactPool to be in sync
      */
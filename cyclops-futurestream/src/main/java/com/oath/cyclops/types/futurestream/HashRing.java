@@ -0,0 +1,106 @@
+package com.oath.cyclops.types.futurestream;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Consistent-hash ring, mapping keys onto a fixed number of partitions. Each partition owns a number of (virtual node)
+ * points on the ring and a key belongs to the partition owning the first point at or after the key's hash.
+ *
+ * The points owned by a partition depend only on its index, so growing or shrinking the ring by one partition only
+ * moves the keys that hash to the points of that partition (roughly 1/n of them) - all other keys stay where they were.
+ *
+ * Lookups are a binary search over a sorted int array, so routing an element allocates nothing.
+ */
+public final class HashRing {
+
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+
+    private final int partitions;
+    private final int virtualNodes;
+    private final int[] points;
+    private final int[] owners;
+
+    /**
+     * @param partitions Number of partitions
+     */
+    public HashRing(final int partitions) {
+        this(partitions, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * @param partitions Number of partitions
+     * @param virtualNodes Points on the ring per partition, more points spread keys more evenly
+     */
+    public HashRing(final int partitions, final int virtualNodes) {
+        if (partitions < 1)
+            throw new IllegalArgumentException("partitions must be at least 1 " + partitions);
+        if (virtualNodes < 1)
+            throw new IllegalArgumentException("virtualNodes must be at least 1 " + virtualNodes);
+        this.partitions = partitions;
+        this.virtualNodes = virtualNodes;
+        //point in the high bits, owner in the low bits - so sorting orders by point
+        final long[] ring = new long[partitions * virtualNodes];
+        int next = 0;
+        for (int partition = 0; partition < partitions; partition++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring[next++] = ((long) point(partition, node) << 32) | partition;
+            }
+        }
+        Arrays.sort(ring);
+        this.points = new int[ring.length];
+        this.owners = new int[ring.length];
+        for (int i = 0; i < ring.length; i++) {
+            points[i] = (int) (ring[i] >> 32);
+            owners[i] = (int) ring[i];
+        }
+    }
+
+    private static int point(final int partition, final int node) {
+        return mix(mix(partition + 1) + node * 0x9E3779B9);
+    }
+
+    /*
+     * murmur3 finalizer, spreads sequential hashCodes (e.g. Integer / Long ids) around the ring
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    /**
+     * @param key Key to route
+     * @return Partition (from 0 to partitions-1) that owns the key
+     */
+    public int partitionFor(final Object key) {
+        if (partitions == 1)
+            return 0;
+        final int hash = mix(Objects.hashCode(key));
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0)
+            index = -index - 1;
+        if (index == points.length)
+            index = 0;
+        return owners[index];
+    }
+
+    /**
+     * @return Number of partitions
+     */
+    public int partitions() {
+        return partitions;
+    }
+
+    /**
+     * @param partitions New number of partitions
+     * @return Ring with the new number of partitions, keys owned by the retained partitions only move if a new
+     *         partition now owns them
+     */
+    public HashRing withPartitions(final int partitions) {
+        return new HashRing(partitions, virtualNodes);
+    }
+}
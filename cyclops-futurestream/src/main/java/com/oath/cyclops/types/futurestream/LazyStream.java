@@ -1,5 +1,6 @@
 package com.oath.cyclops.types.futurestream;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Optional;
@@ -65,6 +66,42 @@ public interface LazyStream<U> extends BlockingStream<U> {
 
     }
 
+    /**
+     * Trigger a lazy stream on a new Thread, passing each result to the consumer from that Thread in the order the
+     * elements entered the Stream, rather than the order their futures complete. Up to MaxActive futures are kept in
+     * flight, so asynchronous stages still run in parallel.
+     *
+     * @param c Consumer for each result, called from a single Thread
+     * @param r Runnable to run once the Stream has been consumed
+     */
+    default void runThreadInOrder(final Consumer<? super U> c, final Runnable r) {
+        final int maxActive = getMaxActive().getMaxActive();
+        new Thread(
+                   () -> {
+                       final ArrayDeque<FastFuture> active = new ArrayDeque<>();
+                       final Consumer<FastFuture> accept = next -> {
+                           final Object value = BlockingStreamHelper.getSafe(next, getErrorHandler());
+                           if (value != MissingValue.MISSING_VALUE)
+                               c.accept((U) value);
+                       };
+                       try {
+                           getLastActive().injectFutures()
+                                          .forEach(next -> {
+                                              active.add(next);
+                                              if (active.size() > maxActive)
+                                                  accept.accept(active.poll());
+                                          });
+                           while (!active.isEmpty())
+                               accept.accept(active.poll());
+                       } catch (final SimpleReactProcessingException e) {
+
+                       } finally {
+                           r.run();
+                       }
+                   }).start();
+
+    }
+
     default Continuation runContinuation(final Runnable r) {
         final Function<FastFuture, U> safeJoin = (final FastFuture cf) -> (U) BlockingStreamHelper.getSafe(cf, getErrorHandler());
         return new Runner(
@@ -8,7 +8,6 @@ import java.util.function.Function;
 import cyclops.futurestream.LazyReact;
 import com.oath.cyclops.async.adapters.Queue;
 import com.oath.cyclops.async.adapters.Queue.ClosedQueueException;
-import com.oath.cyclops.internal.react.async.future.CompletedException;
 import cyclops.futurestream.FutureStream;
 
 public interface LazyToQueue<U> extends ToQueue<U> {
@@ -32,15 +31,7 @@ public interface LazyToQueue<U> extends ToQueue<U> {
 
         final Continuation continuation = peekSync(queue::add).capture(e->{
             queue.addError(e);
-        }).self(s -> {
-            if (this.getPopulator()
-                    .isPoolingActive())
-                s.peekSync(v -> {
-                    throw new CompletedException(
-                            v);
-                });
-        })
-                .runContinuation(() -> {
+        }).runContinuation(() -> {
                     queue.close();
                 });
 
@@ -60,27 +51,14 @@ public interface LazyToQueue<U> extends ToQueue<U> {
     default Queue<U> toQueue(final Function<Queue, Queue> fn) {
         final Queue<U> queue = fn.apply(getQueueFactory().build());
 
-        final Continuation continuation = thenSync(queue::add).self(s -> {
-            if (this.getPopulator().isPoolingActive())
-                s.peekSync(v -> {
-                    throw new CompletedException(
-                                                 v);
-                });
-        }).runContinuation(() -> {queue.close();});
+        final Continuation continuation = thenSync(queue::add).runContinuation(() -> {queue.close();});
         queue.addContinuation(continuation);
         return queue;
     }
 
     @Override
     default void addToQueue(final Queue queue) {
-        FutureStream str = thenSync(queue::add).self(s -> {
-            if (this.getPopulator()
-                .isPoolingActive())
-                s.peekSync(v -> {
-                    throw new CompletedException(
-                        v);
-                });
-        });
+        FutureStream str = thenSync(queue::add);
 
 
         final Continuation continuation =  queue.getContinuationStrategy().isBlocking() ? str.blockingContinuation(() -> {
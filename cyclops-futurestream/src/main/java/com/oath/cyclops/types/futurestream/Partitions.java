@@ -0,0 +1,95 @@
+package com.oath.cyclops.types.futurestream;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import com.oath.cyclops.async.adapters.Queue;
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import cyclops.futurestream.FutureStream;
+import cyclops.reactive.collections.mutable.ListX;
+import lombok.Getter;
+
+/**
+ * A FutureStream split into partitions by key (see {@link FutureStream#partitionBy}). Each partition is fed through
+ * its own lock-free Queue and is consumed as a sequential FutureStream, so elements with the same key are always
+ * processed in order, on one thread at a time, while different partitions are processed in parallel.
+ *
+ * @param <U> Data type of the partitioned Stream
+ */
+public class Partitions<U> {
+
+    @Getter
+    private final HashRing ring;
+    private final List<Queue<U>> queues;
+    private final ListX<FutureStream<U>> streams;
+
+    public Partitions(final HashRing ring, final List<Queue<U>> queues, final ListX<FutureStream<U>> streams) {
+        this.ring = ring;
+        this.queues = queues;
+        this.streams = streams;
+    }
+
+    /**
+     * @return Number of partitions
+     */
+    public int size() {
+        return streams.size();
+    }
+
+    /**
+     * @param index Partition index, from 0 to size()-1
+     * @return Sequential FutureStream of the elements routed to this partition
+     */
+    public FutureStream<U> get(final int index) {
+        return streams.get(index);
+    }
+
+    /**
+     * @return A sequential FutureStream per partition
+     */
+    public ListX<FutureStream<U>> streams() {
+        return streams;
+    }
+
+    /**
+     * @param index Partition index, from 0 to size()-1
+     * @return Number of elements routed to this partition that have not yet been consumed
+     */
+    public int queueDepth(final int index) {
+        return queues.get(index)
+                     .size();
+    }
+
+    /**
+     * @return Number of elements waiting to be consumed, per partition
+     */
+    public int[] queueDepths() {
+        final int[] depths = new int[queues.size()];
+        for (int i = 0; i < depths.length; i++)
+            depths[i] = queueDepth(i);
+        return depths;
+    }
+
+    /**
+     * Consume every partition, each on its own dedicated thread, blocking until all partitions have been drained
+     *
+     * @param consumer Called for each element, in order per partition
+     */
+    public void forEach(final Consumer<? super U> consumer) {
+        final CountDownLatch drained = new CountDownLatch(
+                                                          streams.size());
+        for (final FutureStream<U> next : streams) {
+            next.peek(consumer)
+                .runThread(drained::countDown);
+        }
+        try {
+            drained.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+}
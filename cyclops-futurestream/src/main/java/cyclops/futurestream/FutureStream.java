@@ -11,6 +11,7 @@ import com.oath.cyclops.internal.stream.FutureOpterationsImpl;
 import com.oath.cyclops.react.SimpleReactFailedStageException;
 import com.oath.cyclops.react.async.subscription.Continueable;
 import com.oath.cyclops.react.collectors.lazy.LazyResultConsumer;
+import com.oath.cyclops.react.threads.BatchingExecutor;
 import com.oath.cyclops.types.futurestream.*;
 import com.oath.cyclops.types.persistent.PersistentCollection;
 import com.oath.cyclops.types.reactive.FutureStreamSynchronousPublisher;
@@ -24,6 +25,7 @@ import com.oath.cyclops.async.adapters.Adapter;
 import com.oath.cyclops.async.adapters.Queue;
 import com.oath.cyclops.async.adapters.Queue.ClosedQueueException;
 import com.oath.cyclops.async.adapters.Queue.QueueTimeoutException;
+import com.oath.cyclops.async.wait.WaitStrategy;
 import com.oath.cyclops.async.adapters.QueueFactory;
 import cyclops.data.Seq;
 import cyclops.data.Vector;
@@ -1026,6 +1028,35 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
      */
     public FutureStream<U> maxActive(int concurrentTasks);
 
+    /**
+     * Micro-batch execution of subsequent async stages : rather than submitting a task to the task executor per element
+     * per stage, elements are run in chunks of up to size with one task submission per chunk. Each element still has its
+     * own Future and result downstream. Useful for high volumes of small, cheap functions where the cost of task
+     * submission outweighs the work done.
+     *
+     * <pre>
+     *    {@code
+     *    	List<Integer> data = new LazyReact().range(0,1_000_000)
+     *    										.batched(256,1)
+     *    										.map(i->i*2)
+     *    										.toList();
+     *    }
+     * </pre>
+     *
+     * @param size Max elements processed per task submission
+     * @param maxDelay Max time (in milliseconds) an element waits for its chunk to fill
+     * @return FutureStream with batched async execution
+     */
+    default FutureStream<U> batched(final int size, final long maxDelay) {
+        final Executor current = getTaskExecutor();
+        final Executor underlying = current instanceof BatchingExecutor ? ((BatchingExecutor) current).getExecutor() : current;
+        final BatchingExecutor batching = new BatchingExecutor(underlying, size, maxDelay);
+        //the executor for an auto-optimised first stage is held by the pipeline
+        return this.<U>withLastActive(getLastActive().operation(pipeline -> pipeline.withOptimisingExec(batching)))
+                   .async()
+                   .withTaskExecutor(batching);
+    }
+
     /*
      * Equivalent functionally to transform / applyHKT but always applied on the completing thread (from the previous stage)
      *
@@ -1193,6 +1224,50 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
         return res;
     }
 
+    /**
+     * Split this Stream into parallelism partitions by key. Each element is routed, through a consistent-hash ring on
+     * its key, onto the lock-free Queue for its partition. Routing happens on a single thread in the order elements
+     * enter this Stream (rather than the order their futures complete), and each partition is consumed as a sequential
+     * FutureStream, so elements with the same key are processed in order, one at a time, even when this Stream is
+     * async or parallel. Different partitions can be processed in parallel.
+     *
+     * <pre>
+     * {@code
+     *  Partitions<Event> partitions = LazyReact.sequentialBuilder()
+     *                                          .fromStream(events)
+     *                                          .partitionBy(Event::getAccount,8);
+     *
+     *  partitions.forEach(this::apply); //each partition is drained on its own thread
+     *  partitions.queueDepths();        //events waiting per partition
+     * }
+     * </pre>
+     *
+     * @param keyFn Function to extract the key from each element
+     * @param parallelism Number of partitions
+     * @return Partitions of this Stream
+     */
+    default <K> Partitions<U> partitionBy(final Function<? super U, ? extends K> keyFn, final int parallelism) {
+        final HashRing ring = new HashRing(
+                                           parallelism);
+        final List<Queue<U>> queues = new ArrayList<>(
+                                                      parallelism);
+        for (int i = 0; i < parallelism; i++)
+            queues.add(QueueFactories.<U> unboundedNonBlockingQueue(WaitStrategy.parkingWait())
+                                     .build());
+        //route from a single thread, in the order elements enter this Stream, even if its stages run asynchronously
+        runThreadInOrder(it -> queues.get(ring.partitionFor(keyFn.apply(it)))
+                                     .offer(it),
+                         () -> queues.forEach(Queue::close));
+
+        final List<FutureStream<U>> streams = new ArrayList<>(
+                                                              parallelism);
+        for (final Queue<U> next : queues)
+            streams.add(LazyReact.sequentialCurrentBuilder()
+                                 .fromStream(next.stream(getSubscription())));
+        return new Partitions<>(
+                                ring, queues, ListX.fromIterable(streams));
+    }
+
     /**
      * Can be used to debounce (accept a single data point from a unit of time)
      * data. This drops data. For a method that slows emissions and keeps data
@@ -168,7 +168,7 @@ public class LazyReact implements ReactBuilder {
         maxActive = MaxActive.IO;
 
         streamOfFutures = false;
-        poolingActive = false;
+        poolingActive = true;
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
@@ -187,7 +187,7 @@ public class LazyReact implements ReactBuilder {
             maxActive, maxActive);
 
         streamOfFutures = false;
-        poolingActive = false;
+        poolingActive = true;
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
@@ -210,7 +210,7 @@ public class LazyReact implements ReactBuilder {
                 maxActiveTasks, threadPoolSize);
 
         streamOfFutures = false;
-        poolingActive = false;
+        poolingActive = true;
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
@@ -282,7 +282,7 @@ public class LazyReact implements ReactBuilder {
     /**
      * Turn objectPooling on for any Streams created by the returned LazyReact builder
      * This improves performance for Streams with very large numbers of elements, by reusing
-     * Future instances. By default Object Pooling is Off.
+     * Future instances. By default Object Pooling is On, recycled Futures are shared by all Streams on the same thread.
      * <pre>
      * {@code
      *  return new LazyReact()
@@ -299,7 +299,7 @@ public class LazyReact implements ReactBuilder {
     }
 
     /**
-     * Turn objectPooling off for any Streams created by the returned LazyReact builder. By default Object Pooling is Off.
+     * Turn objectPooling off for any Streams created by the returned LazyReact builder. By default Object Pooling is On.
      *
      * <pre>
      * {@code
@@ -729,6 +729,7 @@ public class LazyReact implements ReactBuilder {
      */
     public static LazyReact parallelBuilder(final int parallelism) {
         return LazyReact.builder()
+                        .poolingActive(true)
                         .executor(Executors.newFixedThreadPool(parallelism))
                         .build();
     }
@@ -742,6 +743,7 @@ public class LazyReact implements ReactBuilder {
      */
     public static LazyReact parallelCommonBuilder() {
         return LazyReact.builder()
+                        .poolingActive(true)
                         .executor(ThreadPools.getStandard())
                         .build();
     }
@@ -753,6 +755,7 @@ public class LazyReact implements ReactBuilder {
      */
     public static LazyReact sequentialBuilder() {
         return LazyReact.builder()
+                        .poolingActive(true)
                         .maxActive(MaxActive.CPU)
                         .async(false)
                         .executor(Executors.newFixedThreadPool(1))
@@ -766,6 +769,7 @@ public class LazyReact implements ReactBuilder {
      */
     public static LazyReact sequentialCommonBuilder() {
         return LazyReact.builder()
+                        .poolingActive(true)
                         .async(false)
                         .executor(ThreadPools.getCommonFreeThread())
                         .build();
@@ -778,12 +782,34 @@ public class LazyReact implements ReactBuilder {
      */
     public static LazyReact sequentialCurrentBuilder() {
         return LazyReact.builder()
+                        .poolingActive(true)
                         .async(false)
                         .maxActive(new MaxActive(1,1))
                         .executor(ThreadPools.getCurrentThreadExecutor())
                         .build();
     }
 
+    /**
+     * Construct a LazyReact builder for blocking (e.g. IO bound) tasks, each task is run asynchronously on its own
+     * virtual thread and up to 10,000 tasks may be active at once.
+     *
+     * On JDKs without virtual threads an elastic (cached) pool of platform threads is used instead, and active tasks
+     * (and so threads) are capped at the standard {@link MaxActive#IO} limits
+     *
+     * @see ThreadPools#getVirtualThreadExecutor()
+     * @see MaxActive#VIRTUAL_THREADS
+     *
+     * @return LazyReact builder backed by virtual threads
+     */
+    public static LazyReact virtualThreads() {
+        return LazyReact.builder()
+                        .poolingActive(true)
+                        .maxActive(ThreadPools.isVirtualThreadsSupported() ? MaxActive.VIRTUAL_THREADS : MaxActive.IO)
+                        .async(true)
+                        .executor(ThreadPools.getVirtualThreadExecutor())
+                        .build();
+    }
+
     private static final Object NONE = new Object();
 
     /**
@@ -323,6 +323,20 @@ public class SimpleReact implements ReactBuilder {
                           .build();
     }
 
+    /**
+     * @return new eager SimpleReact builder for blocking (e.g. IO bound) tasks, each task is run asynchronously on its
+     * own virtual thread (or an elastic pool of platform threads on JDKs without virtual threads)
+     *
+     * @see ThreadPools#getVirtualThreadExecutor()
+     */
+    public static SimpleReact virtualThreads() {
+        return SimpleReact.builder()
+                          .executor(ThreadPools.getVirtualThreadExecutor())
+                          .queueService(ThreadPools.getQueueCopyExecutor())
+                          .async(true)
+                          .build();
+    }
+
     public SimpleReactStream<Integer> range(final int startInclusive, final int endExclusive) {
         return from(IntStream.range(startInclusive, endExclusive));
     }
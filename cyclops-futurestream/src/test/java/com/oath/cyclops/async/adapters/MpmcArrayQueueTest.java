@@ -0,0 +1,122 @@
+package com.oath.cyclops.async.adapters;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class MpmcArrayQueueTest {
+
+    @Test
+    public void capacityRoundsUp() {
+        assertThat(new MpmcArrayQueue<Integer>(100).capacity(), equalTo(128));
+    }
+
+    @Test
+    public void offerFailsWhenFull() {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<>(2);
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertFalse(queue.offer(3));
+        assertThat(queue.poll(), equalTo(1));
+        assertTrue(queue.offer(3));
+        assertThat(queue.size(), equalTo(2));
+    }
+
+    @Test
+    public void batchOfferAndDrain() {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<>(4);
+        assertThat(queue.offerBatch(Arrays.asList(1, 2, 3, 4, 5, 6), 10), equalTo(4));
+        assertThat(queue.peek(), equalTo(1));
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drain(drained::add, 3), equalTo(3));
+        assertThat(drained, equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(queue.offerBatch(Arrays.asList(5, 6, 7, 8), 10), equalTo(3));
+        assertThat(queue.drain(drained::add, 10), equalTo(4));
+        assertThat(drained, equalTo(Arrays.asList(1, 2, 3, 4, 5, 6, 7)));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void batchOfferWithNullClaimsNothing() {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<>(4);
+        try {
+            queue.offerBatch(Arrays.asList(1, null, 3), 10);
+            fail("null accepted");
+        } catch (NullPointerException e) {
+        }
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.offer(4));
+        assertThat(queue.poll(), equalTo(4));
+        assertThat(queue.offerBatch(Arrays.asList(5, 6, 7, 8), 10), equalTo(4));
+        assertThat(queue.size(), equalTo(4));
+    }
+
+    @Test
+    public void concurrentProducersAndConsumers() {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<>(64);
+        int perProducer = 10_000;
+        AtomicLong sum = new AtomicLong();
+        AtomicInteger count = new AtomicInteger();
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        for (int p = 0; p < 2; p++) {
+            int start = p * perProducer;
+            boolean batch = p == 1;
+            running.add(CompletableFuture.runAsync(() -> {
+                List<Integer> pending = new ArrayList<>();
+                for (int i = start; i < start + perProducer; i++) {
+                    if (batch) {
+                        pending.add(i);
+                        if (pending.size() == 10) {
+                            int offered = 0;
+                            while (offered < pending.size()) {
+                                offered += queue.offerBatch(pending.subList(offered, pending.size()), 10);
+                                Thread.yield();
+                            }
+                            pending.clear();
+                        }
+                    } else {
+                        while (!queue.offer(i))
+                            Thread.yield();
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < 2; c++) {
+            boolean batch = c == 1;
+            running.add(CompletableFuture.runAsync(() -> {
+                while (count.get() < 2 * perProducer) {
+                    if (batch) {
+                        queue.drain(i -> {
+                            sum.addAndGet(i);
+                            count.incrementAndGet();
+                        }, 16);
+                    } else {
+                        Integer next = queue.poll();
+                        if (next != null) {
+                            sum.addAndGet(next);
+                            count.incrementAndGet();
+                        }
+                    }
+                    Thread.yield();
+                }
+            }));
+        }
+        running.forEach(CompletableFuture::join);
+
+        long n = 2 * perProducer;
+        assertThat(count.get(), equalTo(2 * perProducer));
+        assertThat(sum.get(), equalTo(n * (n - 1) / 2));
+    }
+}
@@ -0,0 +1,69 @@
+package com.oath.cyclops.async.adapters;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.oath.cyclops.async.QueueFactories;
+import com.oath.cyclops.async.wait.ParkingWait;
+import com.oath.cyclops.async.wait.WaitStrategy.Offerable;
+import com.oath.cyclops.async.wait.WaitStrategy.Takeable;
+
+public class ParkingWaitTest {
+	int called = 0;
+	Takeable<String> takeable = ()->{
+		called++;
+		if(called<100)
+			return null;
+		return "hello";
+	};
+	Offerable offerable = ()->{
+		called++;
+		if(called<100)
+			return false;
+		return true;
+	};
+	@Test
+	public void testTakeable() throws InterruptedException {
+
+		called =0;
+		String result = new ParkingWait<String>(10,10,1000).take(takeable);
+		assertThat(result,equalTo("hello"));
+		assertThat(called,equalTo(100));
+
+	}
+	@Test
+	public void testOfferable() throws InterruptedException {
+		called =0;
+		boolean result = new ParkingWait<String>(10,10,1000).offer(offerable);
+		assertThat(result,equalTo(true));
+		assertThat(called,equalTo(100));
+	}
+	@Test
+	public void testwithQueue(){
+		Queue<String> q = QueueFactories.<String>boundedMpmcQueue(100,new ParkingWait<>()).build();
+
+		q.offer("hello");
+		assertThat(q.get(),equalTo("hello"));
+	}
+	@Test
+	public void parkedConsumerWokenByOffer() throws InterruptedException {
+		ParkingWait<String> wait = new ParkingWait<>(0,0,TimeUnit.SECONDS.toNanos(30));
+		Queue<String> q = QueueFactories.<String>boundedMpmcQueue(100,wait).build();
+		String[] result = {null};
+		Thread consumer = new Thread(()->result[0]=q.get());
+		consumer.start();
+		while(wait.parkedTakers()==0)
+			Thread.sleep(1);
+
+		long start = System.nanoTime();
+		q.offer("hello");
+		consumer.join(10_000);
+		assertThat(result[0],equalTo("hello"));
+		assertThat(System.nanoTime()-start < TimeUnit.SECONDS.toNanos(10),equalTo(true));
+	}
+
+}
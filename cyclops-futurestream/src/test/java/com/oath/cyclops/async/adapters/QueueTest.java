@@ -10,6 +10,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -21,6 +23,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import cyclops.futurestream.LazyReact;
+import cyclops.reactive.ReactiveSeq;
 import com.oath.cyclops.async.QueueFactories;
 import cyclops.futurestream.SimpleReact;
 import org.junit.Before;
@@ -522,6 +525,92 @@ public class QueueTest {
 
 	}
 
+	@Test
+	public void mpmcQueueStreamsInBatches() {
+		Queue<Integer> queue = QueueFactories.<Integer>boundedMpmcQueue(128).build();
+		assertTrue(queue.offerBatch(ReactiveSeq.range(0, 100).toList()));
+		queue.add(null);
+		queue.close();
+
+		List<Integer> result = queue.stream().toList();
+		assertThat(result.size(), equalTo(101));
+		assertThat(result.get(99), equalTo(99));
+		assertThat(result.get(100), equalTo(null));
+	}
+
+	@Test
+	public void mpmcQueueStreamStoppedEarlyLeavesRestQueued() {
+		Queue<Integer> queue = QueueFactories.<Integer>boundedMpmcQueue(128).build();
+		queue.offerBatch(ReactiveSeq.range(0, 10).toList());
+
+		assertThat(queue.stream().limit(2).toList(), equalTo(Arrays.asList(0, 1)));
+		assertThat(queue.size(), equalTo(8));
+		assertThat(queue.stream().findFirst().get(), equalTo(2));
+		assertThat(queue.size(), equalTo(7));
+	}
+
+	@Test
+	public void mpmcQueueFailedBulkStreamRequeuesUnread() {
+		Queue<Integer> queue = QueueFactories.<Integer>boundedMpmcQueue(128).build();
+		queue.offerBatch(ReactiveSeq.range(0, 10).toList());
+		try {
+			queue.stream().forEach(i -> {
+				if (i == 3)
+					throw new IllegalStateException();
+			});
+		} catch (IllegalStateException e) {
+		}
+		queue.close();
+
+		assertThat(queue.stream().toList(), equalTo(ReactiveSeq.range(4, 10).toList()));
+	}
+
+	@Test
+	public void mpmcQueueMultipleStreamsAllClose() {
+		Queue<Integer> queue = QueueFactories.<Integer>boundedMpmcQueue(128).build();
+		ReactiveSeq<Integer> first = queue.stream();
+		ReactiveSeq<Integer> second = queue.stream();
+		queue.offerBatch(ReactiveSeq.range(0, 10).toList());
+		queue.close();
+
+		assertThat(first.toList().size() + second.toList().size(), equalTo(10));
+	}
+
+	@Test
+	public void offerBatchWaitsForSpace() throws InterruptedException {
+		Queue<Integer> queue = QueueFactories.<Integer>boundedMpmcQueue(4).build();
+		Thread producer = new Thread(() -> {
+			queue.offerBatch(ReactiveSeq.range(0, 1000).toList());
+			queue.close();
+		});
+		producer.start();
+
+		assertThat(queue.stream().toList(), equalTo(ReactiveSeq.range(0, 1000).toList()));
+		producer.join();
+	}
+
+	@Test
+	public void drainTo() {
+		Queue<Integer> queue = QueueFactories.<Integer>unboundedNonBlockingQueue().build();
+		queue.offerBatch(Arrays.asList(1, 2, 3, 4, 5));
+		List<Integer> drained = new ArrayList<>();
+
+		assertThat(queue.drainTo(drained::add, 3), equalTo(3));
+		assertThat(drained, equalTo(Arrays.asList(1, 2, 3)));
+		assertThat(queue.drainTo(drained::add, 10), equalTo(2));
+		assertThat(queue.drainTo(drained::add, 10), equalTo(0));
+	}
+
+	@Test(expected = Queue.ClosedQueueException.class)
+	public void drainToClosed() {
+		Queue<Integer> queue = QueueFactories.<Integer>boundedMpmcQueue(16).build();
+		queue.offer(1);
+		queue.close();
+		List<Integer> drained = new ArrayList<>();
+		assertThat(queue.drainTo(drained::add, 10), equalTo(1));
+		queue.drainTo(drained::add, 10);
+	}
+
 	boolean called = false;
 	@Test
 	public void stackOverflowQuestion() {
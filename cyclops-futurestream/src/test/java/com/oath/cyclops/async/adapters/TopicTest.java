@@ -15,6 +15,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -341,6 +342,86 @@ public class TopicTest {
 		return null;
 	}
 
+	@Test
+	public void ringBufferTopicDeliversEveryMessageToEverySubscriber() {
+		Topic<Integer> topic = Topic.ringBuffer(16, Topic.SlowSubscriber.BLOCK);
+		ReactiveSeq<Integer> first = topic.stream();
+		ReactiveSeq<Integer> second = topic.stream();
+		CompletableFuture<List<Integer>> firstResult = CompletableFuture.supplyAsync(() -> first.toList());
+		CompletableFuture<List<Integer>> secondResult = CompletableFuture.supplyAsync(() -> second.toList());
+
+		topic.fromStream(ReactiveSeq.range(0, 1000));
+		topic.close();
+
+		List<Integer> expected = ReactiveSeq.range(0, 1000).toList();
+		assertThat(firstResult.join(), is(expected));
+		assertThat(secondResult.join(), is(expected));
+	}
+
+	@Test
+	public void ringBufferTopicDropsForSlowSubscriber() {
+		Topic<Integer> topic = Topic.ringBuffer(8, Topic.SlowSubscriber.DROP);
+		ReactiveSeq<Integer> slow = topic.stream();
+
+		topic.fromStream(ReactiveSeq.range(0, 100));
+		topic.close();
+
+		assertThat(slow.toList(), is(Arrays.asList(96, 97, 98, 99)));
+	}
+
+	@Test
+	public void ringBufferTopicDisconnectsSlowSubscriber() {
+		Topic<Integer> topic = Topic.ringBuffer(8, Topic.SlowSubscriber.DISCONNECT);
+		ReactiveSeq<Integer> slow = topic.stream();
+
+		topic.fromStream(ReactiveSeq.range(0, 100));
+
+		assertThat(slow.toList().size(), is(0));
+	}
+
+	@Test
+	public void ringBufferTopicRemovesDisconnectedSlowSubscriber() {
+		Topic<Integer> topic = Topic.ringBuffer(8, Topic.SlowSubscriber.DISCONNECT);
+		ReactiveSeq<Integer> slow = topic.stream();
+
+		topic.fromStream(ReactiveSeq.range(0, 100));
+
+		assertThat(slow.toList().size(), is(0));
+		assertThat(topic.getDistributor().getSubscribers().size(), is(0));
+		assertThat(topic.getStreamToQueue().size(), is(0));
+
+		ReactiveSeq<Integer> next = topic.stream();
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(() -> next.toList());
+		topic.fromStream(ReactiveSeq.range(0, 4));
+		topic.close();
+		assertThat(result.join(), is(Arrays.asList(0, 1, 2, 3)));
+	}
+
+	@Test
+	public void ringBufferBlockingTopicWithoutSubscribers() throws Exception {
+		Topic<Integer> topic = Topic.ringBuffer(8, Topic.SlowSubscriber.BLOCK);
+
+		CompletableFuture.runAsync(() -> topic.fromStream(ReactiveSeq.range(0, 100)))
+						 .get(10, TimeUnit.SECONDS);
+		assertThat(topic.getDistributor().getSubscribers().size(), is(0));
+
+		ReactiveSeq<Integer> stream = topic.stream();
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(() -> stream.toList());
+		topic.fromStream(ReactiveSeq.range(100, 120));
+		topic.close();
+		assertThat(result.join(), is(ReactiveSeq.range(100, 120).toList()));
+	}
+
+	@Test
+	public void ringBufferTopicDisconnect() {
+		Topic<Integer> topic = Topic.ringBuffer(8, Topic.SlowSubscriber.BLOCK);
+		ReactiveSeq<Integer> stream = topic.stream();
+		topic.disconnect(stream);
+
+		topic.fromStream(ReactiveSeq.range(0, 100));
+		assertThat(topic.getDistributor().getSubscribers().size(), is(0));
+	}
+
 	private int sleep(int i) {
 		try {
 			Thread.sleep(i);
@@ -1,16 +1,18 @@
 package com.oath.cyclops.react.collectors.lazy;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.BDDMockito;
-import org.mockito.Mockito;
 
 import cyclops.futurestream.LazyReact;
 
@@ -28,67 +30,122 @@ public class BatchingCollectorTest {
 		}
 	}
 	@Test
-	public void testAcceptMock() {
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
+	public void testAcceptCompleted() {
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(10l));
 		}
-		Mockito.verify(cf, Mockito.atLeastOnce()).isDone();
+		assertThat(collector.getResults().size(),equalTo(1000));
 	}
 	@Test
-	public void testAcceptMock495() {
+	public void testAccept495() {
 		collector = new BatchingCollector(new MaxActive(500,5), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(i));
 		}
-		Mockito.verify(cf, Mockito.times(501)).isDone();
+		assertThat(collector.getResults().size(),equalTo(1000));
 	}
 	@Test
-	public void testAcceptMock50() {
+	public void testAccept50() {
 		collector = new BatchingCollector(new MaxActive(500,450), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(i));
 		}
-		Mockito.verify(cf, Mockito.times(501)).isDone();
+		assertThat(collector.getResults().size(),equalTo(1000));
 	}
 
 	@Test
 	public void testBuilder() {
 		collector = BatchingCollector.builder().blocking(LazyReact.sequentialBuilder().of(1)).maxActive(new MaxActive(2,1)).results(new ArrayList<>()).build();
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(i));
 		}
-		Mockito.verify(cf, Mockito.times(999)).isDone();
+		assertThat(collector.getResults().size(),equalTo(1000));
 	}
 
 	@Test
 	public void testWithMaxActive() {
 		collector = collector.withMaxActive(new MaxActive(10000,5));
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(new FastFuture());
 		}
-		Mockito.verify(cf, Mockito.times(0)).isDone();
+		assertThat(collector.getResults().size(),equalTo(0));
+		assertThat(collector.getAllResults().size(),equalTo(1000));
 	}
 
 	@Test
 	public void testBatchingCollectorMaxActive() {
 		collector = new BatchingCollector(new MaxActive(10,5), LazyReact.sequentialBuilder().of(1)).withResults(new HashSet<>());
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(i));
 		}
-		Mockito.verify(cf, Mockito.times(990)).isDone();
+		assertThat(collector.getResults().size(),equalTo(1000));
+	}
+
+	@Test
+	public void resultsInCompletionOrder() {
+		collector = new BatchingCollector(new MaxActive(10,5), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		FastFuture f1 = new FastFuture();
+		FastFuture f2 = new FastFuture();
+		FastFuture f3 = new FastFuture();
+		collector.accept(f1);
+		collector.accept(f2);
+		collector.accept(f3);
+		f3.set(3);
+		f1.set(1);
+		f2.set(2);
+		collector.accept(FastFuture.completedFuture(4));
+		assertThat(collector.getResults().size(),equalTo(4));
+		assertThat(new ArrayList<>(collector.getResults()).subList(0,3),equalTo(Arrays.asList(f3,f1,f2)));
+	}
+
+	@Test
+	public void acceptSuspendedUntilReduceTo() throws InterruptedException {
+		collector = new BatchingCollector(new MaxActive(2,1), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		FastFuture f1 = new FastFuture();
+		FastFuture f2 = new FastFuture();
+		FastFuture f3 = new FastFuture();
+		collector.accept(f1);
+		collector.accept(f2);
+		AtomicBoolean accepted = new AtomicBoolean(false);
+		Thread upstream = new Thread(()->{
+			collector.accept(f3);
+			accepted.set(true);
+		});
+		upstream.start();
+		while(upstream.getState()!=Thread.State.WAITING)
+			Thread.sleep(1);
+		f1.set(1);
+		Thread.sleep(100);
+		assertFalse(accepted.get());
+		f2.set(2);
+		upstream.join(10_000);
+		assertTrue(accepted.get());
+		assertThat(collector.getResults().size(),equalTo(2));
+	}
+
+	@Test
+	public void sameFutureAcceptedTwice() {
+		collector = new BatchingCollector(new MaxActive(2,1), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		FastFuture f1 = new FastFuture();
+		collector.accept(f1);
+		collector.accept(f1);
+		f1.set(1);
+		collector.accept(new FastFuture());
+		collector.accept(new FastFuture());
+		assertThat(collector.getResults(),equalTo(Arrays.asList(f1)));
 	}
 
+	@Test
+	public void existingCompletionListenerKept() {
+		collector = new BatchingCollector(new MaxActive(2,1), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		AtomicBoolean notified = new AtomicBoolean(false);
+		FastFuture f1 = new FastFuture();
+		f1.onDone(f->notified.set(true));
+		collector.accept(f1);
+		f1.set(1);
+		assertTrue(notified.get());
+		collector.accept(FastFuture.completedFuture(2));
+		assertThat(collector.getResults().size(),equalTo(2));
+	}
 
 }
@@ -3,13 +3,16 @@ package cyclops.futurestream.react.async.future;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
@@ -19,6 +22,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.oath.cyclops.internal.react.async.future.FinalPipeline;
+import com.oath.cyclops.internal.react.async.future.FuturePool;
 import com.oath.cyclops.internal.react.async.future.PipelineBuilder;
 
 
@@ -522,4 +526,156 @@ public class FastFutureTest {
 
 	}
 
+	@Test
+	public void joinWokenOnCompletion() throws InterruptedException {
+		for (int i = 0; i < TIMES; i++) {
+			FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(),a->{});
+			int value = i;
+			ForkJoinPool.commonPool().execute(()->f.set(value));
+			assertThat(f.join(),equalTo(i));
+		}
+	}
+	@Test
+	public void joinAfterLongTask() throws InterruptedException {
+		FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(),a->{});
+		new Thread(()->{
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				e.printStackTrace();
+			}
+			f.set(10);
+		}).start();
+		assertThat(f.join(),equalTo(10));
+	}
+	@Test
+	public void joinKeepsInterruptStatus() throws InterruptedException {
+		FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(),a->{});
+		Thread joiner = Thread.currentThread();
+		new Thread(()->{
+			joiner.interrupt();
+			f.set(10);
+		}).start();
+		assertThat(f.join(),equalTo(10));
+		assertTrue(Thread.interrupted());
+	}
+	@Test
+	public void awaitXOf() {
+		for (int i = 0; i < TIMES; i++) {
+			FastFuture f1= new FastFuture(FinalPipeline.empty(),a->{});
+			FastFuture f2= new FastFuture(FinalPipeline.empty(),a->{});
+			FastFuture f3= new FastFuture(FinalPipeline.empty(),a->{});
+			FastFuture xOf = FastFuture.xOf(2,()->{},f1,f2,f3);
+			ForkJoinPool.commonPool().execute(()->f1.set("done"));
+			ForkJoinPool.commonPool().execute(()->f2.set("with"));
+			xOf.await();
+			assertTrue(xOf.isDone());
+			assertFalse(f3.isDone());
+		}
+	}
+	@Test
+	public void awaitAllOf() {
+		for (int i = 0; i < TIMES; i++) {
+			FastFuture f1= new FastFuture(FinalPipeline.empty(),a->{});
+			FastFuture f2= new FastFuture(FinalPipeline.empty(),a->{});
+			FastFuture allOf = FastFuture.allOf(()->{},f1,f2);
+			ForkJoinPool.commonPool().execute(()->f1.set("done"));
+			ForkJoinPool.commonPool().execute(()->f2.set("with"));
+			allOf.await();
+			assertTrue(f1.isDone());
+			assertTrue(f2.isDone());
+		}
+	}
+
+	@Test
+	public void onDoneListenersChained() {
+		List<Integer> calls = new ArrayList<>();
+		FastFuture<Integer> f = new FastFuture<>();
+		f.onDone(a->calls.add(1));
+		f.onDone(a->calls.add(2));
+		f.set(10);
+		f.onDone(a->calls.add(3));
+		f.set(20);
+		assertThat(calls,equalTo(Arrays.asList(1,2,3)));
+	}
+
+	@Test
+	public void pooledFutureReused() {
+		FuturePool pool = new FuturePool(10);
+		FastFuture<Integer> f = pool.next(FinalPipeline.empty());
+		f.set(10);
+		assertThat(f.join(),equalTo(10));
+		FastFuture<Integer> next = pool.next(FinalPipeline.empty());
+		assertSame(f,next);
+		assertFalse(next.isDone());
+		next.set(20);
+		assertThat(next.join(),equalTo(20));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void joinAfterRecycleFails() {
+		FuturePool pool = new FuturePool(10);
+		FastFuture<Integer> f = pool.next(FinalPipeline.empty());
+		f.set(10);
+		f.join();
+		f.join();
+	}
+	@Test(expected=IllegalStateException.class)
+	public void setAfterRecycleFails() {
+		FuturePool pool = new FuturePool(10);
+		FastFuture<Integer> f = pool.next(FinalPipeline.empty());
+		f.set(10);
+		f.join();
+		f.set(20);
+	}
+	@Test(expected=IllegalStateException.class)
+	public void joinWithStampAfterReuseFails() {
+		FuturePool pool = new FuturePool(10);
+		FastFuture<Integer> f = pool.next(FinalPipeline.empty());
+		int stamp = f.stamp();
+		f.set(10,stamp);
+		assertThat(f.join(stamp),equalTo(10));
+		FastFuture<Integer> next = pool.next(FinalPipeline.empty());
+		assertSame(f,next);
+		next.set(20,next.stamp());
+		f.join(stamp);
+	}
+	@Test(expected=IllegalStateException.class)
+	public void setWithStampAfterReuseFails() {
+		FuturePool pool = new FuturePool(10);
+		FastFuture<Integer> f = pool.next(FinalPipeline.empty());
+		int stamp = f.stamp();
+		f.set(10);
+		f.join();
+		assertSame(f,pool.next(FinalPipeline.empty()));
+		f.set(20,stamp);
+	}
+	@Test
+	public void recycledFutureReleasesReferences() {
+		FuturePool pool = new FuturePool(10);
+		FastFuture<Object> f = pool.next(FinalPipeline.empty());
+		f.set(new Object());
+		f.join();
+		assertNull(f.getPipeline());
+		List<Object> results = new ArrayList<>();
+		f.onComplete(c->results.add(c.result));
+		assertThat(results,equalTo(Arrays.asList((Object)null)));
+	}
+	@Test
+	public void incompleteFutureNotRecycled() {
+		FuturePool pool = new FuturePool(10);
+		FastFuture<Integer> f = pool.next(FinalPipeline.empty());
+		pool.done(f);
+		assertNotSame(f,pool.next(FinalPipeline.empty()));
+	}
+	@Test
+	public void recycledOnce() {
+		FuturePool pool = new FuturePool(10);
+		FastFuture<Integer> f = pool.next(FinalPipeline.empty());
+		f.set(10);
+		f.join();
+		pool.done(f);
+		assertSame(f,pool.next(FinalPipeline.empty()));
+		assertNotSame(f,pool.next(FinalPipeline.empty()));
+	}
+
 }
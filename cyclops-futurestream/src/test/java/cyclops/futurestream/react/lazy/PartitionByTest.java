@@ -0,0 +1,119 @@
+package cyclops.futurestream.react.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.Test;
+
+import com.oath.cyclops.types.futurestream.HashRing;
+import com.oath.cyclops.types.futurestream.Partitions;
+
+import cyclops.futurestream.LazyReact;
+
+public class PartitionByTest {
+
+	@Test
+	public void ringSpreadsKeys(){
+		HashRing ring = new HashRing(8);
+		int[] counts = new int[8];
+		for(int i=0;i<80_000;i++)
+			counts[ring.partitionFor(i)]++;
+		for(int count : counts){
+			assertThat(count,greaterThan(7_000));
+			assertThat(count,lessThan(13_000));
+		}
+	}
+	@Test
+	public void ringIsStable(){
+		HashRing ring = new HashRing(8);
+		HashRing other = new HashRing(8);
+		for(int i=0;i<1000;i++)
+			assertThat(ring.partitionFor("account"+i),equalTo(other.partitionFor("account"+i)));
+	}
+	@Test
+	public void growingRingOnlyMovesKeysToNewPartition(){
+		HashRing ring = new HashRing(8);
+		HashRing grown = ring.withPartitions(9);
+		int moved = 0;
+		for(int i=0;i<80_000;i++){
+			int before = ring.partitionFor(i);
+			int after = grown.partitionFor(i);
+			if(before!=after){
+				moved++;
+				assertThat(after,equalTo(8));
+			}
+		}
+		assertThat(moved,lessThan(16_000));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void noPartitions(){
+		new HashRing(0);
+	}
+	@Test
+	public void orderedPerKey(){
+		Map<Integer,List<Integer>> byKey = new ConcurrentHashMap<>();
+		AtomicInteger count = new AtomicInteger(0);
+		Partitions<Integer> partitions = LazyReact.sequentialBuilder()
+												  .range(0,10_000)
+												  .partitionBy(i->i%100,4);
+		assertThat(partitions.size(),equalTo(4));
+		partitions.forEach(i->{
+			byKey.computeIfAbsent(i%100,k->new ArrayList<>()).add(i);
+			count.incrementAndGet();
+		});
+		assertThat(count.get(),equalTo(10_000));
+		assertThat(byKey.size(),equalTo(100));
+		byKey.forEach((k,values)->{
+			assertThat(values.size(),equalTo(100));
+			for(int i=1;i<values.size();i++)
+				assertThat(values.get(i)-values.get(i-1),equalTo(100));
+		});
+		assertThat(partitions.queueDepths().length,equalTo(4));
+		for(int depth : partitions.queueDepths())
+			assertThat(depth,equalTo(0));
+	}
+	@Test
+	public void orderedPerKeyParallel(){
+		Map<Integer,List<Integer>> byKey = new ConcurrentHashMap<>();
+		AtomicInteger count = new AtomicInteger(0);
+		Partitions<Integer> partitions = new LazyReact(8,8)
+												  .range(0,2_000)
+												  .map(i->{
+													  if(i%7==0)
+														  LockSupport.parkNanos(200_000);
+													  return i;
+												  })
+												  .partitionBy(i->i%20,4);
+		partitions.forEach(i->{
+			byKey.computeIfAbsent(i%20,k->new ArrayList<>()).add(i);
+			count.incrementAndGet();
+		});
+		assertThat(count.get(),equalTo(2_000));
+		assertThat(byKey.size(),equalTo(20));
+		byKey.forEach((k,values)->{
+			assertThat(values.size(),equalTo(100));
+			for(int i=1;i<values.size();i++)
+				assertThat(values.get(i)-values.get(i-1),equalTo(20));
+		});
+	}
+	@Test
+	public void sameKeySamePartition(){
+		Partitions<String> partitions = LazyReact.sequentialBuilder()
+												 .of("a","b","a","c")
+												 .partitionBy(s->s,3);
+		int owner = partitions.getRing().partitionFor("a");
+		for(int i=0;i<partitions.size();i++){
+			List<String> values = partitions.get(i).toList();
+			assertThat(values.stream().filter(s->s.equals("a")).count(),equalTo(i==owner ? 2l : 0l));
+		}
+	}
+}
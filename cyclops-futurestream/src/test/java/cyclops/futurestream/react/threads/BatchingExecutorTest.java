@@ -0,0 +1,79 @@
+package cyclops.futurestream.react.threads;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.oath.cyclops.react.threads.BatchingExecutor;
+import org.junit.Test;
+
+import cyclops.futurestream.LazyReact;
+
+public class BatchingExecutorTest {
+
+	AtomicInteger submitted = new AtomicInteger(0);
+	Executor counting = r->{
+		submitted.incrementAndGet();
+		ForkJoinPool.commonPool().execute(r);
+	};
+
+	@Test
+	public void oneSubmissionPerFullChunk() throws InterruptedException {
+		BatchingExecutor executor = new BatchingExecutor(counting,100,10_000);
+		CountDownLatch done = new CountDownLatch(1000);
+		for(int i=0;i<1000;i++){
+			executor.execute(done::countDown);
+		}
+		assertThat(done.await(10,TimeUnit.SECONDS),is(true));
+		assertThat(submitted.get(),equalTo(10));
+	}
+	@Test
+	public void partialChunkFlushedAfterMaxDelay() throws InterruptedException {
+		BatchingExecutor executor = new BatchingExecutor(counting,100,10);
+		CountDownLatch done = new CountDownLatch(150);
+		for(int i=0;i<150;i++){
+			executor.execute(done::countDown);
+		}
+		assertThat(done.await(10,TimeUnit.SECONDS),is(true));
+	}
+	@Test
+	public void zeroDelay() throws InterruptedException {
+		BatchingExecutor executor = new BatchingExecutor(counting,64,0);
+		CountDownLatch done = new CountDownLatch(1001);
+		for(int i=0;i<1001;i++){
+			executor.execute(done::countDown);
+		}
+		assertThat(done.await(10,TimeUnit.SECONDS),is(true));
+	}
+	@Test
+	public void failingTaskDoesNotStopChunk() throws InterruptedException {
+		BatchingExecutor executor = new BatchingExecutor(counting,10,10_000);
+		CountDownLatch done = new CountDownLatch(9);
+		executor.execute(()->{
+			throw new RuntimeException("boo!");
+		});
+		for(int i=0;i<9;i++){
+			executor.execute(done::countDown);
+		}
+		assertThat(done.await(10,TimeUnit.SECONDS),is(true));
+	}
+	@Test
+	public void batchedStream(){
+		List<Integer> result = new LazyReact().range(0,10_000)
+											 .batched(128,1)
+											 .map(i->i*2)
+											 .toList();
+		assertThat(result.size(),equalTo(10_000));
+		assertThat(result.stream().sorted().collect(Collectors.toList()),
+				   equalTo(IntStream.range(0,10_000).map(i->i*2).boxed().collect(Collectors.toList())));
+	}
+}
@@ -10,6 +10,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 
+import com.oath.cyclops.react.ThreadPools;
+import com.oath.cyclops.react.collectors.lazy.MaxActive;
 import com.oath.cyclops.react.threads.ReactPool;
 import org.junit.Test;
 
@@ -65,6 +67,32 @@ public class ReactPoolTest {
 		}
 	}
 	@Test
+	public void testVirtualThreadPool(){
+		ReactPool<LazyReact> pool = ReactPool.virtualThreadPool();
+		List<String> result = pool.react( (er) -> er.ofAsync(()->"hello",()->"world").block() );
+		assertThat(result.size(),is(2));
+	}
+	@Test
+	public void testVirtualThreadsBlockingTasks(){
+		List<Integer> result = LazyReact.virtualThreads()
+										.range(0,500)
+										.map(i->{
+											try {
+												Thread.sleep(10);
+											} catch (InterruptedException e) {
+												Thread.currentThread().interrupt();
+											}
+											return i;
+										})
+										.toList();
+		assertThat(result.size(),is(500));
+	}
+	@Test
+	public void testVirtualThreadsMaxActive(){
+		MaxActive expected = ThreadPools.isVirtualThreadsSupported() ? MaxActive.VIRTUAL_THREADS : MaxActive.IO;
+		assertThat(LazyReact.virtualThreads().getMaxActive(),is(expected));
+	}
+	@Test
 	public void testUnbounded(){
 
 		ReactPool<LazyReact> pool = ReactPool.unboundedPool(asList(new LazyReact(),new LazyReact()));
@@ -60,6 +60,23 @@ public class DataAppend {
         iterations = 10
     )
     @Fork(1)
+    public void vectorBuilderAppend(){
+        Vector.Builder<String> builder = vector.transientCopy();
+        for(int i=0;i<1000;i++){
+            builder.append(""+i);
+        }
+        vector = builder.build();
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
     public void jsAppend(){
         for(int i=0;i<1000;i++){
             js= js.append(""+i);
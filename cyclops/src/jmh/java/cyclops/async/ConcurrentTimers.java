@@ -0,0 +1,102 @@
+package cyclops.async;
+
+import com.oath.cyclops.util.stream.scheduling.HashedWheelScheduler;
+import com.oath.cyclops.util.stream.scheduling.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100k concurrent timers on the hashed timing wheel Scheduler vs a ScheduledThreadPoolExecutor : scheduling and then
+ * cancelling timeouts that never fire (the common case for request deadlines), and scheduling short timers that all fire
+ */
+@State(Scope.Benchmark)
+public class ConcurrentTimers {
+
+    static final int TIMERS = 100_000;
+
+    @Param({"wheel","jdk"})
+    String scheduler;
+
+    HashedWheelScheduler wheel;
+    ScheduledThreadPoolExecutor jdk;
+    Scheduler.Timer[] timers = new Scheduler.Timer[TIMERS];
+    ScheduledFuture<?>[] futures = new ScheduledFuture<?>[TIMERS];
+
+    @Setup
+    public void before() {
+        wheel = new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, 4096);
+        jdk = new ScheduledThreadPoolExecutor(1);
+        jdk.setRemoveOnCancelPolicy(true);
+    }
+
+    @TearDown
+    public void after() {
+        wheel.shutdown();
+        jdk.shutdownNow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 5
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void scheduleAndCancel() {
+        final Runnable task = () -> {
+        };
+        if ("wheel".equals(scheduler)) {
+            for (int i = 0; i < TIMERS; i++)
+                timers[i] = wheel.schedule(task, 30_000 + i, TimeUnit.MILLISECONDS);
+            for (int i = 0; i < TIMERS; i++)
+                timers[i].cancel();
+        } else {
+            for (int i = 0; i < TIMERS; i++)
+                futures[i] = jdk.schedule(task, 30_000 + i, TimeUnit.MILLISECONDS);
+            for (int i = 0; i < TIMERS; i++)
+                futures[i].cancel(false);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 5
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void scheduleAndFire() throws InterruptedException {
+        final CountDownLatch fired = new CountDownLatch(
+                                                        TIMERS);
+        final Runnable task = fired::countDown;
+        if ("wheel".equals(scheduler)) {
+            for (int i = 0; i < TIMERS; i++)
+                wheel.schedule(task, i % 50, TimeUnit.MILLISECONDS);
+        } else {
+            for (int i = 0; i < TIMERS; i++)
+                jdk.schedule(task, i % 50, TimeUnit.MILLISECONDS);
+        }
+        fired.await();
+    }
+}
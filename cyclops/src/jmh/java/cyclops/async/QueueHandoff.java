@@ -0,0 +1,103 @@
+package cyclops.async;
+
+import com.oath.cyclops.async.QueueFactories;
+import com.oath.cyclops.async.adapters.Queue;
+import com.oath.cyclops.async.wait.WaitStrategy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares WaitStrategies for an async.Queue : round trip latency when a request is echoed back by a consumer thread,
+ * and the CPU time that consumer burns while its Queue is idle
+ */
+@State(Scope.Benchmark)
+public class QueueHandoff {
+
+    @Param({"spin","yield","backoff","parking"})
+    String strategy;
+
+    Queue<Long> requests;
+    Queue<Long> responses;
+    Thread echo;
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private WaitStrategy<Long> waitStrategy() {
+        switch (strategy) {
+            case "spin":
+                return WaitStrategy.spinWait();
+            case "yield":
+                return WaitStrategy.yieldWait();
+            case "backoff":
+                return WaitStrategy.exponentialBackOff();
+            default:
+                return WaitStrategy.parkingWait();
+        }
+    }
+
+    @Setup
+    public void before() {
+        requests = QueueFactories.<Long>boundedMpmcQueue(1024, waitStrategy()).build();
+        responses = QueueFactories.<Long>boundedMpmcQueue(1024, waitStrategy()).build();
+        echo = new Thread(() -> requests.stream().forEach(responses::offer));
+        echo.setDaemon(true);
+        echo.start();
+    }
+
+    @TearDown
+    public void after() throws InterruptedException {
+        requests.close();
+        echo.join(1000);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Cpu {
+        public long idleConsumerCpuNanos;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Long roundTrip() {
+        requests.offer(1l);
+        return responses.get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 2
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public void idleConsumer(Cpu cpu) throws InterruptedException {
+        long start = threads.getThreadCpuTime(echo.getId());
+        Thread.sleep(100);
+        cpu.idleConsumerCpuNanos += threads.getThreadCpuTime(echo.getId()) - start;
+    }
+}
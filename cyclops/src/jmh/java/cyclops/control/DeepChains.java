@@ -0,0 +1,129 @@
+package cyclops.control;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds and evaluates deep monadic chains : left nested flatMaps (built in a loop), recursive flatMaps (built as
+ * they are evaluated) and map chains, for Trampoline and Eval. Time per chain should grow linearly with depth.
+ */
+@State(Scope.Benchmark)
+public class DeepChains {
+
+    @Param({"1000","100000","1000000"})
+    int depth;
+
+    private Trampoline<Long> sum(long n) {
+        if (n == 0)
+            return Trampoline.done(0l);
+        return Trampoline.more(() -> Trampoline.done(n))
+                         .flatMap(x -> sum(x - 1).map(r -> r + x));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 5
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public Long trampolineLeftNested() {
+        Trampoline<Long> chain = Trampoline.done(0l);
+        for (int i = 0; i < depth; i++)
+            chain = chain.flatMap(x -> Trampoline.done(x + 1));
+        return chain.get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 5
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public Long trampolineRecursive() {
+        return sum(depth).get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 5
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public Long trampolineMap() {
+        Trampoline<Long> chain = Trampoline.done(0l);
+        for (int i = 0; i < depth; i++)
+            chain = chain.map(x -> x + 1);
+        return chain.get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 5
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public Long evalLeftNested() {
+        Eval<Long> chain = Eval.later(() -> 0l);
+        for (int i = 0; i < depth; i++)
+            chain = chain.flatMap(x -> Eval.now(x + 1));
+        return chain.get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 5
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public Long evalMap() {
+        Eval<Long> chain = Eval.later(() -> 0l);
+        for (int i = 0; i < depth; i++)
+            chain = chain.map(x -> x + 1);
+        return chain.get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 5
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public Long evalTailRec() {
+        return Eval.tailRec(0l, i -> Eval.now(i < depth ? Either.<Long, Long>left(i + 1) : Either.<Long, Long>right(i)))
+                   .get();
+    }
+}
@@ -0,0 +1,130 @@
+package cyclops.data.hashmap;
+
+import cyclops.data.Bag;
+import cyclops.data.HashMap;
+import cyclops.data.HashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+public class HashMapBuild {
+
+    Map<String,String> map;
+    List<String> keys;
+    HashMap<String,String> half;
+
+    @Setup
+    public void before() {
+        keys = IntStream.range(0, 10000).mapToObj(i->""+i).collect(Collectors.toList());
+        map = keys.stream().collect(Collectors.toMap(k->k,k->k));
+        half = HashMap.fromMap(keys.subList(0,5000).stream().collect(Collectors.toMap(k->k,k->k)));
+
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object cyclopsPut() {
+        HashMap<String,String> res = HashMap.empty();
+        for(String next : keys){
+            res = res.put(next,next);
+        }
+        return res;
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object cyclopsFromMap() {
+        return HashMap.fromMap(map);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object cyclopsPutAll() {
+        return half.putAll(HashMap.fromMap(map));
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object vavrOfAll() {
+        return io.vavr.collection.HashMap.ofAll(map);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object cyclopsHashSet() {
+        return HashSet.fromIterable(keys);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object cyclopsBag() {
+        return Bag.fromIterable(keys);
+
+    }
+
+
+
+}
@@ -0,0 +1,140 @@
+package cyclops.data.hashmap;
+
+import cyclops.data.base.CHAMP;
+import cyclops.data.base.HAMT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares the classic HAMT node layout with CHAMP nodes.
+ *
+ * The retained bytes per entry of each layout are estimated from heap usage once per trial and printed on tear down
+ * (keys and values are shared and excluded). Running with -prof gc reports the bytes allocated while building via
+ * gc.alloc.rate.norm. The iterate benchmarks measure the cost of a full traversal.
+ */
+@State(Scope.Benchmark)
+public class HashMapFootprint {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    Integer[] keys;
+    HAMT.Node<Integer,Integer> hamt;
+    HAMT.Node<Integer,Integer> champ;
+    Object[] retained;
+
+    @Setup
+    public void before() {
+        keys = new Integer[size];
+        for(int i=0;i<size;i++){
+            keys[i] = i*31;
+        }
+        hamt = build(HAMT.Transient.empty());
+        champ = build(HAMT.Transient.from(CHAMP.empty()));
+    }
+
+    @TearDown
+    public void footprint() {
+        System.out.println();
+        System.out.println("HAMT bytes per entry : " + bytesPerEntry(HAMT.Transient::empty));
+        System.out.println("CHAMP bytes per entry : " + bytesPerEntry(()->HAMT.Transient.from(CHAMP.empty())));
+    }
+
+    private long bytesPerEntry(Supplier<HAMT.Transient<Integer,Integer>> empty){
+        long before = usedHeap();
+        retained = new Object[10];
+        for(int i=0;i<retained.length;i++){
+            retained[i] = build(empty.get());
+        }
+        long after = usedHeap();
+        long perEntry = (after-before)/((long)retained.length*size);
+        retained = null;
+        return perEntry;
+    }
+
+    private static long usedHeap(){
+        Runtime runtime = Runtime.getRuntime();
+        for(int i=0;i<5;i++){
+            System.gc();
+        }
+        return runtime.totalMemory()-runtime.freeMemory();
+    }
+
+    private HAMT.Node<Integer,Integer> build(HAMT.Transient<Integer,Integer> tr){
+        for(Integer next : keys){
+            tr.put(next,next);
+        }
+        return tr.freeze();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object hamtBuild() {
+        return build(HAMT.Transient.empty());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object champBuild() {
+        return build(HAMT.Transient.from(CHAMP.empty()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void hamtIterate(Blackhole bh) {
+        hamt.stream().forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void champIterate(Blackhole bh) {
+        champ.stream().forEach(bh::consume);
+    }
+
+}
@@ -0,0 +1,98 @@
+package cyclops.data.vector;
+
+import cyclops.data.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class VectorConcat {
+
+    @Param({"1000","10000","100000"})
+    int size;
+
+    Vector<String> vector;
+    Vector<String> other;
+    io.vavr.collection.Vector<String> js;
+    io.vavr.collection.Vector<String> jsOther;
+
+    @Setup
+    public void before() {
+        vector = Vector.range(0, size).map(i->""+i);
+        other = Vector.range(0, size+7).map(i->""+i);
+        js = io.vavr.collection.Vector.range(0, size).map(i->""+i);
+        jsOther = io.vavr.collection.Vector.range(0, size+7).map(i->""+i);
+
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object cyclopsConcat() {
+        return vector.appendAll(other);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object vavrConcat() {
+        return js.appendAll(jsOther);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object cyclopsInsertAt() {
+        return vector.insertAt(size/2,other);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object vavrInsertAt() {
+        return js.insertAll(size/2,jsOther);
+
+    }
+
+
+
+}
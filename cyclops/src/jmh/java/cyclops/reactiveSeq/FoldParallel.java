@@ -0,0 +1,84 @@
+package cyclops.reactiveSeq;
+
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how foldParallel scales with the parallelism of the ForkJoinPool, for an unsized pull based source and a
+ * push based source
+ */
+@State(Scope.Benchmark)
+public class FoldParallel {
+
+    @Param({"1","2","4","8"})
+    int parallelism;
+
+    ForkJoinPool pool;
+
+    @Setup
+    public void before() {
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void after() {
+        pool.shutdown();
+    }
+
+    static long work(long i) {
+        long res = i;
+        for (int k = 0; k < 100; k++) {
+            res = res * 31 + k;
+        }
+        return res;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public long reactiveSeqFoldParallel() {
+        return ReactiveSeq.iterate(0l, i -> i + 1)
+                          .take(1_000_000)
+                          .filter(i -> i % 3 != 0)
+                          .foldParallel(pool, s -> s.mapToLong(FoldParallel::work).sum());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public long spoutsFoldParallel() {
+        return Spouts.iterate(0l, i -> i + 1)
+                     .take(1_000_000)
+                     .filter(i -> i % 3 != 0)
+                     .foldParallel(pool, s -> s.mapToLong(FoldParallel::work).sum());
+    }
+}
@@ -4,6 +4,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 
+import com.oath.cyclops.async.adapters.MpmcArrayQueue;
 import com.oath.cyclops.async.adapters.Queue;
 import com.oath.cyclops.async.adapters.QueueFactory;
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
@@ -202,6 +203,43 @@ public class QueueFactories {
 
     }
 
+    /**
+     * Creates an async.Queue backed by a lock-free multi producer, multi consumer ring buffer {@link MpmcArrayQueue}
+     * bounded by queueSize (rounded up to the next power of two).
+     * Streams connected via queue.stream() pull data in batches when traversed in bulk (e.g. forEach), and
+     * queue.offerBatch / queue.drainTo claim a batch of slots with a single CAS.
+     *  Wait strategy used is NoWaitRetry by default for both Consumers and Producers
+     *  (both Consumers and Producers will repeatedly retry until successful). Use
+     *  withConsumerWaitStrategy  &amp; withProducerWaitStrategy methods on the returned queue to change the
+     *  wait strategy
+     *
+     * @param queueSize upper bound for Queue
+     * @return bounded lock-free Queue Factory backed by an MpmcArrayQueue
+     */
+    public static <T> QueueFactory<T> boundedMpmcQueue(final int queueSize) {
+        return () -> new Queue<T>(
+                                  new MpmcArrayQueue<>(
+                                                       queueSize),
+                                  new NoWaitRetry<>(), new NoWaitRetry<>());
+    }
+
+    /**
+     * Generate QueueFactory for bounded lock-free multi producer, multi consumer queues. Max queue size is determined
+     * by the input parameter (rounded up to the next power of two).
+     * The provided WaitStrategy is used to determine behaviour of both producers and consumers when the Queue is full (producer)
+     * or zero (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() }
+     *
+     * @param queueSize Max Queue size
+     * @param strategy Strategy to be employed by producers when Queue is full, or consumers when Queue is zero
+     * @return bounded lock-free Queue Factory backed by an MpmcArrayQueue
+     */
+    public static <T> QueueFactory<T> boundedMpmcQueue(final int queueSize, final WaitStrategy<T> strategy) {
+        return () -> new Queue<T>(
+                                  new MpmcArrayQueue<>(
+                                                       queueSize),
+                                  strategy, strategy);
+    }
+
     /**
      * @return async.Queue backed by a Synchronous Queue
      */
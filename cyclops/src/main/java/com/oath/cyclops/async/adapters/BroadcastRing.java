@@ -0,0 +1,228 @@
+package com.oath.cyclops.async.adapters;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.oath.cyclops.async.wait.ParkingWait;
+
+/**
+ * Shared storage for a ring buffer backed {@link Topic}. Each message is written once, into a single ring, and every
+ * subscriber reads it through its own cursor (in the style of a disruptor), rather than each subscriber being sent its
+ * own copy.
+ *
+ * Each subscriber still sees a standard async.Queue : its backing JDK Queue is a {@link Cursor} view onto the ring, so
+ * Streams, poison pills and continuations work as they do for other Topics.
+ *
+ * @param <T> Data type for the Topic
+ */
+final class BroadcastRing<T> {
+
+    private final AtomicReferenceArray<Object> buffer;
+    private final int mask;
+    private final int capacity;
+    private final Topic.SlowSubscriber policy;
+    //told about each subscriber Queue disconnected for falling a full ring behind
+    private final Consumer<Queue<T>> onLapped;
+
+    //next sequence to be claimed by a publisher
+    private final AtomicLong claimed = new AtomicLong();
+    //all sequences below this have been written and can be read
+    private final AtomicLong published = new AtomicLong();
+    private volatile Cursor<T>[] cursors = new Cursor[0];
+    //lowest cursor position last time the publishers checked, only used when blocking for slow subscribers
+    private volatile Gate<T> gate = new Gate<>(cursors, 0);
+    private final Object lock = new Object();
+
+    BroadcastRing(final int ringSize, final Topic.SlowSubscriber policy, final Consumer<Queue<T>> onLapped) {
+        if (ringSize < 2)
+            throw new IllegalArgumentException("ringSize must be at least 2 " + ringSize);
+        this.capacity = 1 << (32 - Integer.numberOfLeadingZeros(ringSize - 1));
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.policy = policy;
+        this.onLapped = onLapped;
+    }
+
+    /**
+     * @return A new subscriber Queue, that will receive every message published from now on
+     */
+    Queue<T> subscribe() {
+        final ParkingWait<T> wait = new ParkingWait<>();
+        synchronized (lock) {
+            final Cursor<T> cursor = new Cursor<>(this, published.get(), wait);
+            final Queue<T> queue = new Queue<>(cursor, wait, wait);
+            cursor.owner = queue;
+            final Cursor<T>[] next = Arrays.copyOf(cursors, cursors.length + 1);
+            next[cursors.length] = cursor;
+            cursors = next;
+            return queue;
+        }
+    }
+
+    void unsubscribe(final Queue<T> queue) {
+        synchronized (lock) {
+            final List<Cursor<T>> remaining = new ArrayList<>(cursors.length);
+            for (final Cursor<T> next : cursors) {
+                if (next.owner != queue)
+                    remaining.add(next);
+            }
+            cursors = remaining.toArray(new Cursor[remaining.size()]);
+        }
+    }
+
+    /**
+     * Write data into the ring once, for all subscribers
+     */
+    void publish(final T data) {
+        final long sequence = claimed.getAndIncrement();
+        if (policy == Topic.SlowSubscriber.BLOCK)
+            awaitSlowestSubscriber(sequence);
+        buffer.set((int) sequence & mask, Queue.nullSafe(data));
+        //publish in sequence order, so readers never see a gap
+        while (published.get() != sequence) {
+            Thread.yield();
+        }
+        published.set(sequence + 1);
+        for (final Cursor<T> next : cursors)
+            next.wait.onOffer();
+    }
+
+    private void awaitSlowestSubscriber(final long sequence) {
+        final long wrapPoint = sequence - capacity;
+        final Gate<T> known = gate;
+        if (wrapPoint < known.min && known.cursors == cursors)
+            return;
+        int attempts = 0;
+        Cursor<T>[] current;
+        long min;
+        while (wrapPoint >= (min = slowestCursor(current = cursors, sequence))) {
+            if (attempts++ < 100)
+                Thread.yield();
+            else
+                LockSupport.parkNanos(10_000);
+        }
+        gate = new Gate<>(current, min);
+    }
+
+    private long slowestCursor(final Cursor<T>[] current, final long sequence) {
+        long min = sequence;
+        for (final Cursor<T> next : current)
+            min = Math.min(min, next.next.get());
+        return min;
+    }
+
+    /**
+     * The slowest cursor position for a given set of subscribers, only valid while that set is unchanged
+     */
+    private static final class Gate<T> {
+        final Cursor<T>[] cursors;
+        final long min;
+
+        Gate(final Cursor<T>[] cursors, final long min) {
+            this.cursors = cursors;
+            this.min = min;
+        }
+    }
+
+    /**
+     * A single subscriber's view of the ring. Messages are read from the ring, while anything offered directly to the
+     * subscriber Queue (e.g. the poison pills sent when it is closed) is held locally and delivered once the subscriber
+     * has caught up with the ring.
+     */
+    static final class Cursor<T> extends AbstractQueue<T> {
+        private final BroadcastRing<T> ring;
+        private final AtomicLong next;
+        private final ParkingWait<T> wait;
+        private final ConcurrentLinkedQueue<T> local = new ConcurrentLinkedQueue<>();
+        private final AtomicLong dropped = new AtomicLong();
+        volatile Queue<T> owner;
+
+        Cursor(final BroadcastRing<T> ring, final long start, final ParkingWait<T> wait) {
+            this.ring = ring;
+            this.next = new AtomicLong(start);
+            this.wait = wait;
+        }
+
+        @Override
+        public boolean offer(final T t) {
+            local.add(t);
+            wait.onOffer();
+            return true;
+        }
+
+        @Override
+        public T poll() {
+            for (;;) {
+                final long sequence = next.get();
+                if (sequence >= ring.published.get())
+                    return local.poll();
+                final T value = (T) ring.buffer.get((int) sequence & ring.mask);
+                if (ring.policy != Topic.SlowSubscriber.BLOCK
+                        && ring.claimed.get() > sequence + ring.capacity) {
+                    lapped(sequence);
+                    continue;
+                }
+                if (next.compareAndSet(sequence, sequence + 1))
+                    return value;
+            }
+        }
+
+        private void lapped(final long sequence) {
+            if (ring.policy == Topic.SlowSubscriber.DROP) {
+                //skip ahead to half a ring behind the publishers, so the subscriber has some headroom
+                final long resume = Math.max(sequence + 1, ring.published.get() - ring.capacity / 2);
+                if (next.compareAndSet(sequence, resume))
+                    dropped.addAndGet(resume - sequence);
+            } else if (next.compareAndSet(sequence, Long.MAX_VALUE)) {
+                ring.unsubscribe(owner);
+                ring.onLapped.accept(owner);
+                owner.close();
+            }
+        }
+
+        /**
+         * @return Number of messages this subscriber has missed because it fell a full ring behind
+         */
+        long dropped() {
+            return dropped.get();
+        }
+
+        @Override
+        public T peek() {
+            final long sequence = next.get();
+            if (sequence >= ring.published.get())
+                return local.peek();
+            return (T) ring.buffer.get((int) sequence & ring.mask);
+        }
+
+        @Override
+        public int size() {
+            final long behind = Math.max(0, ring.published.get() - next.get());
+            return (int) Math.min(Integer.MAX_VALUE, Math.min(behind, ring.capacity) + local.size());
+        }
+
+        @Override
+        public void clear() {
+            next.set(Math.max(next.get(), ring.published.get()));
+            local.clear();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final List<T> snapshot = new ArrayList<>();
+            final long end = ring.published.get();
+            for (long sequence = Math.max(next.get(), end - ring.capacity); sequence < end; sequence++)
+                snapshot.add((T) ring.buffer.get((int) sequence & ring.mask));
+            snapshot.addAll(local);
+            return snapshot.iterator();
+        }
+    }
+}
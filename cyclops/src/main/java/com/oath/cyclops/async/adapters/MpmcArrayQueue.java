@@ -0,0 +1,220 @@
+package com.oath.cyclops.async.adapters;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free, multi producer multi consumer ring buffer (after Dmitry Vyukov's bounded MPMC queue).
+ *
+ * Each slot carries a sequence number that tells producers and consumers whose turn it is, so a single CAS on the
+ * producer (tail) or consumer (head) counter claims a slot. The head and tail counters are kept on separate cache lines,
+ * and {@link #offerBatch(List, int)} / {@link #drain(Consumer, int)} claim a whole run of slots with one CAS.
+ *
+ * Non-blocking : offer returns false when full and poll returns null when empty. Use via
+ * {@link com.oath.cyclops.async.QueueFactories#boundedMpmcQueue(int)}, where the configured WaitStrategy handles retries.
+ *
+ * @param <T> Type of data stored in the Queue
+ */
+public class MpmcArrayQueue<T> extends AbstractQueue<T> {
+
+    //longs between the head and tail counters, so they sit on different cache lines
+    private static final int PAD = 16;
+    private static final int HEAD = PAD;
+    private static final int TAIL = PAD * 3;
+
+    private final AtomicLongArray counters = new AtomicLongArray(PAD * 4);
+    private final AtomicLongArray sequences;
+    private final Object[] buffer;
+    private final int mask;
+
+    /**
+     * @param capacity Minimum capacity, rounded up to the next power of two
+     */
+    public MpmcArrayQueue(int capacity) {
+        if (capacity < 2)
+            throw new IllegalArgumentException("capacity must be at least 2 " + capacity);
+        int size = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.buffer = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++)
+            sequences.set(i, i);
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    @Override
+    public boolean offer(T t) {
+        if (t == null)
+            throw new NullPointerException();
+        long pos = counters.get(TAIL);
+        for (;;) {
+            int index = (int) pos & mask;
+            long dif = sequences.get(index) - pos;
+            if (dif == 0) {
+                if (counters.compareAndSet(TAIL, pos, pos + 1)) {
+                    buffer[index] = t;
+                    sequences.lazySet(index, pos + 1);
+                    return true;
+                }
+                pos = counters.get(TAIL);
+            } else if (dif < 0) {
+                return false;
+            } else {
+                pos = counters.get(TAIL);
+            }
+        }
+    }
+
+    /**
+     * Add up to max elements from the front of the list, claiming space for all of them with a single CAS
+     *
+     * @param batch Elements to add (none may be null)
+     * @param max Maximum number of elements to take from batch
+     * @return Number of elements added, fewer than requested if the queue is (nearly) full
+     */
+    public int offerBatch(List<? extends T> batch, int max) {
+        int requested = Math.min(max, batch.size());
+        if (requested == 0)
+            return 0;
+        //checked before claiming, a claimed slot that is never published would stall every consumer
+        for (int i = 0; i < requested; i++) {
+            if (batch.get(i) == null)
+                throw new NullPointerException();
+        }
+        long pos;
+        int n;
+        for (;;) {
+            pos = counters.get(TAIL);
+            long free = buffer.length - (pos - counters.get(HEAD));
+            n = (int) Math.min(requested, free);
+            if (n <= 0)
+                return 0;
+            if (counters.compareAndSet(TAIL, pos, pos + n))
+                break;
+        }
+        for (int i = 0; i < n; i++) {
+            T next = batch.get(i);
+            long p = pos + i;
+            int index = (int) p & mask;
+            //the consumer that claimed this slot on the previous lap may not have released it yet
+            while (sequences.get(index) != p) {
+                Thread.yield();
+            }
+            buffer[index] = next;
+            sequences.lazySet(index, p + 1);
+        }
+        return n;
+    }
+
+    @Override
+    public T poll() {
+        long pos = counters.get(HEAD);
+        for (;;) {
+            int index = (int) pos & mask;
+            long dif = sequences.get(index) - (pos + 1);
+            if (dif == 0) {
+                if (counters.compareAndSet(HEAD, pos, pos + 1)) {
+                    T res = (T) buffer[index];
+                    buffer[index] = null;
+                    sequences.lazySet(index, pos + buffer.length);
+                    return res;
+                }
+                pos = counters.get(HEAD);
+            } else if (dif < 0) {
+                return null;
+            } else {
+                pos = counters.get(HEAD);
+            }
+        }
+    }
+
+    /**
+     * Remove up to max elements, claiming all of them with a single CAS, and pass them to the consumer in order
+     *
+     * @param consumer Consumer for removed elements
+     * @param max Maximum number of elements to remove
+     * @return Number of elements removed
+     */
+    public int drain(Consumer<? super T> consumer, int max) {
+        if (max <= 0)
+            return 0;
+        long pos;
+        int n;
+        for (;;) {
+            pos = counters.get(HEAD);
+            long available = counters.get(TAIL) - pos;
+            n = (int) Math.min(max, available);
+            if (n <= 0)
+                return 0;
+            if (counters.compareAndSet(HEAD, pos, pos + n))
+                break;
+        }
+        Object[] drained = new Object[n];
+        for (int i = 0; i < n; i++) {
+            long p = pos + i;
+            int index = (int) p & mask;
+            //the producer that claimed this slot may not have published its element yet
+            while (sequences.get(index) != p + 1) {
+                Thread.yield();
+            }
+            drained[i] = buffer[index];
+            buffer[index] = null;
+            sequences.lazySet(index, p + buffer.length);
+        }
+        //release every claimed slot before handing out elements, so a failing consumer cannot stall the queue
+        for (int i = 0; i < n; i++)
+            consumer.accept((T) drained[i]);
+        return n;
+    }
+
+    @Override
+    public T peek() {
+        long pos = counters.get(HEAD);
+        int index = (int) pos & mask;
+        if (sequences.get(index) != pos + 1)
+            return null;
+        return (T) buffer[index];
+    }
+
+    @Override
+    public int size() {
+        long head = counters.get(HEAD);
+        long size = counters.get(TAIL) - head;
+        return (int) Math.max(0, Math.min(size, buffer.length));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return counters.get(TAIL) == counters.get(HEAD);
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+
+        }
+    }
+
+    /**
+     * @return A weakly consistent iterator over a snapshot of the elements present when it was created
+     */
+    @Override
+    public Iterator<T> iterator() {
+        List<T> snapshot = new ArrayList<>();
+        long tail = counters.get(TAIL);
+        for (long p = counters.get(HEAD); p < tail; p++) {
+            int index = (int) p & mask;
+            Object next = buffer[index];
+            if (sequences.get(index) == p + 1 && next != null)
+                snapshot.add((T) next);
+        }
+        return snapshot.iterator();
+    }
+}
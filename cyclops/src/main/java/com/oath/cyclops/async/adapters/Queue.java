@@ -7,6 +7,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -85,6 +86,7 @@ public class Queue<T> implements Adapter<T> {
 
     private final static PoisonPill POISON_PILL = new PoisonPill();
     private final static PoisonPill CLEAR_PILL = new PoisonPill();
+    private final static int DRAIN_BATCH = 64;
 
     private volatile boolean open = true;
     private final AtomicInteger listeningStreams = new AtomicInteger();
@@ -181,7 +183,7 @@ public class Queue<T> implements Adapter<T> {
     @Override
     public ReactiveSeq<T> stream() {
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
-        return ReactiveSeq.fromStream(closingStream(this::get, new AlwaysContinue()));
+        return ReactiveSeq.fromStream(closingStream(reader(), new AlwaysContinue()));
     }
     /**
      * Return a standard (unextended) JDK Stream connected to this Queue
@@ -236,7 +238,7 @@ public class Queue<T> implements Adapter<T> {
     public ReactiveSeq<T> stream(final Continueable s) {
         this.sub = s;
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
-        return ReactiveSeq.fromStream(closingStream(this::get, s));
+        return ReactiveSeq.fromStream(closingStream(reader(), s));
     }
 
     public ReactiveSeq<Collection<T>> streamBatchNoTimeout(final Continueable s, final Function<Supplier<T>, Supplier<Collection<T>>> batcher) {
@@ -321,9 +323,9 @@ public class Queue<T> implements Adapter<T> {
 
     private Stream<T> closingStream(final Supplier<T> s, final Continueable sub) {
 
-        final Stream<T> st = StreamSupport.stream(new AdaptersModule.ClosingSpliterator<T>(
-                                                                         Long.MAX_VALUE, s, sub, this),
-                                                 false);
+        final Spliterator<T> split = s instanceof Queue.BatchReader ? ((BatchReader) s).spliterator(sub)
+                                                                    : new AdaptersModule.ClosingSpliterator<T>(Long.MAX_VALUE, s, sub, this);
+        final Stream<T> st = StreamSupport.stream(split, false);
 
         return st;
     }
@@ -337,6 +339,102 @@ public class Queue<T> implements Adapter<T> {
         return st;
     }
 
+    /**
+     * @return Supplier for a single sequential Stream, which pulls data in batches when the underlying Queue supports it
+     */
+    private Supplier<T> reader() {
+        return ring() != null ? new BatchReader() : this::get;
+    }
+
+    private MpmcArrayQueue<T> ring() {
+        if (queue instanceof AdaptersModule.QueueToBlockingQueueWrapper) {
+            final java.util.Queue<?> wrapped = ((AdaptersModule.QueueToBlockingQueueWrapper) queue).queue;
+            if (wrapped instanceof MpmcArrayQueue)
+                return (MpmcArrayQueue<T>) wrapped;
+        }
+        return null;
+    }
+
+    /**
+     * Pulls up to DRAIN_BATCH elements at a time from an MpmcArrayQueue (one CAS per batch rather than per element),
+     * and falls back to the standard wait strategy driven get() when the Queue is empty.
+     * Batches are only drained while the Stream is traversed in bulk (forEachRemaining), which runs until the Queue
+     * closes. Streams that may stop early (limit, findFirst, iterators) pull one element at a time, so elements they
+     * do not consume stay in the Queue.
+     * Not thread safe, each connected Stream has its own BatchReader.
+     */
+    private class BatchReader implements Supplier<T> {
+        private final ArrayDeque<T> buffer = new ArrayDeque<>(DRAIN_BATCH);
+        private boolean closed = false;
+        private boolean batching = false;
+
+        Spliterator<T> spliterator(final Continueable sub) {
+            return new AdaptersModule.ClosingSpliterator<T>(Long.MAX_VALUE, this, sub, Queue.this) {
+                @Override
+                public void forEachRemaining(final Consumer<? super T> action) {
+                    batching = true;
+                    try {
+                        super.forEachRemaining(action);
+                    } finally {
+                        batching = false;
+                        restore();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public T get() {
+            if (buffer.isEmpty() && !closed && batching)
+                fill();
+            if (!buffer.isEmpty()) {
+                final T next = buffer.poll();
+                if (next instanceof Error)
+                    throw ExceptionSoftener.throwSoftenedException((Error) next);
+                return nillSafe(next);
+            }
+            if (closed)
+                throw new ClosedQueueException();
+            return Queue.this.get();
+        }
+
+        //a bulk traversal only ends early when its action throws, hand anything drained but unread back to the Queue
+        private void restore() {
+            if (buffer.isEmpty())
+                return;
+            while (!buffer.isEmpty())
+                queue.offer(buffer.poll());
+            consumerWait.onOffer();
+        }
+
+        private void fill() {
+            final List<T> drained = new ArrayList<>(DRAIN_BATCH);
+            ring().drain(drained::add, DRAIN_BATCH);
+            for (int i = 0; i < drained.size(); i++) {
+                final T next = drained.get(i);
+                if (next == CLEAR_PILL) {
+                    buffer.clear();
+                    queue.clear();
+                    return;
+                }
+                if (next instanceof PoisonPill) {
+                    closed = true;
+                    //remaining poison pills belong to other connected Streams
+                    for (int j = i + 1; j < drained.size(); j++)
+                        queue.offer(drained.get(j));
+                    consumerWait.onOffer();
+                    return;
+                }
+                buffer.add(next);
+            }
+            if (drained.size() > 0) {
+                producerWait.onTake();
+                if (sizeSignal != null)
+                    sizeSignal.set(queue.size());
+            }
+        }
+    }
+
     /**
      * @return Infinite (until Queue is closed) Stream of CompletableFutures
      *         that can be used as input into a SimpleReact concurrent dataflow
@@ -357,6 +455,7 @@ public class Queue<T> implements Adapter<T> {
     @Override
     public boolean fromStream(final Stream<T> stream) {
         stream.collect(Collectors.toCollection(() -> queue));
+        consumerWait.onOffer();
         return true;
     }
 
@@ -386,8 +485,10 @@ public class Queue<T> implements Adapter<T> {
                                 handleTimeout(timer, timeoutNanos);
 
                         }
-                        if (data != null)
+                        if (data != null) {
+                            producerWait.onTake();
                             return (T) nillSafe(ensureNotPoisonPill(ensureClear(data)));
+                        }
                     }finally{
                      }
                 }
@@ -419,6 +520,7 @@ public class Queue<T> implements Adapter<T> {
                 throw ExceptionSoftener.throwSoftenedException(e);
             }
 
+            producerWait.onTake();
             ensureNotPoisonPill(data);
             if (sizeSignal != null)
                 this.sizeSignal.set(queue.size());
@@ -534,6 +636,7 @@ public class Queue<T> implements Adapter<T> {
         try {
             final boolean result = queue.add((T) nullSafe(data));
             if (result) {
+                consumerWait.onOffer();
                 if (sizeSignal != null)
                     this.sizeSignal.set(queue.size());
             }
@@ -546,6 +649,7 @@ public class Queue<T> implements Adapter<T> {
 
     public boolean addError(Throwable t){
         queue.add((T) new Error(t));
+        consumerWait.onOffer();
         return true;
     }
 
@@ -576,18 +680,110 @@ public class Queue<T> implements Adapter<T> {
             throw new ClosedQueueException();
         }
 
-        try {
-            final boolean result = producerWait.offer(() -> this.queue.offer((T) nullSafe(data), this.offerTimeout, this.offerTimeUnit));
+        final boolean result = waitAndOffer((T) nullSafe(data));
+        if (sizeSignal != null)
+            this.sizeSignal.set(queue.size());
+        return result;
 
-            if (sizeSignal != null)
-                this.sizeSignal.set(queue.size());
+    }
+
+    private boolean waitAndOffer(final T data) {
+        try {
+            final boolean result = producerWait.offer(() -> this.queue.offer(data, this.offerTimeout, this.offerTimeUnit));
+            if (result)
+                consumerWait.onOffer();
             return result;
         } catch (final InterruptedException e) {
             Thread.currentThread()
                   .interrupt();
             throw ExceptionSoftener.throwSoftenedException(e);
         }
+    }
+
+    /**
+     * Offer a batch of data to this Queue, in order.
+     *
+     * Queues from {@link QueueFactories#boundedMpmcQueue(int)} claim space for as much of the batch as will fit with a
+     * single CAS, other Queues offer each element in turn. If the queue is bounded and full this will wait (according
+     * to the producer WaitStrategy) as offer does.
+     *
+     * @param data Data to add
+     * @return true if all of the data was added
+     */
+    public boolean offerBatch(final Collection<? extends T> data) {
+
+        if (!open) {
+            throw new ClosedQueueException();
+        }
+        final MpmcArrayQueue<T> ring = ring();
+        if (ring == null) {
+            for (final T next : data) {
+                if (!offer(next))
+                    return false;
+            }
+            return true;
+        }
+        final List<T> pending = new ArrayList<>(data.size());
+        for (final T next : data)
+            pending.add((T) nullSafe(next));
+        int offered = 0;
+        while (offered < pending.size()) {
+            int added = ring.offerBatch(pending.subList(offered, pending.size()), Integer.MAX_VALUE);
+            if (added > 0) {
+                consumerWait.onOffer();
+            } else {
+                if (!waitAndOffer(pending.get(offered)))
+                    return false;
+                added = 1;
+            }
+            offered += added;
+        }
+        if (sizeSignal != null)
+            this.sizeSignal.set(queue.size());
+        return true;
+    }
 
+    /**
+     * Remove up to max elements that are available now, without waiting, and pass them to the consumer in order.
+     * Queues from {@link QueueFactories#boundedMpmcQueue(int)} claim the whole batch with a single CAS.
+     *
+     * @param consumer Consumer for the removed data
+     * @param max Maximum number of elements to remove
+     * @return Number of elements passed to the consumer
+     * @throws ClosedQueueException if the Queue has been closed and no data remains
+     */
+    public int drainTo(final Consumer<? super T> consumer, final int max) {
+        if (!open && queue.size() == 0)
+            throw new ClosedQueueException();
+        if (max <= 0)
+            return 0;
+        final List<T> drained = new ArrayList<>(Math.min(max, Math.max(queue.size(), 1)));
+        if (queue.drainTo(drained, max) > 0)
+            producerWait.onTake();
+        int delivered = 0;
+        for (int i = 0; i < drained.size(); i++) {
+            final T next = drained.get(i);
+            if (next == CLEAR_PILL) {
+                queue.clear();
+                break;
+            }
+            if (next instanceof PoisonPill) {
+                //poison pills belong to connected Streams, hand them (and anything after them) back
+                for (int j = i; j < drained.size(); j++)
+                    queue.offer(drained.get(j));
+                consumerWait.onOffer();
+                if (delivered == 0)
+                    throw new ClosedQueueException();
+                break;
+            }
+            if (next instanceof Error)
+                throw ExceptionSoftener.throwSoftenedException((Error) next);
+            consumer.accept(nillSafe(next));
+            delivered++;
+        }
+        if (sizeSignal != null)
+            this.sizeSignal.set(queue.size());
+        return delivered;
     }
 
     private boolean timeout(final SimpleTimer timer) {
@@ -634,6 +830,7 @@ public class Queue<T> implements Adapter<T> {
            }
 
         }
+        consumerWait.onOffer();
 
         return true;
     }
@@ -651,6 +848,7 @@ public class Queue<T> implements Adapter<T> {
             }
 
          }
+        consumerWait.onOffer();
     }
 
     public void closeAndClear() {
@@ -728,9 +926,10 @@ public class Queue<T> implements Adapter<T> {
         public Collection<T> drainToOrBlock() {
 
             final Collection<T> result = new ArrayList<>();
-            if (size() > 0)
-                queue.queue.drainTo(result);
-            else {
+            if (size() > 0) {
+                if (queue.queue.drainTo(result) > 0)
+                    queue.producerWait.onTake();
+            } else {
                 try {
 
                     result.add(queue.ensureOpen(queue.timeout, queue.timeUnit));
@@ -14,6 +14,7 @@ import com.oath.cyclops.async.QueueFactories;
 import cyclops.control.Option;
 import cyclops.data.HashMap;
 import cyclops.data.Seq;
+import cyclops.data.tuple.Tuple2;
 import cyclops.reactive.ReactiveSeq;
 import com.oath.cyclops.react.async.subscription.Continueable;
 
@@ -61,6 +62,54 @@ public class Topic<T> implements Adapter<T> {
         distributor.addQueue(q);
     }
 
+    private Topic(final int ringSize, final SlowSubscriber policy) {
+        final BroadcastRing<T> ring = new BroadcastRing<>(ringSize, policy, this::lapped);
+        this.factory = ring::subscribe;
+        distributor.ring = ring;
+        //a cursor nobody reads from would stop the publishers once the ring is full, so wait for the first subscriber
+        if (policy != SlowSubscriber.BLOCK)
+            distributor.addQueue(ring.subscribe());
+    }
+
+    /**
+     * Construct a Topic that stores each message once, in a single ring buffer shared by all subscribers, each of which
+     * reads from the ring via its own cursor (rather than being sent its own copy of every message). With
+     * {@link SlowSubscriber#BLOCK} no messages are retained until the first subscriber connects.
+     *
+     * <pre>
+     * {@code
+     *   Topic<Tick> ticks = Topic.ringBuffer(65536, Topic.SlowSubscriber.DROP);
+     *   ticks.stream().forEach(this::price);
+     *   ticks.stream().forEach(this::record);
+     * }
+     * </pre>
+     *
+     * @param ringSize Number of messages retained for the slowest subscriber (rounded up to the next power of two)
+     * @param policy What to do when a subscriber falls a full ring behind
+     * @return Ring buffer backed Topic
+     */
+    public static <T> Topic<T> ringBuffer(final int ringSize, final SlowSubscriber policy) {
+        return new Topic<>(ringSize, policy);
+    }
+
+    /**
+     * Policy applied by a ring buffer backed Topic when a subscriber falls a full ring behind the publishers
+     */
+    public enum SlowSubscriber {
+        /**
+         * Publishers wait until the slowest subscriber has read the message they would overwrite
+         */
+        BLOCK,
+        /**
+         * Publishers never wait, the slow subscriber skips the messages it missed and continues from more recent data
+         */
+        DROP,
+        /**
+         * Publishers never wait, the slow subscriber is disconnected from the Topic and its Stream completes
+         */
+        DISCONNECT
+    }
+
     /**
      * Topic will maintain a queue for each Subscribing Stream
      * If a Stream is finished with a Topic it is good practice to disconnect from the Topic
@@ -78,6 +127,27 @@ public class Topic<T> implements Adapter<T> {
         this.index--;
     }
 
+    /*
+     * Called when a ring buffer backed Topic disconnects a subscriber that fell a full ring behind
+     */
+    @Synchronized("lock")
+    private void lapped(final Queue<T> queue) {
+        final int position = distributor.getSubscribers()
+                                        .indexOf(q -> q == queue)
+                                        .orElse(-1l)
+                                        .intValue();
+        if (position < 0)
+            return;
+        distributor.removeQueue(queue);
+        for (final Tuple2<ReactiveSeq<?>, Queue<T>> next : streamToQueue) {
+            if (next._2() == queue)
+                this.streamToQueue = streamToQueue.remove(next._1());
+        }
+        //queues below index have already been handed out to Streams
+        if (position < index)
+            this.index--;
+    }
+
     @Synchronized("lock")
     private <R> ReactiveSeq<R> connect(final Function<Queue<T>, ReactiveSeq<R>> streamCreator) {
         final Queue<T> queue = this.getNextQueue();
@@ -190,6 +260,7 @@ public class Topic<T> implements Adapter<T> {
         private static final long serialVersionUID = 1L;
         @Getter
         private volatile Seq<Queue<T>> subscribers = Seq.empty();
+        private BroadcastRing<T> ring;
 
         private final Object lock = new Object();
 
@@ -201,17 +272,26 @@ public class Topic<T> implements Adapter<T> {
         @Synchronized("lock")
         public void removeQueue(final Queue<T> q) {
              subscribers = subscribers.removeValue(q);
+             if (ring != null)
+                 ring.unsubscribe(q);
         }
 
         @Override
         public boolean add(final T e) {
-
+            if (ring != null) {
+                ring.publish(e);
+                return true;
+            }
             subscribers.forEach(it -> it.offer(e));
             return true;
         }
 
         @Override
         public boolean addAll(final Collection<? extends T> c) {
+            if (ring != null) {
+                c.forEach(ring::publish);
+                return true;
+            }
             subscribers.forEach(it -> c.forEach(next -> it.offer(next)));
             return true;
         }
@@ -0,0 +1,150 @@
+package com.oath.cyclops.async.wait;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Adaptive wait strategy : retries in a busy spin for a bounded number of attempts, then yields for a bounded number
+ * of attempts, and then parks the waiting thread until it is woken by the async.Queue (via {@link #onOffer()} /
+ * {@link #onTake()}) or maxParkNanos pass.
+ *
+ * Busy Queues hand data over while consumers are still spinning, idle consumers sleep and use (almost) no CPU.
+ * Producers only pay for a wake up when a thread is actually parked.
+ *
+ * @param <T> Data type of elements in the async.Queue
+ */
+public class ParkingWait<T> implements WaitStrategy<T> {
+
+    private final int spinTries;
+    private final int yieldTries;
+    private final long maxParkNanos;
+
+    private final Waiters takers = new Waiters();
+    private final Waiters offerers = new Waiters();
+
+    /**
+     * Spin 1,000 times, yield 100 times and then park for at most 1 millisecond between retries
+     */
+    public ParkingWait() {
+        this(1_000, 100, TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * @param spinTries Attempts made in a busy spin before yielding
+     * @param yieldTries Attempts made after yielding before parking
+     * @param maxParkNanos Upper bound on time parked before retrying, in case a wake up is missed (e.g. data added
+     *                     to the underlying JDK Queue directly)
+     */
+    public ParkingWait(final int spinTries, final int yieldTries, final long maxParkNanos) {
+        this.spinTries = spinTries;
+        this.yieldTries = yieldTries;
+        this.maxParkNanos = maxParkNanos;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#take(cyclops2.async.wait.WaitStrategy.Takeable)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        T result;
+        int attempt = 0;
+        while ((result = t.take()) == null) {
+            if (attempt < spinTries) {
+                attempt++;
+            } else if (attempt < spinTries + yieldTries) {
+                attempt++;
+                Thread.yield();
+            } else {
+                takers.register();
+                try {
+                    //recheck after registering, so an offer between the failed take and register is not missed
+                    if ((result = t.take()) != null)
+                        return result;
+                    park();
+                } finally {
+                    takers.deregister();
+                }
+            }
+        }
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#offer(cyclops2.async.wait.WaitStrategy.Offerable)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        int attempt = 0;
+        while (!o.offer()) {
+            if (attempt < spinTries) {
+                attempt++;
+            } else if (attempt < spinTries + yieldTries) {
+                attempt++;
+                Thread.yield();
+            } else {
+                offerers.register();
+                try {
+                    if (o.offer())
+                        return true;
+                    park();
+                } finally {
+                    offerers.deregister();
+                }
+            }
+        }
+        return true;
+    }
+
+    private void park() throws InterruptedException {
+        LockSupport.parkNanos(this, maxParkNanos);
+        if (Thread.interrupted())
+            throw new InterruptedException();
+    }
+
+    /**
+     * Wake any consumers parked waiting for data
+     */
+    @Override
+    public void onOffer() {
+        takers.wakeAll();
+    }
+
+    /**
+     * Wake any producers parked waiting for space
+     */
+    @Override
+    public void onTake() {
+        offerers.wakeAll();
+    }
+
+    /**
+     * @return Number of consumers currently parked (or about to park)
+     */
+    public int parkedTakers() {
+        return takers.count.get();
+    }
+
+    private static final class Waiters {
+        private final AtomicInteger count = new AtomicInteger();
+        private final ConcurrentLinkedQueue<Thread> threads = new ConcurrentLinkedQueue<>();
+
+        void register() {
+            threads.add(Thread.currentThread());
+            count.incrementAndGet();
+        }
+
+        void deregister() {
+            count.decrementAndGet();
+            threads.remove(Thread.currentThread());
+        }
+
+        void wakeAll() {
+            if (count.get() == 0)
+                return;
+            for (final Thread next : threads)
+                LockSupport.unpark(next);
+        }
+    }
+}
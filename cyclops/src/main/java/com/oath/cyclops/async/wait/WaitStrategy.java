@@ -60,6 +60,20 @@ public interface WaitStrategy<T> {
      */
     public boolean offer(Offerable o) throws InterruptedException;
 
+    /**
+     * Called by the async.Queue after data has been added, so strategies that park consumers can wake them
+     */
+    default void onOffer() {
+
+    }
+
+    /**
+     * Called by the async.Queue after data has been removed, so strategies that park producers can wake them
+     */
+    default void onTake() {
+
+    }
+
     /**
      * @return YieldWait strategy {@see YieldWait}
      */
@@ -88,6 +102,13 @@ public interface WaitStrategy<T> {
         return new ExponentialBackofWaitStrategy<>();
     }
 
+    /**
+     * @return ParkingWait strategy {@see ParkingWait}
+     */
+    static <T> ParkingWait<T> parkingWait() {
+        return new ParkingWait<>();
+    }
+
     /**
      * @return DirectWaitStrategy {@see DirectWaitStrategy}
      */
@@ -13,6 +13,7 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.companion.Eithers;
 import cyclops.function.FluentFunctions;
+import com.oath.cyclops.util.stream.scheduling.HashedWheelScheduler;
 import com.oath.cyclops.util.stream.scheduling.cron.CronExpression;
 
 public class IteratorHotStream<T> {
@@ -41,30 +42,23 @@ public class IteratorHotStream<T> {
     }
 
     protected void scheduleInternal(final Iterator<T> it, final String cron, final ScheduledExecutorService ex) {
+        scheduleInternal(it, ExceptionSoftener.softenSupplier(() -> new CronExpression(
+                                                                                      cron))
+                                              .get(),
+                         ex);
+    }
+
+    private void scheduleInternal(final Iterator<T> it, final CronExpression cron, final ScheduledExecutorService ex) {
         final Date now = new Date();
-        final Date d = ExceptionSoftener.softenSupplier(() -> new CronExpression(
-                                                                                 cron))
-                                        .get()
-                                        .getNextValidTimeAfter(now);
+        final Date d = cron.getNextValidTimeAfter(now);
 
         final long delay = d.getTime() - now.getTime();
 
-        ex.schedule(() -> {
+        schedule(() -> {
             synchronized (it) {
                 if (it.hasNext()) {
                     try {
-                        final T next = it.next();
-                        final int local = connected;
-
-                        for (int i = 0; i < local; i++) {
-
-                            Eithers.blocking(connections.get(i))
-                                      .fold(FluentFunctions.ofChecked(in -> {
-                                in.put(next);
-                                return true;
-                            }), q -> q.offer(next));
-                        }
-
+                        emit(it.next());
                     } finally {
 
                         scheduleInternal(it, cron, ex);
@@ -74,62 +68,67 @@ public class IteratorHotStream<T> {
                     open.set(false);
                 }
             }
-        } , delay, TimeUnit.MILLISECONDS);
+        } , TimeUnit.MILLISECONDS.toNanos(delay), ex);
 
     }
 
     protected IteratorHotStream<T> scheduleFixedDelayInternal(final Iterator<T> it, final long delay, final ScheduledExecutorService ex) {
-        ex.scheduleWithFixedDelay(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
-
-                    final T next = it.next();
-
-                    final int local = connected;
-
-                    for (int i = 0; i < local; i++) {
-
-                        Eithers.blocking(connections.get(i))
-                                  .fold(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-
-                    }
-
-                } else {
-                    open.set(false);
-                }
-            }
-        } , delay, delay, TimeUnit.MILLISECONDS);
+        schedule(() -> {
+            if (emitNext(it))
+                scheduleFixedDelayInternal(it, delay, ex);
+        } , TimeUnit.MILLISECONDS.toNanos(delay), ex);
         return this;
 
     }
 
     protected IteratorHotStream<T> scheduleFixedRate(final Iterator<T> it, final long rate, final ScheduledExecutorService ex) {
-        ex.scheduleAtFixedRate(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
-
-                    final T next = it.next();
+        scheduleAt(it, System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(rate), ex);
+        return this;
 
-                    final int local = connected;
+    }
 
-                    for (int i = 0; i < local; i++) {
+    private void scheduleAt(final Iterator<T> it, final long time, final long rateNanos, final ScheduledExecutorService ex) {
+        schedule(() -> {
+            if (emitNext(it))
+                scheduleAt(it, time + rateNanos, rateNanos, ex);
+        } , time - System.nanoTime(), ex);
+    }
 
-                        Eithers.blocking(connections.get(i))
-                                  .fold(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-                    }
+    /*
+     * The shared wheel fires up to a tick late, which for delays at or below its resolution is as long as the delay
+     * itself, so those are scheduled directly on ex. Tasks that are already due are run straight away.
+     */
+    private static void schedule(final Runnable task, final long delayNanos, final ScheduledExecutorService ex) {
+        final HashedWheelScheduler wheel = HashedWheelScheduler.shared();
+        if (delayNanos <= 0)
+            ex.execute(task);
+        else if (delayNanos <= wheel.getTickNanos())
+            ex.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        else
+            wheel.schedule(task, delayNanos, TimeUnit.NANOSECONDS, ex);
+    }
 
-                } else {
-                    open.set(false);
-                }
+    private boolean emitNext(final Iterator<T> it) {
+        synchronized (it) {
+            if (it.hasNext()) {
+                emit(it.next());
+                return true;
             }
-        } , 0, rate, TimeUnit.MILLISECONDS);
-        return this;
+            open.set(false);
+            return false;
+        }
+    }
+
+    private void emit(final T next) {
+        final int local = connected;
+
+        for (int i = 0; i < local; i++) {
 
+            Eithers.blocking(connections.get(i))
+                      .fold(FluentFunctions.ofChecked(in -> {
+                in.put(next);
+                return true;
+            }), q -> q.offer(next));
+        }
     }
 }
@@ -385,14 +385,14 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     public final <R> ReactiveSeq<R> map(final Function<? super T, ? extends R> fn) {
 
 
-        return createSeq(new MapOperator<T, R>(this.source, fn));
+        return createSeq(FusedOperator.map(this.source, fn));
     }
 
 
     @Override
     public final <R> ReactiveSeq<R> flatMap(final Function<? super T, ? extends Stream<? extends R>> fn) {
 
-        return createSeq(new FlatMapOperator<>(source, fn));
+        return createSeq(FusedOperator.flatMap(source, fn));
 
     }
 
@@ -400,7 +400,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     @Override
     public final <R> ReactiveSeq<R> concatMap(final Function<? super T, ? extends Iterable<? extends R>> fn) {
 
-        return createSeq(new FlatMapOperator<>(source, i->ReactiveSeq.fromIterable(fn.apply(i))));
+        return createSeq(FusedOperator.flatMap(source, i->ReactiveSeq.fromIterable(fn.apply(i))));
 
     }
 
@@ -421,7 +421,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public final ReactiveSeq<T> filter(final Predicate<? super T> fn) {
-        return createSeq(new FilterOperator<T>(source, fn));
+        return createSeq(FusedOperator.filter(source, fn));
 
     }
 
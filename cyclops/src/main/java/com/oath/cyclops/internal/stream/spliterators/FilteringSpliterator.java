@@ -5,12 +5,14 @@ import lombok.Getter;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
  * Created by johnmcclean on 22/12/2016.
  */
-public class FilteringSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements CopyableSpliterator<T>, Composable<T>{
+public class FilteringSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements CopyableSpliterator<T>, Composable<T>,
+                                                                                            ComposableFunction<T,T,FusedSpliterator<T,?>>{
     Spliterator<T> source;
     @Getter
     Predicate<? super T> mapper;
@@ -58,6 +60,11 @@ public class FilteringSpliterator<T> extends Spliterators.AbstractSpliterator<T>
         return new FilteringSpliterator<T>(CopyableSpliterator.copy(source),mapper);
     }
 
+    @Override
+    public <R2> FusedSpliterator<T, R2> compose(Function<? super T, ? extends R2> fn) {
+        return new FusedSpliterator<>(CopyableSpliterator.copy(source),FusedStages.ofFilter(getMapper()).map(fn));
+    }
+
     @Override
     public Spliterator<T> compose() {
         if(source instanceof FilteringSpliterator){
@@ -66,6 +73,13 @@ public class FilteringSpliterator<T> extends Spliterators.AbstractSpliterator<T>
         if(source instanceof LazyFilteringSpliterator){
             return compose((LazyFilteringSpliterator)source,this);
         }
+        if(source instanceof MappingSpliterator){
+            MappingSpliterator<?,T> before = (MappingSpliterator<?,T>)source;
+            return new FusedSpliterator<>(before.source,FusedStages.of(before.mapper).filter(getMapper()));
+        }
+        if(source instanceof FusedSpliterator){
+            return ((FusedSpliterator<?,T>)source).filter(getMapper());
+        }
 
         return this;
     }
@@ -0,0 +1,67 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A Spliterator that applies a mixed chain of map and filter stages in one pass, created when a map follows a filter
+ * (or a filter follows a map). forEachRemaining hands each element from the source through every stage in a single
+ * loop, rather than through one nested Consumer per stage.
+ */
+public class FusedSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
+                                        implements CopyableSpliterator<R>,
+                                                   ComposableFunction<R,T,FusedSpliterator<T,?>> {
+    final Spliterator<T> source;
+    final FusedStages stages;
+
+    public FusedSpliterator(final Spliterator<T> source, FusedStages stages) {
+        super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+
+        this.source = source;
+        this.stages = stages;
+
+    }
+
+    @Override
+    public <R2> FusedSpliterator<T, R2> compose(Function<? super R, ? extends R2> fn) {
+        return new FusedSpliterator<>(CopyableSpliterator.copy(source),stages.map(fn));
+    }
+
+    public FusedSpliterator<T, R> filter(Predicate<? super R> predicate) {
+        return new FusedSpliterator<>(CopyableSpliterator.copy(source),stages.filter(predicate));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+        source.forEachRemaining(t->{
+            Object res = stages.apply(t);
+            if(res!=FusedStages.FILTERED)
+                action.accept((R)res);
+        });
+
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        boolean[] accepted = {false};
+        boolean advance;
+        do {
+            advance = source.tryAdvance(t -> {
+                Object res = stages.apply(t);
+                if (res != FusedStages.FILTERED) {
+                    action.accept((R) res);
+                    accepted[0] = true;
+                }
+            });
+        }while(!accepted[0] && advance);
+        return accepted[0];
+    }
+
+    @Override
+    public Spliterator<R> copy() {
+        return new FusedSpliterator<T, R>(CopyableSpliterator.copy(source),stages);
+    }
+}
@@ -0,0 +1,65 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A chain of adjacent stateless map and filter stages, applied to each element in a single loop rather than via one
+ * Consumer per stage. Shared by the pull based {@link FusedSpliterator} and the push based FusedOperator.
+ */
+public final class FusedStages {
+
+    /**
+     * Returned by {@link #apply(Object)} when one of the filter stages rejects the element
+     */
+    public static final Object FILTERED = new Object();
+
+    private final Object[] stages;
+    private final boolean[] filters;
+
+    private FusedStages(Object[] stages, boolean[] filters) {
+        this.stages = stages;
+        this.filters = filters;
+    }
+
+    public static FusedStages of(Function<?, ?> fn) {
+        return new FusedStages(new Object[]{fn}, new boolean[]{false});
+    }
+
+    public static FusedStages ofFilter(Predicate<?> predicate) {
+        return new FusedStages(new Object[]{predicate}, new boolean[]{true});
+    }
+
+    public FusedStages map(Function<?, ?> fn) {
+        return append(fn, false);
+    }
+
+    public FusedStages filter(Predicate<?> predicate) {
+        return append(predicate, true);
+    }
+
+    private FusedStages append(Object stage, boolean filter) {
+        Object[] newStages = Arrays.copyOf(stages, stages.length + 1);
+        boolean[] newFilters = Arrays.copyOf(filters, filters.length + 1);
+        newStages[stages.length] = stage;
+        newFilters[filters.length] = filter;
+        return new FusedStages(newStages, newFilters);
+    }
+
+    /**
+     * @return The result of running value through each stage in turn, or {@link #FILTERED} if a filter rejected it
+     */
+    public Object apply(Object value) {
+        Object res = value;
+        for (int i = 0; i < stages.length; i++) {
+            if (filters[i]) {
+                if (!((Predicate<Object>) stages[i]).test(res))
+                    return FILTERED;
+            } else {
+                res = ((Function<Object, Object>) stages[i]).apply(res);
+            }
+        }
+        return res;
+    }
+}
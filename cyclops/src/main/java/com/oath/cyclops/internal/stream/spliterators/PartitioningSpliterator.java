@@ -0,0 +1,69 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Wraps a Spliterator of unknown size so that it can always be divided for parallel execution. trySplit first defers
+ * to the source, and if the source cannot split it pulls the next batch of elements into an array and returns that as
+ * the prefix. Batches grow arithmetically (as in the JDK's IteratorSpliterator), so small sources still divide and
+ * large ones are not split into too many tasks.
+ *
+ * Only one thread accesses the source at a time, as the fork join framework hands each Spliterator to a single task.
+ */
+public class PartitioningSpliterator<T> implements Spliterator<T> {
+
+    static final int BATCH_UNIT = 128;
+    static final int MAX_BATCH = 1 << 25;
+
+    private final Spliterator<T> source;
+    private int batch = 0;
+
+    public PartitioningSpliterator(Spliterator<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        return source.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        source.forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        Spliterator<T> prefix = source.trySplit();
+        if (prefix != null)
+            return prefix;
+        int size = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+        Object[] elements = new Object[size];
+        int[] count = {0};
+        while (count[0] < size && source.tryAdvance(e -> elements[count[0]++] = e)) {
+
+        }
+        if (count[0] == 0)
+            return null;
+        batch = count[0];
+        return Spliterators.spliterator(elements, 0, count[0], source.characteristics() & ORDERED);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        return source.getComparator();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ~(SIZED | SUBSIZED);
+    }
+}
@@ -0,0 +1,108 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.internal.stream.spliterators.FusedStages;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Runs a chain of adjacent stateless map and filter stages as a single Operator, so each element costs one onNext
+ * call for the whole chain rather than one per stage.
+ *
+ * The static map, filter and flatMap methods fuse the new stage into the upstream MapOperator, FilterOperator or
+ * FusedOperator where possible, and otherwise fall back to the single stage operators.
+ */
+public class FusedOperator<T,R> extends BaseOperator<T,R> {
+
+
+    final FusedStages stages;
+
+    public FusedOperator(Operator<T> source, FusedStages stages){
+        super(source);
+        this.stages = stages;
+
+    }
+
+    public static <T,R> Operator<R> map(Operator<T> source, Function<? super T, ? extends R> fn){
+        if(source instanceof MapOperator){
+            return ((MapOperator<?,T>)source).compose(fn);
+        }
+        if(source instanceof FilterOperator){
+            FilterOperator<T> before = (FilterOperator<T>)source;
+            return new FusedOperator<>(before.source,FusedStages.ofFilter(before.predicate).map(fn));
+        }
+        if(source instanceof FusedOperator){
+            FusedOperator<?,T> before = (FusedOperator<?,T>)source;
+            return new FusedOperator<>(before.source,before.stages.map(fn));
+        }
+        return new MapOperator<>(source,fn);
+    }
+
+    public static <T> Operator<T> filter(Operator<T> source, Predicate<? super T> predicate){
+        if(source instanceof FilterOperator){
+            FilterOperator<T> before = (FilterOperator<T>)source;
+            return new FilterOperator<>(before.source,((Predicate<T>)before.predicate).and(predicate));
+        }
+        if(source instanceof MapOperator){
+            MapOperator<?,T> before = (MapOperator<?,T>)source;
+            return new FusedOperator<>(before.source,FusedStages.of(before.mapper).filter(predicate));
+        }
+        if(source instanceof FusedOperator){
+            FusedOperator<?,T> before = (FusedOperator<?,T>)source;
+            return new FusedOperator<>(before.source,before.stages.filter(predicate));
+        }
+        return new FilterOperator<>(source,predicate);
+    }
+
+    /**
+     * A flatMap that absorbs any upstream map stages into its mapping function
+     */
+    public static <T,R> Operator<R> flatMap(Operator<T> source, Function<? super T, ? extends Stream<? extends R>> fn){
+        if(source instanceof MapOperator){
+            return composeFlatMap((MapOperator<?,T>)source,fn);
+        }
+        return new FlatMapOperator<>(source,fn);
+    }
+    private static <S,T,R> Operator<R> composeFlatMap(MapOperator<S,T> before, Function<? super T, ? extends Stream<? extends R>> fn){
+        Function<? super S, ? extends Stream<? extends R>> composed = before.mapper.andThen(fn);
+        return new FlatMapOperator<>(before.source,composed);
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribe(e-> {
+                    try {
+                        Object res = stages.apply(e);
+                        if(res!=FusedStages.FILTERED)
+                            onNext.accept((R)res);
+                        else{
+                            request( upstream,1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        Object res = stages.apply(e);
+                        if(res!=FusedStages.FILTERED)
+                            onNext.accept((R)res);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
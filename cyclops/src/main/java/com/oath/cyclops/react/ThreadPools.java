@@ -81,6 +81,39 @@ public class ThreadPools {
                                     1);
     }
 
+    /**
+     * @return Executor that runs each task on its own virtual thread (JDK 21 and later), suitable for blocking tasks.
+     *         On older JDKs an elastic (cached) pool of platform threads is used instead.
+     */
+    public static Executor getVirtualThreadExecutor() {
+        return VirtualThreads.executor;
+    }
+
+    /**
+     * @return true if this JDK supports virtual threads, and {@link #getVirtualThreadExecutor()} uses them
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VirtualThreads.supported;
+    }
+
+    private static final class VirtualThreads {
+        private static final boolean supported;
+        private static final Executor executor;
+
+        static {
+            Executor virtual = null;
+            try {
+                //looked up reflectively, as we compile against Java 8
+                virtual = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                                                    .invoke(null);
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                //pre JDK 21
+            }
+            supported = virtual != null;
+            executor = supported ? virtual : Executors.newCachedThreadPool();
+        }
+    }
+
     public static boolean isUseCommon() {
         return useCommon;
     }
@@ -0,0 +1,261 @@
+package com.oath.cyclops.util.stream.scheduling;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel - timers are hashed by deadline into a ring of buckets, a single worker thread advances one
+ * bucket per tick and runs the timers in it that are due. Timers fire at most one tick late and never early.
+ *
+ * Scheduling and cancelling are O(1) and lock free : new and cancelled timers are pushed onto lock-free stacks, and
+ * moved into (or unlinked from) their bucket by the worker on its next tick. Unlike a ScheduledThreadPoolExecutor there
+ * is no shared heap to keep ordered, so hundreds of thousands of outstanding timers (e.g. timeouts, most of which are
+ * cancelled) cost a list node each.
+ *
+ * The worker parks indefinitely while there are no timers.
+ */
+public final class HashedWheelScheduler implements Scheduler {
+
+    private static final int WAITING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private static final AtomicReferenceFieldUpdater<HashedWheelScheduler, Node> PENDING = AtomicReferenceFieldUpdater.newUpdater(HashedWheelScheduler.class,
+                                                                                                                                  Node.class,
+                                                                                                                                  "pending");
+    private static final AtomicReferenceFieldUpdater<HashedWheelScheduler, Node> CANCELLED_NODES = AtomicReferenceFieldUpdater.newUpdater(HashedWheelScheduler.class,
+                                                                                                                                          Node.class,
+                                                                                                                                          "cancelled");
+
+    private final long tickNanos;
+    private final Node[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Thread worker;
+
+    private volatile Node pending;
+    private volatile Node cancelled;
+    private volatile boolean idle;
+    private volatile boolean running = true;
+
+    //only accessed by the worker thread
+    private long tick;
+    private int active;
+
+    /**
+     * @param tick Time between ticks, the resolution of the wheel
+     * @param unit TimeUnit for tick
+     * @param buckets Number of buckets, rounded up to a power of 2 - timers more than one rotation away are visited
+     *        (but not run) once per rotation
+     */
+    public HashedWheelScheduler(final long tick, final TimeUnit unit, final int buckets) {
+        if (tick <= 0)
+            throw new IllegalArgumentException("tick must be greater than 0 " + tick);
+        if (buckets < 1 || buckets > 1 << 30)
+            throw new IllegalArgumentException("buckets must be between 1 and 2^30 " + buckets);
+        this.tickNanos = unit.toNanos(tick);
+        this.wheel = new Node[buckets == 1 ? 1 : Integer.highestOneBit(buckets - 1) << 1];
+        this.mask = wheel.length - 1;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(
+                                 this::run, "cyclops-wheel-scheduler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * @return Scheduler shared by the time based operators in cyclops, 1ms ticks and 4096 buckets
+     */
+    public static HashedWheelScheduler shared() {
+        return Shared.INSTANCE;
+    }
+
+    private static final class Shared {
+        static final HashedWheelScheduler INSTANCE = new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, 4096);
+    }
+
+    /**
+     * @return Resolution of the wheel in nanoseconds, timers may fire up to one tick late
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    @Override
+    public Timer schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        if (!running)
+            throw new IllegalStateException(
+                                            "Scheduler has been shutdown");
+        final long delayNanos = Math.max(0, unit.toNanos(delay));
+        long deadline = System.nanoTime() - startTime + delayNanos;
+        if (deadline < 0)
+            deadline = Long.MAX_VALUE;
+        final Node node = new Node(
+                                   this, task, deadline);
+        Node head;
+        do {
+            head = pending;
+            node.nextPending = head;
+        } while (!PENDING.compareAndSet(this, head, node));
+        if (idle)
+            LockSupport.unpark(worker);
+        return node;
+    }
+
+    /**
+     * Stop the worker thread, timers that have not yet fired are discarded
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    private void cancelled(final Node node) {
+        Node head;
+        do {
+            head = cancelled;
+            node.nextCancelled = head;
+        } while (!CANCELLED_NODES.compareAndSet(this, head, node));
+    }
+
+    private void run() {
+        while (running) {
+            transferPending();
+            removeCancelled();
+            if (active == 0) {
+                idle = true;
+                if (pending == null && running)
+                    LockSupport.park(this);
+                idle = false;
+                //the wheel was empty, so it can skip straight to the current time
+                tick = Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+                continue;
+            }
+            final long tickEnd = startTime + (tick + 1) * tickNanos;
+            long sleep;
+            while ((sleep = tickEnd - System.nanoTime()) > 0 && running)
+                LockSupport.parkNanos(this, sleep);
+            transferPending();
+            removeCancelled();
+            expire((int) (tick & mask));
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Node next = PENDING.getAndSet(this, null);
+        while (next != null) {
+            final Node node = next;
+            next = node.nextPending;
+            node.nextPending = null;
+            if (node.state == WAITING)
+                add(node);
+        }
+    }
+
+    private void removeCancelled() {
+        Node next = CANCELLED_NODES.getAndSet(this, null);
+        while (next != null) {
+            final Node node = next;
+            next = node.nextCancelled;
+            node.nextCancelled = null;
+            if (node.bucket >= 0)
+                unlink(node);
+        }
+    }
+
+    private void add(final Node node) {
+        final long due = node.deadline / tickNanos;
+        node.rounds = (due - tick) / wheel.length;
+        final int bucket = (int) (Math.max(due, tick) & mask);
+        node.bucket = bucket;
+        node.next = wheel[bucket];
+        if (node.next != null)
+            node.next.prev = node;
+        wheel[bucket] = node;
+        active++;
+    }
+
+    private void unlink(final Node node) {
+        if (node.prev != null)
+            node.prev.next = node.next;
+        else
+            wheel[node.bucket] = node.next;
+        if (node.next != null)
+            node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        node.bucket = -1;
+        active--;
+    }
+
+    private void expire(final int bucket) {
+        Node next = wheel[bucket];
+        while (next != null) {
+            final Node node = next;
+            next = node.next;
+            if (node.state != WAITING) {
+                unlink(node);
+            } else if (node.rounds <= 0) {
+                unlink(node);
+                if (Node.STATE.compareAndSet(node, WAITING, EXPIRED)) {
+                    try {
+                        node.task.run();
+                    } catch (final Throwable t) {
+                        worker.getUncaughtExceptionHandler()
+                              .uncaughtException(worker, t);
+                    }
+                }
+            } else {
+                node.rounds--;
+            }
+        }
+    }
+
+    private static final class Node implements Timer {
+
+        static final AtomicIntegerFieldUpdater<Node> STATE = AtomicIntegerFieldUpdater.newUpdater(Node.class, "state");
+
+        private final HashedWheelScheduler scheduler;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = WAITING;
+
+        //links for the pending and cancelled stacks
+        private Node nextPending;
+        private Node nextCancelled;
+
+        //only accessed by the worker thread
+        private long rounds;
+        private int bucket = -1;
+        private Node prev;
+        private Node next;
+
+        Node(final HashedWheelScheduler scheduler, final Runnable task, final long deadline) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (STATE.compareAndSet(this, WAITING, CANCELLED)) {
+                scheduler.cancelled(this);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+}
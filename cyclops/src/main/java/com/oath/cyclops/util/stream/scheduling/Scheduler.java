@@ -0,0 +1,70 @@
+package com.oath.cyclops.util.stream.scheduling;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tasks after a delay.
+ *
+ * Tasks scheduled directly are run on the Scheduler's own thread and should be short, use
+ * {@link Scheduler#schedule(Runnable, long, TimeUnit, Executor)} to hand longer running tasks off to an Executor.
+ *
+ * <pre>
+ * {@code
+ *   Scheduler.Timer timer = Scheduler.shared()
+ *                                    .schedule(()->System.out.println("hello"),100,TimeUnit.MILLISECONDS,ex);
+ *   timer.cancel();
+ * }
+ * </pre>
+ */
+public interface Scheduler {
+
+    /**
+     * @param task Task to run once the delay has elapsed
+     * @param delay Delay before running the task (values less than or equal to zero run the task on the next tick)
+     * @param unit TimeUnit for the delay
+     * @return Timer that can be used to cancel the task
+     */
+    Timer schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * @param task Task to run once the delay has elapsed
+     * @param delay Delay before running the task
+     * @param unit TimeUnit for the delay
+     * @param ex Executor to run the task on
+     * @return Timer that can be used to cancel the task
+     */
+    default Timer schedule(final Runnable task, final long delay, final TimeUnit unit, final Executor ex) {
+        return schedule(() -> ex.execute(task), delay, unit);
+    }
+
+    /**
+     * @return Scheduler shared by the time based operators in cyclops, backed by a single daemon thread
+     */
+    static Scheduler shared() {
+        return HashedWheelScheduler.shared();
+    }
+
+    /**
+     * A scheduled task
+     */
+    interface Timer {
+
+        /**
+         * Cancel the task, if it has not already run
+         *
+         * @return true if the task was cancelled by this call
+         */
+        boolean cancel();
+
+        /**
+         * @return true if the task was cancelled before it could run
+         */
+        boolean isCancelled();
+
+        /**
+         * @return true if the delay has elapsed and the task has been run (or handed off to an Executor)
+         */
+        boolean isExpired();
+    }
+}
@@ -691,39 +691,142 @@ public interface Eval<T> extends To<Eval<T>>,Function0<T>,
             return Eval.now(value.orElse(null));
         }
 
+        /**
+         * A lazy, memoized Eval. map / flatMap do not wrap each stage in its own memoizing Supplier and Trampoline, instead
+         * every stage is a Later that points back to the stage it was built from. Accessing the value unwinds the chain onto a
+         * stack and evaluates it in a single loop, caching each stage's result in that stage's own memo cell.
+         *
+         * Each stage is evaluated under its own lock, so its function runs at most once (unless it throws), and once its
+         * value is memoized a stage drops its references to the upstream chain.
+         */
         public static class Later<T> implements Eval<T> {
 
+            private static final Object UNSET = new Object();
+            //marks the point on the stack where the Eval returned by a flatMap stage has been fully evaluated
+            private static final Object JOIN = new Object();
 
-            private final Supplier<T> memo;
-            private final Trampoline<T> evaluate;
-            Later(Rec<?, T> in) {
-                memo = Memoize.memoizeSupplier(()->in.toTrampoline().get());
-                evaluate = in.toTrampoline();
-            }
+            //guarded by this, released once the value has been memoized
+            private Supplier<T> supplier;
+            private Later<?> previous;
+            private Function<Object, ?> fn;
+            //the Later returned by this flatMap stage's function, while it is being evaluated
+            private Later<?> inner;
+            private final boolean flatMap;
+            private volatile Object value = UNSET;
 
             Later(Supplier<T> s){
-                memo = Memoize.memoizeSupplier(s);
-                evaluate = Trampoline.more(()->Trampoline.done(memo.get()));
+                this.supplier = s;
+                this.flatMap = false;
+            }
+
+            private Later(Later<?> previous, Function<?, ?> fn, boolean flatMap){
+                this.previous = previous;
+                this.fn = (Function<Object, ?>)fn;
+                this.flatMap = flatMap;
             }
 
             @Override
             public <R> Eval<R> map(Function<? super T, ? extends R> mapper) {
-                return flatMap(i->Eval.later(()-> mapper.apply(i)));
+                return new Later<R>(this, mapper, false);
             }
 
             @Override
             public <R> Eval<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-                return new Later<R>( new Rec<T, R>(this, Memoize.memoizeFunction(mapper)));
+                return new Later<R>(this, mapper, true);
             }
             @Override
             public Trampoline<T> toTrampoline(){
-                return evaluate;
+                return Trampoline.more(()->Trampoline.done(get()));
             }
 
 
             @Override
             public T get() {
-                return memo.get();
+                Object result = value;
+                if (result == UNSET)
+                    result = evaluate(this);
+                return (T)result;
+            }
+
+            //call while holding this lock
+            private Object memoize(Object result) {
+                value = result;
+                supplier = null;
+                previous = null;
+                fn = null;
+                inner = null;
+                return result;
+            }
+
+            private synchronized Object join(Object result) {
+                Object current = value;
+                return current == UNSET ? memoize(result) : current;
+            }
+
+            /*
+             * Evaluate the chain ending with target, without recursing - Laters returned from flatMap stages have their own
+             * stages pushed onto the same stack
+             */
+            private static Object evaluate(Later<?> target) {
+                final ArrayDeque<Object> stack = new ArrayDeque<>();
+                Object current = unwind(target, stack);
+                while (!stack.isEmpty()) {
+                    Object next = stack.pop();
+                    if (next == JOIN) {
+                        current = ((Later<?>)stack.pop()).join(current);
+                        continue;
+                    }
+                    Later<?> stage = (Later<?>)next;
+                    Object result;
+                    Later<?> inner;
+                    synchronized (stage) {
+                        result = stage.value;
+                        inner = stage.inner;
+                        if (result == UNSET && inner == null) {
+                            Object applied = stage.fn.apply(current);
+                            if (!stage.flatMap) {
+                                result = stage.memoize(applied);
+                            } else {
+                                Eval<?> eval = Eval.fromIterable((MonadicValue<?>)applied);
+                                if (eval instanceof Later && ((Later<?>)eval).value == UNSET)
+                                    inner = stage.inner = (Later<?>)eval;
+                                else
+                                    result = stage.memoize(eval.get());
+                            }
+                        }
+                    }
+                    if (result == UNSET) {
+                        stack.push(stage);
+                        stack.push(JOIN);
+                        current = unwind(inner, stack);
+                    } else {
+                        current = result;
+                    }
+                }
+                return current;
+            }
+
+            /*
+             * Push the unevaluated stages leading to (and including) from onto the stack, returning the value they start from
+             */
+            private static Object unwind(Later<?> from, ArrayDeque<Object> stack) {
+                Later<?> next = from;
+                while (true) {
+                    Object result = next.value;
+                    if (result != UNSET)
+                        return result;
+                    Later<?> previous;
+                    synchronized (next) {
+                        result = next.value;
+                        if (result != UNSET)
+                            return result;
+                        if (next.supplier != null)
+                            return next.memoize(next.supplier.get());
+                        previous = next.previous;
+                    }
+                    stack.push(next);
+                    next = previous;
+                }
             }
 
 
@@ -21,6 +21,7 @@ import com.oath.cyclops.types.MonadicValue;
 import com.oath.cyclops.types.Zippable;
 
 import com.oath.cyclops.util.box.Mutable;
+import com.oath.cyclops.util.stream.scheduling.Scheduler;
 
 import cyclops.companion.CompletableFutures;
 
@@ -29,14 +30,19 @@ import cyclops.function.Function3;
 import cyclops.function.Function4;
 import cyclops.reactive.ReactiveSeq;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -167,25 +173,34 @@ public class Future<T> implements To<Future<T>>,
     }
 
     /**
-     * Select the first Future to complete
+     * Select the first Future to complete. Once a winner is known the remaining (losing) Futures are cancelled, so that
+     * tasks which have not yet started will not run.
      *
      * @see CompletableFuture#anyOf(CompletableFuture...)
      * @param fts Futures to race
      * @return First Future to complete
      */
     public static <T> Future<T> anyOf(Future<T>... fts) {
-      CompletableFuture<T>[] array = new CompletableFuture[fts.length];
-      for(int i=0;i<fts.length;i++){
-        array[i] = fts[i].getFuture();
-      }
-
-       return (Future<T>) Future.of(CompletableFuture.anyOf(array));
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        for (final Future<T> next : fts) {
+            next.future.whenComplete((v, e) -> {
+                if (e == null)
+                    result.complete(v);
+                else
+                    result.completeExceptionally(e);
+            });
+        }
+        cancelOnCompletion(result, fts);
+        return Future.of(result);
     }
     /**
      * Wait until all the provided Future's to complete
      *
      * @see CompletableFuture#allOf(CompletableFuture...)
      *
+     * Cancelling the returned Future (e.g. via {@link Future#withTimeout(long, TimeUnit, ScheduledExecutorService)})
+     * cancels all the provided Futures.
+     *
      * @param fts Futures to  wait on
      * @return Future that completes when all the provided Futures Complete. Empty Future result, or holds an Exception
      *         from a provided Future that failed.
@@ -195,7 +210,9 @@ public class Future<T> implements To<Future<T>>,
       for(int i=0;i<fts.length;i++){
         array[i] = fts[i].getFuture();
       }
-        return (Future<T>) Future.of(CompletableFuture.allOf(array));
+        final CompletableFuture<Void> all = CompletableFuture.allOf(array);
+        cancelOnCancellation(all, fts);
+        return (Future<T>) Future.of(all);
      }
 
     /**
@@ -211,19 +228,122 @@ public class Future<T> implements To<Future<T>>,
      * }
      * </pre>
      *
+     * Once a Future succeeds the remaining (losing) Futures are cancelled. If every Future fails, the result fails
+     * with the last error.
+     *
      * @param fts Futures to race
      * @return First Future to return with a result
      */
     @SafeVarargs
     public static <T> Future<T> firstSuccess(Future<T>... fts) {
-        Future<T> future = Future.future();
-        Stream.of(fts)
-              .forEach(f->f.peek(r->future.complete(r)));
-        Future<T> all = allOf(fts).recover(e->{ future.completeExceptionally(e); return null;});
-        return future;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final AtomicInteger remaining = new AtomicInteger(fts.length);
+        for (final Future<T> next : fts) {
+            next.future.whenComplete((v, e) -> {
+                if (e == null)
+                    result.complete(v);
+                else if (remaining.decrementAndGet() == 0)
+                    result.completeExceptionally(e);
+            });
+        }
+        cancelOnCompletion(result, fts);
+        return Future.of(result);
 
       }
 
+    private static void cancelOnCompletion(final CompletableFuture<?> result, final Future<?>[] fts) {
+        result.whenComplete((v, e) -> {
+            for (final Future<?> next : fts)
+                next.future.cancel(true);
+        });
+    }
+
+    private static void cancelOnCancellation(final CompletableFuture<?> result, final Object[] fts) {
+        result.whenComplete((v, e) -> {
+            if (result.isCancelled()) {
+                for (final Object next : fts)
+                    ((Future<?>) next).future.cancel(true);
+            }
+        });
+    }
+
+    /**
+     * Fail with a {@link TimeoutException} if this Future has not completed within the specified time. On timeout this
+     * Future is cancelled, cancelling the returned Future also cancels this Future.
+     *
+     * <pre>
+     * {@code
+     *    Future<Integer> deadline = Future.anyOf(primary,backup)
+     *                                     .withTimeout(100,TimeUnit.MILLISECONDS,scheduler);
+     *    //primary and backup are cancelled if neither completes within 100ms
+     * }
+     * </pre>
+     *
+     * @param time Time to wait
+     * @param unit TimeUnit for time
+     * @param ex Executor the timeout (and any callbacks triggered by cancelling this Future) runs on, the timer itself
+     *           is held by the shared {@link Scheduler}
+     * @return Future with the result of this Future, or a TimeoutException
+     */
+    public Future<T> withTimeout(final long time, final TimeUnit unit, final ScheduledExecutorService ex) {
+        if (future.isDone())
+            return this;
+        final Deadline<T> deadline = new Deadline<>(future, time, unit);
+        final Scheduler.Timer timer = Scheduler.shared()
+                                               .schedule(deadline, time, unit, ex);
+        future.whenComplete(deadline);
+        deadline.result.whenComplete((v, e) -> {
+            timer.cancel();
+            if (deadline.result.isCancelled())
+                future.cancel(true);
+        });
+        return Future.of(deadline.result);
+    }
+
+    /*
+     * Forwards the result of source, unless the timer fires first - in which case source is cancelled before the result
+     * fails with a TimeoutException
+     */
+    private static final class Deadline<T> implements Runnable, BiConsumer<T, Throwable> {
+        private final CompletableFuture<T> source;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long time;
+        private final TimeUnit unit;
+        private volatile boolean expired;
+
+        Deadline(final CompletableFuture<T> source, final long time, final TimeUnit unit) {
+            this.source = source;
+            this.time = time;
+            this.unit = unit;
+        }
+
+        @Override
+        public void run() {
+            expired = true;
+            if (source.cancel(true))
+                result.completeExceptionally(new TimeoutException(
+                                                                  "Future did not complete within " + time + " " + unit));
+        }
+
+        @Override
+        public void accept(final T value, final Throwable error) {
+            if (error == null)
+                result.complete(value);
+            else if (!(expired && source.isCancelled()))
+                result.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * @see Future#withTimeout(long, TimeUnit, ScheduledExecutorService)
+     * @param timeout Time to wait
+     * @param ex Executor the timeout runs on
+     * @return Future with the result of this Future, or a TimeoutException
+     */
+    public Future<T> withTimeout(final Duration timeout, final ScheduledExecutorService ex) {
+        return withTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS, ex);
+    }
+
     /**
      * Complete this Future with an Exception
      * @see CompletableFuture#completeExceptionally(Throwable)
@@ -453,6 +573,9 @@ public class Future<T> implements To<Future<T>>,
      *
      * }</pre>
      *
+     * The delay is tracked by the shared {@link Scheduler}, cancelling the Future before it is populated cancels the
+     * scheduled task.
+     *
      * @param delay Delay after which the Future should be populated
      * @param ex ScheduledExecutorService used to execute the provided Supplier
      * @param t he Supplier to execute to populate the Future
@@ -462,17 +585,18 @@ public class Future<T> implements To<Future<T>>,
         final CompletableFuture<T> future = new CompletableFuture<>();
         final Future<T> wrapped = Future.of(future);
 
-        ReactiveSeq.generate(() -> {
-            try {
-                future.complete(t.get());
-            } catch (final Throwable t1) {
-                future.completeExceptionally(t1);
-            }
-            return 1;
-
-        })
-                   .limit(1)
-                   .scheduleFixedDelay(delay, ex);
+        final Scheduler.Timer timer = Scheduler.shared()
+                                               .schedule(() -> {
+                                                   try {
+                                                       future.complete(t.get());
+                                                   } catch (final Throwable t1) {
+                                                       future.completeExceptionally(t1);
+                                                   }
+                                               }, delay, TimeUnit.MILLISECONDS, ex);
+        future.whenComplete((v, e) -> {
+            if (future.isCancelled())
+                timer.cancel();
+        });
 
         return wrapped;
     }
@@ -493,8 +617,20 @@ public class Future<T> implements To<Future<T>>,
      * @return Future with a List
      */
     public static <T> Future<ReactiveSeq<T>> sequence(final Iterable<? extends Future<T>> fts) {
-        return sequence(ReactiveSeq.fromIterable(fts));
+        return sequence(toArray(fts), Function.identity());
+
+    }
 
+    /**
+     * Sequence operation that convert an array of Futures to a Future with a Stream, the result fails as soon as any
+     * of the provided Futures fails
+     *
+     * @param fts Futures to Sequence into a Future with a Stream
+     * @return Future with a Stream
+     */
+    @SafeVarargs
+    public static <T> Future<ReactiveSeq<T>> sequence(final Future<T>... fts) {
+        return sequence(fts, Function.identity());
     }
 
     /**
@@ -513,18 +649,60 @@ public class Future<T> implements To<Future<T>>,
      * @return Future with a Stream
      */
     public static <T> Future<ReactiveSeq<T>> sequence(final Stream<? extends Future<T>> fts) {
-        return sequence(ReactiveSeq.fromStream(fts));
+        return sequence(fts.toArray(), Function.identity());
     }
   public static  <T> Future<ReactiveSeq<T>> sequence(ReactiveSeq<? extends Future<T>> stream) {
+    return sequence(stream.toArray(), Function.identity());
+  }
 
-    Future<ReactiveSeq<T>> identity = Future.ofResult(ReactiveSeq.empty());
-
-    BiFunction<Future<ReactiveSeq<T>>,Future<T>,Future<ReactiveSeq<T>>> combineToStream = (acc,next) ->acc.zip(next,(a,b)->a.append(b));
-
-    BinaryOperator<Future<ReactiveSeq<T>>> combineStreams = (a,b)-> a.zip(b,(z1,z2)->z1.appendStream(z2));
+    /*
+     * Counter based join : each Future writes its result into its own slot, and the last one to complete finishes the
+     * result. Futures that have already completed successfully are read directly without registering a callback.
+     */
+    private static <T, R> Future<R> sequence(final Object[] fts, final Function<? super ReactiveSeq<T>, ? extends R> fn) {
+        final Object[] values = new Object[fts.length];
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        final AtomicInteger remaining = new AtomicInteger(fts.length + 1);
+        final Runnable finish = () -> {
+            try {
+                result.complete(fn.apply(ReactiveSeq.of((T[]) values)));
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        };
+        for (int i = 0; i < fts.length; i++) {
+            final CompletableFuture<T> next = ((Future<T>) fts[i]).future;
+            if (next.isDone() && !next.isCompletedExceptionally()) {
+                values[i] = next.join();
+                remaining.decrementAndGet();
+                continue;
+            }
+            final int index = i;
+            next.whenComplete((v, e) -> {
+                if (e != null) {
+                    result.completeExceptionally(e);
+                } else {
+                    values[index] = v;
+                    if (remaining.decrementAndGet() == 0)
+                        finish.run();
+                }
+            });
+        }
+        if (remaining.decrementAndGet() == 0)
+            finish.run();
+        else
+            cancelOnCancellation(result, fts);
+        return Future.of(result);
+    }
 
-    return stream.reduce(identity,combineToStream,combineStreams);
-  }
+    private static Object[] toArray(final Iterable<?> it) {
+        if (it instanceof Collection)
+            return ((Collection<?>) it).toArray();
+        final List<Object> list = new ArrayList<>();
+        for (final Object next : it)
+            list.add(next);
+        return list.toArray();
+    }
   public static <T,R> Future<ReactiveSeq<R>> traverse(Function<? super T,? extends R> fn,ReactiveSeq<Future<T>> stream) {
     ReactiveSeq<Future<R>> s = stream.map(h -> h.map(fn));
     return sequence(s);
@@ -572,7 +750,7 @@ public class Future<T> implements To<Future<T>>,
      * @return Future asynchronously populated with the accumulate success operation
      */
     public static <T, R> Future<R> accumulate(final Iterable<Future<T>> fts, final Reducer<R,T> reducer) {
-        return sequence(fts).map(s -> s.foldMap(reducer));
+        return sequence(toArray(fts), (ReactiveSeq<T> s) -> s.foldMap(reducer));
     }
     /**
      * Asynchronously accumulate the results only from those Futures which have completed successfully, using the supplied mapping function to
@@ -636,9 +814,9 @@ public class Future<T> implements To<Future<T>>,
      * @return Future asynchronously populated with the accumulate operation
      */
     public static <T, R> Future<R> accumulate(final Iterable<Future<T>> fts, final Function<? super T, R> mapper, final Monoid<R> reducer) {
-        return sequence(fts).map(s -> s.map(mapper)
-                                       .reduce(reducer)
-                                       );
+        return sequence(toArray(fts), (ReactiveSeq<T> s) -> s.map(mapper)
+                                                             .reduce(reducer)
+                                                             );
     }
 
     /**
@@ -661,8 +839,8 @@ public class Future<T> implements To<Future<T>>,
      * @return Future asynchronously populated with the accumulate operation
      */
     public static <T> Future<T> accumulate(final Monoid<T> reducer, final Iterable<Future<T>> fts) {
-        return sequence(fts).map(s -> s.reduce(reducer)
-                                      );
+        return sequence(toArray(fts), (ReactiveSeq<T> s) -> s.reduce(reducer)
+                                                            );
     }
 
 
@@ -1,5 +1,6 @@
 package cyclops.control;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.function.BiFunction;
@@ -101,21 +102,18 @@ public interface Trampoline<T> extends Value<T>, Function0<T>,To<Trampoline<T>>
     default <R>  Trampoline<R> mapFn(Function<? super T, ? extends R> fn){
       return map(fn);
     }
+    /**
+     * Lazily transform the result of this Trampoline, no work is done until the result is requested
+     */
     default <R>  Trampoline<R> map(Function<? super T, ? extends R> fn){
-      Either<Trampoline<T>,T> e = resume();
-      return e.fold(left->{
-        return Trampoline.more(()->left.map(fn));
-      },right->{
-        return Trampoline.done(fn.apply(right));
-      });
+      return new Module.Map<>(this,fn);
     }
+    /**
+     * Lazily chain another Trampoline onto this one. Chains of any depth (nested to the left or the right) are
+     * evaluated by a single loop, in linear time and constant stack.
+     */
     default <R>  Trampoline<R> flatMap(Function<? super T, ? extends Trampoline<R>> fn){
-      Either<Trampoline<T>,T> e = resume();
-      return e.fold(left->{
-        return Trampoline.more(()->left.flatMap(fn));
-      },right->{
-        return fn.apply(right);
-      });
+      return new Module.FlatMap<>(this,fn);
     }
     default  <B,R> Trampoline<R> zip(Trampoline<B> b,BiFunction<? super T,? super B,? extends R> zipper){
 
@@ -252,16 +250,7 @@ public interface Trampoline<T> extends Value<T>, Function0<T>,To<Trampoline<T>>
 
             @Override
             public T get() {
-                return trampoline(this);
-            }
-
-            T trampoline(final Trampoline<T> trampoline) {
-                Trampoline<T> current = trampoline;
-                while(!current.complete()){
-                    current = current.bounce();
-                }
-                return current.get();
-
+                return Module.run(this);
             }
         };
     }
@@ -273,4 +262,117 @@ public interface Trampoline<T> extends Value<T>, Function0<T>,To<Trampoline<T>>
     }
 
 
+    static class Module {
+
+        /**
+         * Evaluate a Trampoline with a single loop. Pending map / flatMap stages are kept on an explicit stack, so
+         * binds are reassociated as they are unwound - rather than by re-wrapping (and re-walking) the chain each step.
+         */
+        static <T> T run(final Trampoline<T> trampoline) {
+            Trampoline<?> current = trampoline;
+            ArrayDeque<Bind<Object, Object>> stack = null;
+            for (;;) {
+                if (current instanceof Bind) {
+                    final Bind<Object, Object> bind = (Bind<Object, Object>) current;
+                    if (stack == null)
+                        stack = new ArrayDeque<>();
+                    stack.push(bind);
+                    current = bind.source;
+                    continue;
+                }
+                if (!current.complete()) {
+                    current = current.bounce();
+                    continue;
+                }
+                Object value = current.get();
+                for (;;) {
+                    final Bind<Object, Object> next = stack == null ? null : stack.poll();
+                    if (next == null)
+                        return (T) value;
+                    if (next instanceof Map) {
+                        //apply maps in place, without a Trampoline per stage
+                        value = ((Map<Object, Object>) next).fn.apply(value);
+                        continue;
+                    }
+                    current = ((FlatMap<Object, Object>) next).fn.apply(value);
+                    break;
+                }
+            }
+        }
+
+        abstract static class Bind<A, T> implements Trampoline<T> {
+            final Trampoline<A> source;
+
+            Bind(final Trampoline<A> source) {
+                this.source = source;
+            }
+
+            abstract Trampoline<T> continueWith(A value);
+
+            abstract Trampoline<T> withSource(Trampoline<A> source);
+
+            @Override
+            public boolean complete() {
+                return false;
+            }
+
+            /**
+             * A single step, for callers that interleave Trampolines (e.g. zip)
+             */
+            @Override
+            public Trampoline<T> bounce() {
+                if (source instanceof Bind) {
+                    final Bind<Object, A> inner = (Bind<Object, A>) source;
+                    return new FlatMap<Object, T>(inner.source, x -> withSource(inner.continueWith(x)));
+                }
+                if (source.complete())
+                    return continueWith(source.get());
+                return withSource(source.bounce());
+            }
+
+            @Override
+            public T get() {
+                return run(this);
+            }
+        }
+
+        static final class Map<A, T> extends Bind<A, T> {
+            final Function<? super A, ? extends T> fn;
+
+            Map(final Trampoline<A> source, final Function<? super A, ? extends T> fn) {
+                super(source);
+                this.fn = fn;
+            }
+
+            @Override
+            Trampoline<T> continueWith(final A value) {
+                return Trampoline.done(fn.apply(value));
+            }
+
+            @Override
+            Trampoline<T> withSource(final Trampoline<A> source) {
+                return new Map<>(source, fn);
+            }
+        }
+
+        static final class FlatMap<A, T> extends Bind<A, T> {
+            final Function<? super A, ? extends Trampoline<T>> fn;
+
+            FlatMap(final Trampoline<A> source, final Function<? super A, ? extends Trampoline<T>> fn) {
+                super(source);
+                this.fn = fn;
+            }
+
+            @Override
+            Trampoline<T> continueWith(final A value) {
+                return fn.apply(value);
+            }
+
+            @Override
+            Trampoline<T> withSource(final Trampoline<A> source) {
+                return new FlatMap<>(source, fn);
+            }
+        }
+    }
+
 }
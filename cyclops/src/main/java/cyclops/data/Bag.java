@@ -3,12 +3,14 @@ package cyclops.data;
 import com.oath.cyclops.hkt.Higher;
 import com.oath.cyclops.types.persistent.PersistentBag;
 import com.oath.cyclops.hkt.DataWitness.bag;
+import cyclops.data.base.HAMT;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.function.Function;
@@ -33,18 +35,14 @@ public final class Bag<T> implements ImmutableSet<T>,
         return Bag.<T>empty().plus(value);
     }
     public static <T> Bag<T> of(T... values){
-        Bag<T> res = empty();
-        for(T next : values){
-            res = res.plus(next);
-        }
-        return res;
+        return Bag.<T>empty().plusAll(Arrays.asList(values));
     }
 
     public static <T> Bag<T> fromStream(Stream<T> values){
-        return ReactiveSeq.fromStream(values).foldLeft(empty(),(a,b)->a.plus(b));
+        return fromIterable(ReactiveSeq.fromStream(values));
     }
     public static <T> Bag<T> fromIterable(Iterable<? extends T> values){
-        return ReactiveSeq.fromIterable(values).foldLeft(empty(),(a,b)->a.plus(b));
+        return Bag.<T>empty().plusAll(values);
     }
 
 
@@ -118,11 +116,13 @@ public final class Bag<T> implements ImmutableSet<T>,
 
     @Override
     public Bag<T> plusAll(Iterable<? extends T> list) {
-        Bag<T> res = this;
+        HAMT.Transient<T,Integer> counts = HAMT.Transient.from(map.hamt());
+        int added = 0;
         for(T next : list){
-            res = res.plus(next);
+            counts.put(next,counts.getOrElse(next,0)+1);
+            added++;
         }
-        return res;
+        return new Bag<>(new HashMap<>(counts.freeze()),size+added);
     }
 
 
@@ -0,0 +1,393 @@
+package cyclops.data;
+
+
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
+import cyclops.control.Option;
+import cyclops.data.base.PrimitiveBAMT;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector of unboxed double values. Elements are stored in double[] leaves of a {@link PrimitiveBAMT} and
+ * structural sharing works as for {@link Vector}, but map, filter and folds operate directly on the primitive values.
+ *
+ * <pre>
+ * {@code
+ *    DoubleVector.of(0.5,1.5,2.5)
+ *                .map(i->i*2)
+ *                .filter(i->i<5)
+ *                .foldLeft(0,(a,b)->a+b);
+ *
+ *    //4.0
+ * }
+ * </pre>
+ */
+public final class DoubleVector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final double[] EMPTY_TAIL = new double[0];
+    private static final DoubleVector EMPTY = new DoubleVector(PrimitiveBAMT.empty(),EMPTY_TAIL,0);
+
+    private final PrimitiveBAMT root;
+    private final double[] tail;
+    private final int size;
+
+    private DoubleVector(PrimitiveBAMT root, double[] tail, int size) {
+        this.root = root;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    public static DoubleVector empty(){
+        return EMPTY;
+    }
+
+    public static DoubleVector of(double... values){
+        return builder().appendAll(values)
+                        .build();
+    }
+
+    /**
+     * Construct a DoubleVector from a DoubleStream without boxing
+     *
+     * @param stream DoubleStream to populate the DoubleVector from
+     * @return DoubleVector containing the values in the Stream
+     */
+    public static DoubleVector fromDoubleStream(DoubleStream stream){
+        Builder builder = builder();
+        stream.forEachOrdered(builder::append);
+        return builder.build();
+    }
+
+    /**
+     * Construct a DoubleVector from a Stream of Double values, ReactiveSeqs backed by primitive Spliterators
+     * (such as those created via ReactiveSeq.ofDoubles) are not boxed.
+     *
+     * @param stream Stream to populate the DoubleVector from
+     * @return DoubleVector containing the values in the Stream
+     */
+    public static DoubleVector fromStream(Stream<Double> stream){
+        Spliterator<Double> split = stream.spliterator();
+        DoubleStream values = split instanceof Spliterator.OfDouble ? StreamSupport.doubleStream((Spliterator.OfDouble)split,stream.isParallel())
+                                                                    : StreamSupport.stream(split,stream.isParallel()).mapToDouble(i->i);
+        return fromDoubleStream(values);
+    }
+
+    public static DoubleVector fromIterable(Iterable<Double> it){
+        Builder builder = builder();
+        for(Double next : it){
+            builder.append(next);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return A mutable Builder for efficiently constructing a DoubleVector one element at a time
+     */
+    public static Builder builder(){
+        return new Builder(PrimitiveBAMT.Transient.empty(),new double[32],0);
+    }
+
+    /**
+     * @return A mutable Builder initialized with the contents of this DoubleVector. Appending via the Builder does not affect this DoubleVector
+     */
+    public Builder transientCopy(){
+        return new Builder(PrimitiveBAMT.Transient.from(root),Arrays.copyOf(tail,32),tail.length);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    public Option<Double> get(int pos){
+        if(pos<0||pos>=size){
+            return Option.none();
+        }
+        return Option.some(leafFor(pos)[pos & 0x01f]);
+    }
+
+    public double getOrElse(int pos, double alt){
+        if(pos<0||pos>=size){
+            return alt;
+        }
+        return leafFor(pos)[pos & 0x01f];
+    }
+
+    public DoubleVector plus(double value){
+        if(tail.length<32){
+            double[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new DoubleVector(root,newTail,size+1);
+        }
+        return new DoubleVector(root.appendLeaf(tail),new double[]{value},size+1);
+    }
+
+    public DoubleVector append(double value){
+        return plus(value);
+    }
+
+    public DoubleVector appendAll(double... values){
+        return transientCopy().appendAll(values)
+                              .build();
+    }
+
+    public DoubleVector appendAll(DoubleVector values){
+        Builder builder = transientCopy();
+        values.forEach(builder::append);
+        return builder.build();
+    }
+
+    public DoubleVector updateAt(int pos, double value){
+        if(pos<0||pos>=size){
+            return this;
+        }
+        int tailStart = size-tail.length;
+        if(pos>=tailStart){
+            double[] newTail = Arrays.copyOf(tail,tail.length);
+            newTail[pos-tailStart]=value;
+            return new DoubleVector(root,newTail,size);
+        }
+        double[] newLeaf = Arrays.copyOf((double[])root.leafFor(pos),32);
+        newLeaf[pos & 0x01f]=value;
+        return new DoubleVector(root.setLeaf(pos,newLeaf),tail,size);
+    }
+
+    public DoubleVector map(DoubleUnaryOperator fn){
+        return new DoubleVector(root.mapLeaves(l->mapArray((double[])l,fn)),mapArray(tail,fn),size);
+    }
+
+    public DoubleVector filter(DoublePredicate pred){
+        Builder builder = builder();
+        forEach(i->{
+            if(pred.test(i))
+                builder.append(i);
+        });
+        return builder.build();
+    }
+
+    public double foldLeft(double identity, DoubleBinaryOperator fn){
+        double[] res = {identity};
+        root.forEachLeaf(l->{
+            for(double next : (double[])l){
+                res[0] = fn.applyAsDouble(res[0],next);
+            }
+        });
+        for(double next : tail){
+            res[0] = fn.applyAsDouble(res[0],next);
+        }
+        return res[0];
+    }
+
+    public double sum(){
+        return foldLeft(0,(a,b)->a+b);
+    }
+
+    public void forEach(DoubleConsumer consumer){
+        root.forEachLeaf(l->{
+            for(double next : (double[])l){
+                consumer.accept(next);
+            }
+        });
+        for(double next : tail){
+            consumer.accept(next);
+        }
+    }
+
+    public double[] toArray(){
+        double[] res = new double[size];
+        int[] index = {0};
+        root.forEachLeaf(l->{
+            System.arraycopy(l,0,res,index[0],32);
+            index[0]+=32;
+        });
+        System.arraycopy(tail,0,res,index[0],tail.length);
+        return res;
+    }
+
+    public Spliterator.OfDouble spliterator(){
+        return new VectorSpliterator(0,size);
+    }
+
+    public DoubleStream doubleStream(){
+        return StreamSupport.doubleStream(spliterator(),false);
+    }
+
+    /**
+     * @return A ReactiveSeq over this DoubleVector backed by its primitive Spliterator. Elements are boxed as the
+     * ReactiveSeq is traversed, use {@link #doubleStream()} to traverse the values unboxed. {@link #fromStream(Stream)}
+     * reads the primitive Spliterator of an unmodified stream() directly.
+     */
+    public ReactiveSeq<Double> stream(){
+        return ReactiveSeq.fromSpliterator(spliterator());
+    }
+
+    public Vector<Double> boxed(){
+        Vector.Builder<Double> builder = Vector.builder();
+        forEach(builder::append);
+        return builder.build();
+    }
+
+    private double[] leafFor(int pos){
+        if(pos>=size-tail.length)
+            return tail;
+        return (double[])root.leafFor(pos);
+    }
+
+    private static double[] mapArray(double[] array, DoubleUnaryOperator fn){
+        double[] res = new double[array.length];
+        for(int i=0;i<array.length;i++){
+            res[i] = fn.applyAsDouble(array[i]);
+        }
+        return res;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this==o)
+            return true;
+        if(!(o instanceof DoubleVector))
+            return false;
+        DoubleVector other = (DoubleVector)o;
+        if(size!=other.size)
+            return false;
+        for(int i=0;i<size;i++){
+            if(Double.doubleToLongBits(getOrElse(i,0))!=Double.doubleToLongBits(other.getOrElse(i,0)))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for(int i=0;i<size;i++){
+            hashCode = 31*hashCode + Double.hashCode(getOrElse(i,0));
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("[");
+        for(int i=0;i<size;i++){
+            if(i>0)
+                b.append(", ");
+            b.append(getOrElse(i,0));
+        }
+        return b.append("]").toString();
+    }
+
+    /**
+     * A mutable Builder for DoubleVectors, see {@link Vector.Builder}. A Builder is not thread safe and should be confined to a
+     * single thread.
+     */
+    public static final class Builder{
+        private final PrimitiveBAMT.Transient trie;
+        private double[] tail;
+        private int tailSize;
+
+        private Builder(PrimitiveBAMT.Transient trie, double[] tail, int tailSize) {
+            this.trie = trie;
+            this.tail = tail;
+            this.tailSize = tailSize;
+        }
+
+        public Builder append(double value){
+            if(tailSize==32){
+                trie.appendLeaf(tail);
+                tail = new double[32];
+                tailSize=0;
+            }
+            tail[tailSize++]=value;
+            return this;
+        }
+
+        public Builder appendAll(double... values){
+            for(double next : values){
+                append(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return trie.size()+tailSize;
+        }
+
+        public DoubleVector build(){
+            return new DoubleVector(trie.freeze(),Arrays.copyOf(tail,tailSize),size());
+        }
+    }
+
+    final class VectorSpliterator implements Spliterator.OfDouble, CopyableSpliterator<Double>{
+        private int origin;
+        private int index;
+        private final int fence;
+
+        VectorSpliterator(int index, int fence) {
+            this.origin = index;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public OfDouble trySplit() {
+            int mid = (index + fence) >>> 1;
+            if(mid<=index)
+                return null;
+            VectorSpliterator split = new VectorSpliterator(index,mid);
+            origin = mid;
+            index = mid;
+            return split;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if(index<fence){
+                action.accept(getOrElse(index++,0));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            while(index<fence){
+                double[] leaf = leafFor(index);
+                int end = Math.min(32,fence-(index & ~0x01f));
+                for(int i=index & 0x01f;i<end;i++){
+                    action.accept(leaf[i]);
+                }
+                index+= end-(index & 0x01f);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence-index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+
+        @Override
+        public VectorSpliterator copy() {
+            return new VectorSpliterator(origin,fence);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import cyclops.control.Trampoline;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
 import com.oath.cyclops.hkt.DataWitness.hashMap;
+import cyclops.data.base.CHAMP;
 import cyclops.data.base.HAMT;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AllArgsConstructor;
@@ -31,7 +32,7 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     private static final long serialVersionUID = 1L;
 
     public static <K,V> HashMap<K,V> empty(){
-        return new HashMap<>(HAMT.empty());
+        return new HashMap<>(CHAMP.empty());
     }
     public static <K,V> HashMap<K,V> of(K k,V v){
         HashMap<K,V> res = empty();
@@ -40,21 +41,21 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromMap(Map<K,V> map){
-        HashMap<K,V> res = empty();
+        HAMT.Transient<K,V> res = HAMT.Transient.from(CHAMP.empty());
         for(Map.Entry<K,V> next : map.entrySet()){
-            res = res.put(next.getKey(),next.getValue());
+            res.put(next.getKey(),next.getValue());
         }
-        return res;
+        return new HashMap<>(res.freeze());
     }
     public static <K,V> HashMap<K,V> fromMap(PersistentMap<K,V> map){
         if(map instanceof HashMap){
             return (HashMap)map;
         }
-        HashMap<K,V> res = empty();
+        HAMT.Transient<K,V> res = HAMT.Transient.from(CHAMP.empty());
         for(Tuple2<K,V> next : map){
-            res = res.put(next._1(),next._2());
+            res.put(next._1(),next._2());
         }
-        return res;
+        return new HashMap<>(res.freeze());
     }
     public static <K,V> HashMap<K,V> of(K k1,V v1,K k2, V v2){
         HashMap<K,V> res = empty();
@@ -62,13 +63,19 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromStream(Stream<Tuple2<K,V>> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.put(t2._1(),t2._2()));
+        HAMT.Transient<K,V> res = HAMT.Transient.from(CHAMP.empty());
+        ReactiveSeq.fromStream(stream).forEach(t2->res.put(t2._1(),t2._2()));
+        return new HashMap<>(res.freeze());
     }
 
     public int size(){
         return map.size();
     }
 
+    HAMT.Node<K,V> hamt(){
+        return map;
+    }
+
 
     @Override
     public <K2, V2> DMap.Two<K, V, K2, V2> merge(ImmutableMap<K2, V2> one) {
@@ -198,11 +205,11 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> putAll(PersistentMap<? extends K, ? extends V> map) {
-        HashMap<K,V> res = this;
+        HAMT.Transient<K,V> res = HAMT.Transient.from(this.map);
         for(Tuple2<? extends K, ? extends V> e : map){
-            res = res.put(e._1(),e._2());
+            res.put(e._1(),e._2());
         }
-        return res;
+        return new HashMap<>(res.freeze());
     }
 
 
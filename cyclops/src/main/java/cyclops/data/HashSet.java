@@ -6,6 +6,7 @@ import com.oath.cyclops.types.persistent.PersistentSet;
 import com.oath.cyclops.hkt.Higher;
 import cyclops.control.Option;
 import com.oath.cyclops.hkt.DataWitness.hashSet;
+import cyclops.data.base.CHAMP;
 import cyclops.data.base.HAMT;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
@@ -40,19 +41,19 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
     }
 
     public static <T> HashSet<T> empty(){
-        return new HashSet<T>( HAMT.empty());
+        return new HashSet<T>( CHAMP.empty());
     }
     public static <T> HashSet<T> singleton(T value){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        HAMT.Node<T, T> tree = CHAMP.empty();
         tree = tree.plus(0,value.hashCode(),value,value);
         return new HashSet<>(tree);
     }
     public static <T> HashSet<T> of(T... values){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        HAMT.Transient<T, T> tree = HAMT.Transient.from(CHAMP.empty());
         for(T value : values){
-            tree = tree.plus(0,value.hashCode(),value,value);
+            tree.put(value,value);
         }
-        return new HashSet<>(tree);
+        return new HashSet<>(tree.freeze());
     }
     public static <U, T> HashSet<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
         return fromStream(ReactiveSeq.unfold(seed,unfolder));
@@ -96,10 +97,16 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
     }
 
     public static <T> HashSet<T> fromStream(Stream<T> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.plus(t2));
+        HAMT.Transient<T, T> tree = HAMT.Transient.from(CHAMP.empty());
+        ReactiveSeq.fromStream(stream).forEach(t->tree.put(t,t));
+        return new HashSet<>(tree.freeze());
     }
     public static <T> HashSet<T> fromIterable(Iterable<T> it){
-        return ReactiveSeq.fromIterable(it).foldLeft(empty(),(m, t2)->m.plus(t2));
+        HAMT.Transient<T, T> tree = HAMT.Transient.from(CHAMP.empty());
+        for(T next : it){
+            tree.put(next,next);
+        }
+        return new HashSet<>(tree.freeze());
     }
     public static <T> HashSet<T> fromIterator(Iterator<T> it){
       return fromIterable((()->it));
@@ -210,11 +217,11 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public HashSet<T> plusAll(Iterable<? extends T> list) {
-          HashSet<T> res = this;
+          HAMT.Transient<T, T> tree = HAMT.Transient.from(map);
           for(T next : list){
-              res = res.plus(next);
+              tree.put(next,next);
           }
-          return res;
+          return new HashSet<>(tree.freeze());
       }
 
 
@@ -0,0 +1,400 @@
+package cyclops.data;
+
+
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
+import cyclops.control.Option;
+import cyclops.data.base.PrimitiveBAMT;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector of unboxed int values. Elements are stored in int[] leaves of a {@link PrimitiveBAMT} and
+ * structural sharing works as for {@link Vector}, but map, filter and folds operate directly on the primitive values.
+ *
+ * <pre>
+ * {@code
+ *    IntVector.range(0,10)
+ *             .map(i->i*2)
+ *             .filter(i->i<10)
+ *             .foldLeft(0,(a,b)->a+b);
+ *
+ *    //20
+ * }
+ * </pre>
+ */
+public final class IntVector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int[] EMPTY_TAIL = new int[0];
+    private static final IntVector EMPTY = new IntVector(PrimitiveBAMT.empty(),EMPTY_TAIL,0);
+
+    private final PrimitiveBAMT root;
+    private final int[] tail;
+    private final int size;
+
+    private IntVector(PrimitiveBAMT root, int[] tail, int size) {
+        this.root = root;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    public static IntVector empty(){
+        return EMPTY;
+    }
+
+    public static IntVector of(int... values){
+        return builder().appendAll(values)
+                        .build();
+    }
+
+    public static IntVector range(int start, int end){
+        Builder builder = builder();
+        for(int i=start;i<end;i++){
+            builder.append(i);
+        }
+        return builder.build();
+    }
+    /**
+     * Construct a IntVector from a IntStream without boxing
+     *
+     * @param stream IntStream to populate the IntVector from
+     * @return IntVector containing the values in the Stream
+     */
+    public static IntVector fromIntStream(IntStream stream){
+        Builder builder = builder();
+        stream.forEachOrdered(builder::append);
+        return builder.build();
+    }
+
+    /**
+     * Construct a IntVector from a Stream of Integer values, ReactiveSeqs backed by primitive Spliterators
+     * (such as those created via ReactiveSeq.ofInts) are not boxed.
+     *
+     * @param stream Stream to populate the IntVector from
+     * @return IntVector containing the values in the Stream
+     */
+    public static IntVector fromStream(Stream<Integer> stream){
+        Spliterator<Integer> split = stream.spliterator();
+        IntStream values = split instanceof Spliterator.OfInt ? StreamSupport.intStream((Spliterator.OfInt)split,stream.isParallel())
+                                                              : StreamSupport.stream(split,stream.isParallel()).mapToInt(i->i);
+        return fromIntStream(values);
+    }
+
+    public static IntVector fromIterable(Iterable<Integer> it){
+        Builder builder = builder();
+        for(Integer next : it){
+            builder.append(next);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return A mutable Builder for efficiently constructing a IntVector one element at a time
+     */
+    public static Builder builder(){
+        return new Builder(PrimitiveBAMT.Transient.empty(),new int[32],0);
+    }
+
+    /**
+     * @return A mutable Builder initialized with the contents of this IntVector. Appending via the Builder does not affect this IntVector
+     */
+    public Builder transientCopy(){
+        return new Builder(PrimitiveBAMT.Transient.from(root),Arrays.copyOf(tail,32),tail.length);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    public Option<Integer> get(int pos){
+        if(pos<0||pos>=size){
+            return Option.none();
+        }
+        return Option.some(leafFor(pos)[pos & 0x01f]);
+    }
+
+    public int getOrElse(int pos, int alt){
+        if(pos<0||pos>=size){
+            return alt;
+        }
+        return leafFor(pos)[pos & 0x01f];
+    }
+
+    public IntVector plus(int value){
+        if(tail.length<32){
+            int[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new IntVector(root,newTail,size+1);
+        }
+        return new IntVector(root.appendLeaf(tail),new int[]{value},size+1);
+    }
+
+    public IntVector append(int value){
+        return plus(value);
+    }
+
+    public IntVector appendAll(int... values){
+        return transientCopy().appendAll(values)
+                              .build();
+    }
+
+    public IntVector appendAll(IntVector values){
+        Builder builder = transientCopy();
+        values.forEach(builder::append);
+        return builder.build();
+    }
+
+    public IntVector updateAt(int pos, int value){
+        if(pos<0||pos>=size){
+            return this;
+        }
+        int tailStart = size-tail.length;
+        if(pos>=tailStart){
+            int[] newTail = Arrays.copyOf(tail,tail.length);
+            newTail[pos-tailStart]=value;
+            return new IntVector(root,newTail,size);
+        }
+        int[] newLeaf = Arrays.copyOf((int[])root.leafFor(pos),32);
+        newLeaf[pos & 0x01f]=value;
+        return new IntVector(root.setLeaf(pos,newLeaf),tail,size);
+    }
+
+    public IntVector map(IntUnaryOperator fn){
+        return new IntVector(root.mapLeaves(l->mapArray((int[])l,fn)),mapArray(tail,fn),size);
+    }
+
+    public IntVector filter(IntPredicate pred){
+        Builder builder = builder();
+        forEach(i->{
+            if(pred.test(i))
+                builder.append(i);
+        });
+        return builder.build();
+    }
+
+    public int foldLeft(int identity, IntBinaryOperator fn){
+        int[] res = {identity};
+        root.forEachLeaf(l->{
+            for(int next : (int[])l){
+                res[0] = fn.applyAsInt(res[0],next);
+            }
+        });
+        for(int next : tail){
+            res[0] = fn.applyAsInt(res[0],next);
+        }
+        return res[0];
+    }
+
+    public int sum(){
+        return foldLeft(0,(a,b)->a+b);
+    }
+
+    public void forEach(IntConsumer consumer){
+        root.forEachLeaf(l->{
+            for(int next : (int[])l){
+                consumer.accept(next);
+            }
+        });
+        for(int next : tail){
+            consumer.accept(next);
+        }
+    }
+
+    public int[] toArray(){
+        int[] res = new int[size];
+        int[] index = {0};
+        root.forEachLeaf(l->{
+            System.arraycopy(l,0,res,index[0],32);
+            index[0]+=32;
+        });
+        System.arraycopy(tail,0,res,index[0],tail.length);
+        return res;
+    }
+
+    public Spliterator.OfInt spliterator(){
+        return new VectorSpliterator(0,size);
+    }
+
+    public IntStream intStream(){
+        return StreamSupport.intStream(spliterator(),false);
+    }
+
+    /**
+     * @return A ReactiveSeq over this IntVector backed by its primitive Spliterator. Elements are boxed as the
+     * ReactiveSeq is traversed, use {@link #intStream()} to traverse the values unboxed. {@link #fromStream(Stream)}
+     * reads the primitive Spliterator of an unmodified stream() directly.
+     */
+    public ReactiveSeq<Integer> stream(){
+        return ReactiveSeq.fromSpliterator(spliterator());
+    }
+
+    public Vector<Integer> boxed(){
+        Vector.Builder<Integer> builder = Vector.builder();
+        forEach(builder::append);
+        return builder.build();
+    }
+
+    private int[] leafFor(int pos){
+        if(pos>=size-tail.length)
+            return tail;
+        return (int[])root.leafFor(pos);
+    }
+
+    private static int[] mapArray(int[] array, IntUnaryOperator fn){
+        int[] res = new int[array.length];
+        for(int i=0;i<array.length;i++){
+            res[i] = fn.applyAsInt(array[i]);
+        }
+        return res;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this==o)
+            return true;
+        if(!(o instanceof IntVector))
+            return false;
+        IntVector other = (IntVector)o;
+        if(size!=other.size)
+            return false;
+        for(int i=0;i<size;i++){
+            if(getOrElse(i,0)!=other.getOrElse(i,0))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for(int i=0;i<size;i++){
+            hashCode = 31*hashCode + Integer.hashCode(getOrElse(i,0));
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("[");
+        for(int i=0;i<size;i++){
+            if(i>0)
+                b.append(", ");
+            b.append(getOrElse(i,0));
+        }
+        return b.append("]").toString();
+    }
+
+    /**
+     * A mutable Builder for IntVectors, see {@link Vector.Builder}. A Builder is not thread safe and should be confined to a
+     * single thread.
+     */
+    public static final class Builder{
+        private final PrimitiveBAMT.Transient trie;
+        private int[] tail;
+        private int tailSize;
+
+        private Builder(PrimitiveBAMT.Transient trie, int[] tail, int tailSize) {
+            this.trie = trie;
+            this.tail = tail;
+            this.tailSize = tailSize;
+        }
+
+        public Builder append(int value){
+            if(tailSize==32){
+                trie.appendLeaf(tail);
+                tail = new int[32];
+                tailSize=0;
+            }
+            tail[tailSize++]=value;
+            return this;
+        }
+
+        public Builder appendAll(int... values){
+            for(int next : values){
+                append(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return trie.size()+tailSize;
+        }
+
+        public IntVector build(){
+            return new IntVector(trie.freeze(),Arrays.copyOf(tail,tailSize),size());
+        }
+    }
+
+    final class VectorSpliterator implements Spliterator.OfInt, CopyableSpliterator<Integer>{
+        private int origin;
+        private int index;
+        private final int fence;
+
+        VectorSpliterator(int index, int fence) {
+            this.origin = index;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public OfInt trySplit() {
+            int mid = (index + fence) >>> 1;
+            if(mid<=index)
+                return null;
+            VectorSpliterator split = new VectorSpliterator(index,mid);
+            origin = mid;
+            index = mid;
+            return split;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if(index<fence){
+                action.accept(getOrElse(index++,0));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while(index<fence){
+                int[] leaf = leafFor(index);
+                int end = Math.min(32,fence-(index & ~0x01f));
+                for(int i=index & 0x01f;i<end;i++){
+                    action.accept(leaf[i]);
+                }
+                index+= end-(index & 0x01f);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence-index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+
+        @Override
+        public VectorSpliterator copy() {
+            return new VectorSpliterator(origin,fence);
+        }
+    }
+}
@@ -2,14 +2,15 @@ package cyclops.data;
 
 
 import com.oath.cyclops.hkt.Higher;
+import com.oath.cyclops.types.persistent.PersistentIndexed;
 import cyclops.control.Option;
 import com.oath.cyclops.hkt.DataWitness.lazyString;
+import cyclops.data.base.CharRope;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
+import java.nio.CharBuffer;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -19,20 +20,71 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
+/**
+ * An immutable String backed by a {@link CharRope} of packed char[] chunks. size is O(1), get, substring and
+ * concatenation are O(log n), and substrings share chunks with the LazyString they were taken from.
+ *
+ * LazyStrings created via fromLazySeq, op or peek remain lazy, and are packed the first time their characters are
+ * needed. Packed LazyStrings cannot contain null characters, packing a source that contains one throws a
+ * NullPointerException. Use notNull to remove them from a LazyString that has not yet been packed.
+ */
 public final class LazyString implements ImmutableList<Character>,Higher<lazyString,Character>, Serializable {
     private static final long serialVersionUID = 1L;
     private final LazySeq<Character> string;
+    private volatile CharRope.Node chars;
 
-    private static final LazyString Nil = fromLazySeq(LazySeq.empty());
+    private LazyString(LazySeq<Character> string){
+        this.string = string;
+    }
+    private LazyString(CharRope.Node chars){
+        this.string = null;
+        this.chars = chars;
+    }
+
+    private static final LazyString Nil = new LazyString(CharRope.empty());
     public static LazyString fromLazySeq(LazySeq<Character> string){
         return new LazyString(string);
     }
     public static LazyString fromIterable(Iterable<Character> string){
-        return new LazyString(LazySeq.fromIterable(string));
+        if(string instanceof LazyString)
+            return (LazyString)string;
+        StringBuilder b = new StringBuilder();
+        for(Character next : string){
+            if(next==null) //left unpacked, so that notNull can still remove it
+                return fromLazySeq(LazySeq.fromIterable(string));
+            b.append(next.charValue());
+        }
+        return fromRope(CharRope.of(b));
     }
     public static LazyString of(CharSequence seq){
-        return fromLazySeq(LazySeq.fromStream( seq.chars().mapToObj(i -> (char) i)));
+        return fromRope(CharRope.of(seq));
+    }
+
+    private static LazyString fromRope(CharRope.Node chars){
+        return chars.length()==0 ? Nil : new LazyString(chars);
+    }
+    private static LazyString fromChars(char[] chars){
+        return fromRope(CharRope.of(chars,chars.length));
+    }
+    private static CharRope.Node pack(Iterable<? extends Character> it){
+        if(it instanceof LazyString)
+            return ((LazyString)it).rope();
+        StringBuilder b = new StringBuilder();
+        for(Character next : it){
+            b.append(charValue(next));
+        }
+        return CharRope.of(b);
+    }
+    private static char charValue(Character c){
+        return Objects.requireNonNull(c,"LazyString can not hold null characters");
+    }
+    private CharRope.Node rope(){
+        CharRope.Node res = chars;
+        if(res==null){
+            res = pack(string);
+            chars = res;
+        }
+        return res;
     }
 
 
@@ -53,90 +105,183 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
     }
 
     public LazyString op(Function<? super LazySeq<Character>, ? extends LazySeq<Character>> custom){
-        return fromLazySeq(custom.apply(string));
+        return fromLazySeq(custom.apply(lazySeq()));
+    }
+
+    @Override
+    public LazySeq<Character> lazySeq() {
+        if(string!=null)
+            return string;
+        return LazySeq.fromIterable(this);
+    }
+
+    /**
+     * @return The chunks of this LazyString in order, as read only views of the underlying char arrays
+     */
+    public ReactiveSeq<CharSequence> chunks(){
+        CharRope.Node rope = rope();
+        return ReactiveSeq.fromIterable(()->rope.chunkIterator())
+                          .<CharSequence>map(l->CharBuffer.wrap(l.chars(),l.offset(),l.length()).asReadOnlyBuffer());
+    }
+
+    public char charAt(int pos){
+        return rope().charAt(pos);
     }
 
     public LazyString substring(int start){
         return drop(start);
     }
     public LazyString substring(int start, int end){
-        return drop(start).take(end-start);
+        return slice(start,end);
     }
     public LazyString toUpperCase(){
-        return fromLazySeq(string.map(c->c.toString().toUpperCase().charAt(0)));
+        char[] res = rope().toCharArray();
+        for(int i=0;i<res.length;i++){
+            res[i] = Character.toUpperCase(res[i]);
+        }
+        return fromChars(res);
     }
     public LazyString toLowerCase(){
-        return fromLazySeq(string.map(c->c.toString().toLowerCase().charAt(0)));
+        char[] res = rope().toCharArray();
+        for(int i=0;i<res.length;i++){
+            res[i] = Character.toLowerCase(res[i]);
+        }
+        return fromChars(res);
     }
     public LazySeq<LazyString> words() {
-        return string.split(t -> t.equals(' ')).map(l-> fromLazySeq(l));
+        return split(' ');
     }
     public LazySeq<LazyString> lines() {
-        return string.split(t -> t.equals('\n')).map(l-> fromLazySeq(l));
+        return split('\n');
+    }
+    private LazySeq<LazyString> split(char separator){
+        CharRope.Node rope = rope();
+        int length = rope.length();
+        return LazySeq.fromIterator(new Iterator<LazyString>() {
+            int pos = skip(0);
+
+            private int skip(int from){
+                while(from<length && rope.charAt(from)==separator)
+                    from++;
+                return from;
+            }
+            @Override
+            public boolean hasNext() {
+                return pos<length;
+            }
+
+            @Override
+            public LazyString next() {
+                int end = pos;
+                while(end<length && rope.charAt(end)!=separator)
+                    end++;
+                LazyString res = fromRope(rope.substring(pos,end));
+                pos = skip(end);
+                return res;
+            }
+        });
     }
     public LazyString mapChar(Function<Character,Character> fn){
-        return fromLazySeq(string.map(fn));
+        char[] res = rope().toCharArray();
+        for(int i=0;i<res.length;i++){
+            res[i] = fn.apply(res[i]);
+        }
+        return fromChars(res);
     }
     public LazyString flatMapChar(Function<Character,LazyString> fn){
-        return fromLazySeq(string.flatMap(fn.andThen(s->s.string)));
+        CharRope.Node res = CharRope.empty();
+        for(Character next : this){
+            res = res.concat(fn.apply(next).rope());
+        }
+        return fromRope(res);
     }
 
     @Override
     public LazyString filter(Predicate<? super Character> predicate) {
-        return fromLazySeq(string.filter(predicate));
+        CharRope.Node rope = rope();
+        StringBuilder b = new StringBuilder(rope.length());
+        rope.forEachChunk((a,offset,length)->{
+            for(int i=offset;i<offset+length;i++){
+                if(predicate.test(a[i]))
+                    b.append(a[i]);
+            }
+        });
+        return b.length()==rope.length() ? this : of(b);
     }
 
     @Override
     public <R> ImmutableList<R> map(Function<? super Character, ? extends R> fn) {
-        return string.map(fn);
+        return lazySeq().map(fn);
     }
 
     @Override
     public <R> ImmutableList<R> flatMap(Function<? super Character, ? extends ImmutableList<? extends R>> fn) {
-        return  string.flatMap(fn);
+        return  lazySeq().flatMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> concatMap(Function<? super Character, ? extends Iterable<? extends R>> fn) {
-        return  string.concatMap(fn);
+        return  lazySeq().concatMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> mergeMap(Function<? super Character, ? extends Publisher<? extends R>> fn) {
-      return string.mergeMap(fn);
+      return lazySeq().mergeMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> mergeMap(int maxConcurecy, Function<? super Character, ? extends Publisher<? extends R>> fn) {
-      return string.mergeMap(maxConcurecy,fn);
+      return lazySeq().mergeMap(maxConcurecy,fn);
     }
 
   @Override
     public <R> R fold(Function<? super Some<Character>, ? extends R> fn1, Function<? super None<Character>, ? extends R> fn2) {
-        return string.fold(fn1,fn2);
+        return lazySeq().fold(fn1,fn2);
     }
 
     @Override
     public LazyString onEmpty(Character value) {
-        return fromLazySeq(string.onEmpty(value));
+        return isEmpty() ? of(String.valueOf(value)) : this;
     }
 
     @Override
     public LazyString onEmptyGet(Supplier<? extends Character> supplier) {
-        return fromLazySeq(string.onEmptyGet(supplier));
+        return isEmpty() ? of(String.valueOf(supplier.get())) : this;
     }
 
 
     @Override
     public ImmutableList<Character> onEmptySwitch(Supplier<? extends ImmutableList<Character>> supplier) {
-        return string.onEmptySwitch(supplier);
+        return isEmpty() ? supplier.get() : this;
+    }
+
+    @Override
+    public Iterator<Character> iterator() {
+        Iterator<CharRope.Leaf> chunks = rope().chunkIterator();
+        return new Iterator<Character>() {
+            CharRope.Leaf chunk;
+            int pos;
+            @Override
+            public boolean hasNext() {
+                return (chunk!=null && pos<chunk.length()) || chunks.hasNext();
+            }
+
+            @Override
+            public Character next() {
+                if(chunk==null || pos==chunk.length()){
+                    chunk = chunks.next();
+                    pos = 0;
+                }
+                return chunk.chars()[chunk.offset()+pos++];
+            }
+        };
     }
 
     public ReactiveSeq<Character> stream(){
-        return string.stream();
+        return ReactiveSeq.fromIterable(this);
     }
     public LazyString take(final long n) {
-        return fromLazySeq(string.take(n));
+        return slice(0,n);
 
     }
 
@@ -150,250 +295,333 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
         return empty();
     }
 
+    private int indexWhere(Predicate<? super Character> pred){
+        int i = 0;
+        for(Character next : this){
+            if(pred.test(next))
+                return i;
+            i++;
+        }
+        return -1;
+    }
+
     @Override
     public LazyString replaceFirst(Character currentElement, Character newElement) {
-        return fromLazySeq(string.replaceFirst(currentElement,newElement));
+        int pos = indexWhere(c->Objects.equals(c,currentElement));
+        return pos==-1 ? this : updateAt(pos,newElement);
     }
 
     @Override
     public LazyString removeFirst(Predicate<? super Character> pred) {
-        return fromLazySeq(string.removeFirst(pred));
+        int pos = indexWhere(pred);
+        return pos==-1 ? this : removeAt(pos);
     }
 
     @Override
     public LazyString subList(int start, int end) {
-        return fromLazySeq(string.subList(start,end));
+        return slice(start,end);
     }
 
 
     @Override
     public LazyString filterNot(Predicate<? super Character> predicate) {
-        return fromLazySeq(string.filterNot(predicate));
+        return filter(predicate.negate());
     }
 
     @Override
     public LazyString notNull() {
-        return fromLazySeq(string.notNull());
+        return chars==null ? fromLazySeq(string.filter(Objects::nonNull)) : this;
     }
 
     @Override
     public LazyString peek(Consumer<? super Character> c) {
-        return fromLazySeq(string.peek(c));
+        return fromLazySeq(lazySeq().peek(c));
     }
 
     @Override
     public LazyString tailOrElse(ImmutableList<Character> tail) {
-        return fromLazySeq(string.tailOrElse(LazySeq.fromIterable(tail)));
+        return isEmpty() ? fromIterable(tail) : drop(1);
     }
 
     @Override
     public LazyString removeStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.removeStream(stream));
+        Set<Character> toRemove = new java.util.HashSet<>();
+        stream.forEach(toRemove::add);
+        return filter(c->!toRemove.contains(c));
     }
 
     @Override
     public LazyString removeAt(long pos) {
-        return fromLazySeq(string.removeAt(pos));
+        CharRope.Node rope = rope();
+        if(pos<0 || pos>=rope.length())
+            return this;
+        int index = (int)pos;
+        return fromRope(rope.substring(0,index).concat(rope.substring(index+1,rope.length())));
     }
 
     @Override
     public LazyString removeAll(Character... values) {
-        return fromLazySeq(string.removeAll(values));
+        return removeStream(Stream.of(values));
     }
 
     @Override
     public LazyString retainAll(Iterable<? extends Character> it) {
-        return fromLazySeq(string.retainAll(it));
+        return retainStream(ReactiveSeq.fromIterable(it));
     }
 
     @Override
     public LazyString retainStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.retainStream(stream));
+        Set<Character> toRetain = new java.util.HashSet<>();
+        stream.forEach(toRetain::add);
+        return filter(toRetain::contains);
     }
 
     @Override
     public LazyString retainAll(Character... values) {
-        return fromLazySeq(string.retainAll(values));
+        return retainStream(Stream.of(values));
     }
 
     @Override
     public LazyString distinct() {
-        return fromLazySeq(string.distinct());
+        BitSet seen = new BitSet();
+        return filter(c->{
+            if(seen.get(c))
+                return false;
+            seen.set(c);
+            return true;
+        });
     }
 
     @Override
     public LazyString sorted() {
-        return fromLazySeq(string.sorted());
+        char[] res = rope().toCharArray();
+        Arrays.sort(res);
+        return fromChars(res);
     }
 
     @Override
     public LazyString sorted(Comparator<? super Character> c) {
-        return fromLazySeq(string.sorted(c));
+        return fromIterable(stream().sorted(c));
     }
 
     @Override
     public LazyString takeWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.takeWhile(p));
+        int pos = indexWhere(p.negate());
+        return pos==-1 ? this : take(pos);
     }
 
     @Override
     public LazyString dropWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.dropWhile(p));
+        int pos = indexWhere(p.negate());
+        return pos==-1 ? empty() : drop(pos);
     }
 
     @Override
     public LazyString takeUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.takeUntil(p));
+        return takeWhile(p.negate());
     }
 
     @Override
     public LazyString dropUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.dropUntil(p));
+        return dropWhile(p.negate());
     }
 
     @Override
     public LazyString dropRight(int num) {
-        return fromLazySeq(string.dropRight(num));
+        if(num<=0)
+            return this;
+        return take(size()-(long)num);
     }
 
     @Override
     public LazyString takeRight(int num) {
-        return fromLazySeq(string.takeRight(num));
+        if(num<=0)
+            return empty();
+        return drop(size()-(long)num);
     }
 
     @Override
     public LazyString shuffle() {
-        return fromLazySeq(string.shuffle());
+        return shuffle(new Random());
     }
 
     @Override
     public LazyString shuffle(Random random) {
-        return fromLazySeq(string.shuffle(random));
+        char[] res = rope().toCharArray();
+        for(int i=res.length-1;i>0;i--){
+            int j = random.nextInt(i+1);
+            char c = res[i];
+            res[i] = res[j];
+            res[j] = c;
+        }
+        return fromChars(res);
     }
 
     @Override
     public LazyString slice(long from, long to) {
-        return fromLazySeq(string.slice(from,to));
+        CharRope.Node rope = rope();
+        int length = rope.length();
+        int start = (int)Math.max(0,Math.min(from,length));
+        int end = (int)Math.max(start,Math.min(to,length));
+        if(start==0 && end==length)
+            return this;
+        return fromRope(rope.substring(start,end));
     }
 
     @Override
     public <U extends Comparable<? super U>> LazyString sorted(Function<? super Character, ? extends U> function) {
-        return fromLazySeq(string.sorted(function));
+        return sorted(Comparator.comparing(function));
     }
 
     @Override
     public LazyString prependStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.prependStream(stream));
+        return prependAll(ReactiveSeq.fromStream(stream));
     }
 
     @Override
     public LazyString appendAll(Character... values) {
-        return fromLazySeq(string.appendAll(values));
+        return appendAll(Arrays.asList(values));
     }
 
     @Override
     public LazyString prependAll(Character... values) {
-        return fromLazySeq(string.prependAll(values));
+        return prependAll(Arrays.asList(values));
     }
 
     @Override
     public LazyString insertAt(int pos, Character... values) {
-        return fromLazySeq(string.insertAt(pos,values));
+        return insertAt(pos,Arrays.asList(values));
     }
 
     @Override
     public LazyString deleteBetween(int start, int end) {
-        return fromLazySeq(string.deleteBetween(start,end));
+        CharRope.Node rope = rope();
+        int length = rope.length();
+        int from = Math.max(0,Math.min(start,length));
+        int to = Math.max(from,Math.min(end,length));
+        if(from==to)
+            return this;
+        return fromRope(rope.substring(0,from).concat(rope.substring(to,length)));
     }
 
     @Override
     public LazyString insertStreamAt(int pos, Stream<Character> stream) {
-        return fromLazySeq(string.insertStreamAt(pos,stream));
+        StringBuilder b = new StringBuilder();
+        stream.forEach(next->b.append(charValue(next)));
+        return insertRope(pos,CharRope.of(b));
     }
 
 
 
     @Override
     public LazyString plusAll(Iterable<? extends Character> list) {
-        return fromLazySeq(string.plusAll(list));
+        return prependAll(list);
     }
 
     @Override
     public LazyString plus(Character value) {
-        return fromLazySeq(string.plus(value));
+        return prepend(value);
     }
 
     @Override
     public LazyString removeValue(Character value) {
-        return fromLazySeq(string.removeValue(value));
+        return removeFirst(c->Objects.equals(c,value));
     }
 
 
     @Override
     public LazyString removeAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.removeAll(value));
+        return removeStream(ReactiveSeq.fromIterable(value));
     }
 
     @Override
     public LazyString updateAt(int pos, Character value) {
-        return fromLazySeq(string.updateAt(pos,value));
+        char next = charValue(value);
+        CharRope.Node rope = rope();
+        int length = rope.length();
+        if(pos<0 || pos>=length)
+            return this;
+        return fromRope(rope.substring(0,pos).concat(CharRope.of(String.valueOf(next)))
+                            .concat(rope.substring(pos+1,length)));
     }
 
     @Override
     public LazyString insertAt(int pos, Iterable<? extends Character> values) {
-        return fromLazySeq(string.insertAt(pos,values));
+        return insertRope(pos,pack(values));
+    }
+
+    private LazyString insertRope(int pos, CharRope.Node values){
+        CharRope.Node rope = rope();
+        int length = rope.length();
+        int index = Math.max(0,Math.min(pos,length));
+        return fromRope(rope.substring(0,index).concat(values).concat(rope.substring(index,length)));
     }
 
     @Override
     public LazyString insertAt(int i, Character value) {
-        return fromLazySeq(string.insertAt(i,value));
+        return insertAt(i,Arrays.asList(value));
     }
 
     public LazyString  drop(final long num) {
-        return fromLazySeq(string.drop(num));
+        return slice(num,Integer.MAX_VALUE);
     }
     public LazyString  reverse() {
-        return fromLazySeq(string.reverse());
+        char[] res = rope().toCharArray();
+        for(int i=0,j=res.length-1;i<j;i++,j--){
+            char c = res[i];
+            res[i] = res[j];
+            res[j] = c;
+        }
+        return fromChars(res);
     }
     public Option<Character> get(int pos){
-        return string.get(pos);
+        CharRope.Node rope = rope();
+        if(pos<0 || pos>=rope.length())
+            return Option.none();
+        return Option.some(rope.charAt(pos));
     }
 
     @Override
     public Character getOrElse(int pos, Character alt) {
-        return string.getOrElse(pos,alt);
+        CharRope.Node rope = rope();
+        if(pos<0 || pos>=rope.length())
+            return alt;
+        return rope.charAt(pos);
     }
 
     @Override
     public Character getOrElseGet(int pos, Supplier<? extends Character> alt) {
-        return string.getOrElseGet(pos,alt);
+        CharRope.Node rope = rope();
+        if(pos<0 || pos>=rope.length())
+            return alt.get();
+        return rope.charAt(pos);
     }
 
     public LazyString prepend(Character value){
-        return fromLazySeq(string.prepend(value));
+        return prependAll(Arrays.asList(value));
     }
 
     @Override
     public LazyString append(Character value) {
-        return fromLazySeq(string.append(value));
+        return appendAll(Arrays.asList(value));
     }
 
     @Override
     public LazyString prependAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.prependAll(value)) ;
+        return fromRope(pack(value).concat(rope()));
     }
 
 
     @Override
     public LazyString appendAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.appendAll(value)) ;
+        return fromRope(rope().concat(pack(value)));
     }
 
     public LazyString prependAll(LazyString value){
-        return fromLazySeq(string.prependAll(value.string));
+        return fromRope(value.rope().concat(rope()));
     }
     public LazyString append(String s){
-        return fromLazySeq(string.appendAll(LazySeq.fromStream( s.chars().mapToObj(i -> (char) i))));
+        return fromRope(rope().concat(CharRope.of(s)));
     }
     public int size(){
         return length();
@@ -401,23 +629,37 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
 
     @Override
     public boolean isEmpty() {
-        return string.isEmpty();
+        return rope().length()==0;
     }
 
     public int length(){
-        return string.size();
+        return rope().length();
     }
     public String toString(){
-        return string.stream().join("");
+        return new String(rope().toCharArray());
     }
 
     @Override
     public int hashCode() {
-        return this.string.hashCode();
+        int[] hashCode = {1};
+        rope().forEachChunk((a,offset,length)->{
+            int h = hashCode[0];
+            for(int i=offset;i<offset+length;i++){
+                h = 31*h + Character.hashCode(a[i]);
+            }
+            hashCode[0] = h;
+        });
+        return hashCode[0];
     }
 
     @Override
     public boolean equals(Object obj) {
-        return this.string.equals(obj);
+        if(obj==this)
+            return true;
+        if(obj instanceof LazyString)
+            return CharRope.contentEquals(rope(),((LazyString)obj).rope());
+        if(obj instanceof PersistentIndexed)
+            return equalToIteration((Iterable)obj);
+        return false;
     }
 }
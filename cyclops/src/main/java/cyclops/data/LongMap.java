@@ -0,0 +1,168 @@
+package cyclops.data;
+
+
+import cyclops.control.Option;
+import cyclops.data.base.LongPatriciaTrie;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A persistent map from unboxed long keys to values, backed by a big-endian {@link LongPatriciaTrie}. Lookups via
+ * getOrElse, getOrElseGet and containsKey compare primitive keys along a single path and do not allocate. Entries are
+ * visited in ascending key order, and forEachInRange skips entire sub-tries outside the requested range.
+ *
+ * <pre>
+ * {@code
+ *    LongMap<String> users = LongMap.<String>empty()
+ *                                   .put(10l,"alice")
+ *                                   .put(20l,"bob");
+ *
+ *    users.getOrElse(10l,"unknown");
+ *    //alice
+ * }
+ * </pre>
+ *
+ * @param <V> Value type
+ */
+public final class LongMap<V> implements Iterable<Tuple2<Long, V>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final LongMap EMPTY = new LongMap<>(LongPatriciaTrie.empty());
+
+    private final LongPatriciaTrie.Node<V> trie;
+
+    private LongMap(LongPatriciaTrie.Node<V> trie) {
+        this.trie = trie;
+    }
+
+    public static <V> LongMap<V> empty() {
+        return EMPTY;
+    }
+
+    public static <V> LongMap<V> of(long key, V value) {
+        return LongMap.<V>empty().put(key, value);
+    }
+
+    public static <V> LongMap<V> fromMap(Map<Long, ? extends V> map) {
+        LongPatriciaTrie.Node<V> trie = LongPatriciaTrie.empty();
+        for (Map.Entry<Long, ? extends V> next : map.entrySet()) {
+            trie = trie.put(next.getKey(), next.getValue());
+        }
+        return new LongMap<>(trie);
+    }
+
+    public static <V> LongMap<V> fromStream(Stream<? extends Tuple2<Long, ? extends V>> stream) {
+        LongPatriciaTrie.Node<V>[] trie = new LongPatriciaTrie.Node[]{LongPatriciaTrie.empty()};
+        stream.forEachOrdered(t -> trie[0] = trie[0].put(t._1(), t._2()));
+        return new LongMap<>(trie[0]);
+    }
+
+    public LongMap<V> put(long key, V value) {
+        LongPatriciaTrie.Node<V> updated = trie.put(key, value);
+        return updated == trie ? this : new LongMap<>(updated);
+    }
+
+    public LongMap<V> remove(long key) {
+        LongPatriciaTrie.Node<V> updated = trie.minus(key);
+        return updated == trie ? this : new LongMap<>(updated);
+    }
+
+    public Option<V> get(long key) {
+        return trie.get(key);
+    }
+
+    public V getOrElse(long key, V alt) {
+        return trie.getOrElse(key, alt);
+    }
+
+    public V getOrElseGet(long key, Supplier<? extends V> alt) {
+        return trie.getOrElseGet(key, alt);
+    }
+
+    public boolean containsKey(long key) {
+        return trie.containsKey(key);
+    }
+
+    public int size() {
+        return trie.size();
+    }
+
+    public boolean isEmpty() {
+        return trie.isEmpty();
+    }
+
+    /**
+     * Visit each entry in ascending key order, without boxing keys
+     *
+     * @param consumer Accepts each value and its key
+     */
+    public void forEach(ObjLongConsumer<? super V> consumer) {
+        trie.forEach(consumer);
+    }
+
+    /**
+     * Visit each entry with a key between from and to (both inclusive) in ascending key order, without boxing keys
+     *
+     * @param from Lowest key to visit
+     * @param to Highest key to visit
+     * @param consumer Accepts each value and its key
+     */
+    public void forEachInRange(long from, long to, ObjLongConsumer<? super V> consumer) {
+        trie.forEachInRange(from, to, consumer);
+    }
+
+    /**
+     * @param from Lowest key to include
+     * @param to Highest key to include
+     * @return A LongMap containing the entries of this LongMap with keys between from and to (both inclusive)
+     */
+    public LongMap<V> range(long from, long to) {
+        LongPatriciaTrie.Node<V>[] res = new LongPatriciaTrie.Node[]{LongPatriciaTrie.empty()};
+        trie.forEachInRange(from, to, (v, k) -> res[0] = res[0].put(k, v));
+        return new LongMap<>(res[0]);
+    }
+
+    public ReactiveSeq<Tuple2<Long, V>> stream() {
+        return trie.stream();
+    }
+
+    @Override
+    public Iterator<Tuple2<Long, V>> iterator() {
+        return trie.iterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof LongMap))
+            return false;
+        return trie.equals(((LongMap<?>) o).trie);
+    }
+
+    @Override
+    public int hashCode() {
+        return trie.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("LongMap[{");
+        boolean[] first = {true};
+        trie.forEach((v, k) -> {
+            if (!first[0])
+                b.append(", ");
+            first[0] = false;
+            b.append(k).append('=').append(v);
+        });
+        return b.append("}]").toString();
+    }
+}
@@ -0,0 +1,400 @@
+package cyclops.data;
+
+
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
+import cyclops.control.Option;
+import cyclops.data.base.PrimitiveBAMT;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector of unboxed long values. Elements are stored in long[] leaves of a {@link PrimitiveBAMT} and
+ * structural sharing works as for {@link Vector}, but map, filter and folds operate directly on the primitive values.
+ *
+ * <pre>
+ * {@code
+ *    LongVector.range(0,10)
+ *             .map(i->i*2)
+ *             .filter(i->i<10)
+ *             .foldLeft(0,(a,b)->a+b);
+ *
+ *    //20
+ * }
+ * </pre>
+ */
+public final class LongVector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final long[] EMPTY_TAIL = new long[0];
+    private static final LongVector EMPTY = new LongVector(PrimitiveBAMT.empty(),EMPTY_TAIL,0);
+
+    private final PrimitiveBAMT root;
+    private final long[] tail;
+    private final int size;
+
+    private LongVector(PrimitiveBAMT root, long[] tail, int size) {
+        this.root = root;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    public static LongVector empty(){
+        return EMPTY;
+    }
+
+    public static LongVector of(long... values){
+        return builder().appendAll(values)
+                        .build();
+    }
+
+    public static LongVector range(long start, long end){
+        Builder builder = builder();
+        for(long i=start;i<end;i++){
+            builder.append(i);
+        }
+        return builder.build();
+    }
+    /**
+     * Construct a LongVector from a LongStream without boxing
+     *
+     * @param stream LongStream to populate the LongVector from
+     * @return LongVector containing the values in the Stream
+     */
+    public static LongVector fromLongStream(LongStream stream){
+        Builder builder = builder();
+        stream.forEachOrdered(builder::append);
+        return builder.build();
+    }
+
+    /**
+     * Construct a LongVector from a Stream of Long values, ReactiveSeqs backed by primitive Spliterators
+     * (such as those created via ReactiveSeq.ofLongs) are not boxed.
+     *
+     * @param stream Stream to populate the LongVector from
+     * @return LongVector containing the values in the Stream
+     */
+    public static LongVector fromStream(Stream<Long> stream){
+        Spliterator<Long> split = stream.spliterator();
+        LongStream values = split instanceof Spliterator.OfLong ? StreamSupport.longStream((Spliterator.OfLong)split,stream.isParallel())
+                                                                : StreamSupport.stream(split,stream.isParallel()).mapToLong(i->i);
+        return fromLongStream(values);
+    }
+
+    public static LongVector fromIterable(Iterable<Long> it){
+        Builder builder = builder();
+        for(Long next : it){
+            builder.append(next);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return A mutable Builder for efficiently constructing a LongVector one element at a time
+     */
+    public static Builder builder(){
+        return new Builder(PrimitiveBAMT.Transient.empty(),new long[32],0);
+    }
+
+    /**
+     * @return A mutable Builder initialized with the contents of this LongVector. Appending via the Builder does not affect this LongVector
+     */
+    public Builder transientCopy(){
+        return new Builder(PrimitiveBAMT.Transient.from(root),Arrays.copyOf(tail,32),tail.length);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    public Option<Long> get(int pos){
+        if(pos<0||pos>=size){
+            return Option.none();
+        }
+        return Option.some(leafFor(pos)[pos & 0x01f]);
+    }
+
+    public long getOrElse(int pos, long alt){
+        if(pos<0||pos>=size){
+            return alt;
+        }
+        return leafFor(pos)[pos & 0x01f];
+    }
+
+    public LongVector plus(long value){
+        if(tail.length<32){
+            long[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new LongVector(root,newTail,size+1);
+        }
+        return new LongVector(root.appendLeaf(tail),new long[]{value},size+1);
+    }
+
+    public LongVector append(long value){
+        return plus(value);
+    }
+
+    public LongVector appendAll(long... values){
+        return transientCopy().appendAll(values)
+                              .build();
+    }
+
+    public LongVector appendAll(LongVector values){
+        Builder builder = transientCopy();
+        values.forEach(builder::append);
+        return builder.build();
+    }
+
+    public LongVector updateAt(int pos, long value){
+        if(pos<0||pos>=size){
+            return this;
+        }
+        int tailStart = size-tail.length;
+        if(pos>=tailStart){
+            long[] newTail = Arrays.copyOf(tail,tail.length);
+            newTail[pos-tailStart]=value;
+            return new LongVector(root,newTail,size);
+        }
+        long[] newLeaf = Arrays.copyOf((long[])root.leafFor(pos),32);
+        newLeaf[pos & 0x01f]=value;
+        return new LongVector(root.setLeaf(pos,newLeaf),tail,size);
+    }
+
+    public LongVector map(LongUnaryOperator fn){
+        return new LongVector(root.mapLeaves(l->mapArray((long[])l,fn)),mapArray(tail,fn),size);
+    }
+
+    public LongVector filter(LongPredicate pred){
+        Builder builder = builder();
+        forEach(i->{
+            if(pred.test(i))
+                builder.append(i);
+        });
+        return builder.build();
+    }
+
+    public long foldLeft(long identity, LongBinaryOperator fn){
+        long[] res = {identity};
+        root.forEachLeaf(l->{
+            for(long next : (long[])l){
+                res[0] = fn.applyAsLong(res[0],next);
+            }
+        });
+        for(long next : tail){
+            res[0] = fn.applyAsLong(res[0],next);
+        }
+        return res[0];
+    }
+
+    public long sum(){
+        return foldLeft(0,(a,b)->a+b);
+    }
+
+    public void forEach(LongConsumer consumer){
+        root.forEachLeaf(l->{
+            for(long next : (long[])l){
+                consumer.accept(next);
+            }
+        });
+        for(long next : tail){
+            consumer.accept(next);
+        }
+    }
+
+    public long[] toArray(){
+        long[] res = new long[size];
+        int[] index = {0};
+        root.forEachLeaf(l->{
+            System.arraycopy(l,0,res,index[0],32);
+            index[0]+=32;
+        });
+        System.arraycopy(tail,0,res,index[0],tail.length);
+        return res;
+    }
+
+    public Spliterator.OfLong spliterator(){
+        return new VectorSpliterator(0,size);
+    }
+
+    public LongStream longStream(){
+        return StreamSupport.longStream(spliterator(),false);
+    }
+
+    /**
+     * @return A ReactiveSeq over this LongVector backed by its primitive Spliterator. Elements are boxed as the
+     * ReactiveSeq is traversed, use {@link #longStream()} to traverse the values unboxed. {@link #fromStream(Stream)}
+     * reads the primitive Spliterator of an unmodified stream() directly.
+     */
+    public ReactiveSeq<Long> stream(){
+        return ReactiveSeq.fromSpliterator(spliterator());
+    }
+
+    public Vector<Long> boxed(){
+        Vector.Builder<Long> builder = Vector.builder();
+        forEach(builder::append);
+        return builder.build();
+    }
+
+    private long[] leafFor(int pos){
+        if(pos>=size-tail.length)
+            return tail;
+        return (long[])root.leafFor(pos);
+    }
+
+    private static long[] mapArray(long[] array, LongUnaryOperator fn){
+        long[] res = new long[array.length];
+        for(int i=0;i<array.length;i++){
+            res[i] = fn.applyAsLong(array[i]);
+        }
+        return res;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this==o)
+            return true;
+        if(!(o instanceof LongVector))
+            return false;
+        LongVector other = (LongVector)o;
+        if(size!=other.size)
+            return false;
+        for(int i=0;i<size;i++){
+            if(getOrElse(i,0)!=other.getOrElse(i,0))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for(int i=0;i<size;i++){
+            hashCode = 31*hashCode + Long.hashCode(getOrElse(i,0));
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("[");
+        for(int i=0;i<size;i++){
+            if(i>0)
+                b.append(", ");
+            b.append(getOrElse(i,0));
+        }
+        return b.append("]").toString();
+    }
+
+    /**
+     * A mutable Builder for LongVectors, see {@link Vector.Builder}. A Builder is not thread safe and should be confined to a
+     * single thread.
+     */
+    public static final class Builder{
+        private final PrimitiveBAMT.Transient trie;
+        private long[] tail;
+        private int tailSize;
+
+        private Builder(PrimitiveBAMT.Transient trie, long[] tail, int tailSize) {
+            this.trie = trie;
+            this.tail = tail;
+            this.tailSize = tailSize;
+        }
+
+        public Builder append(long value){
+            if(tailSize==32){
+                trie.appendLeaf(tail);
+                tail = new long[32];
+                tailSize=0;
+            }
+            tail[tailSize++]=value;
+            return this;
+        }
+
+        public Builder appendAll(long... values){
+            for(long next : values){
+                append(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return trie.size()+tailSize;
+        }
+
+        public LongVector build(){
+            return new LongVector(trie.freeze(),Arrays.copyOf(tail,tailSize),size());
+        }
+    }
+
+    final class VectorSpliterator implements Spliterator.OfLong, CopyableSpliterator<Long>{
+        private int origin;
+        private int index;
+        private final int fence;
+
+        VectorSpliterator(int index, int fence) {
+            this.origin = index;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public OfLong trySplit() {
+            int mid = (index + fence) >>> 1;
+            if(mid<=index)
+                return null;
+            VectorSpliterator split = new VectorSpliterator(index,mid);
+            origin = mid;
+            index = mid;
+            return split;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if(index<fence){
+                action.accept(getOrElse(index++,0));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            while(index<fence){
+                long[] leaf = leafFor(index);
+                int end = Math.min(32,fence-(index & ~0x01f));
+                for(int i=index & 0x01f;i<end;i++){
+                    action.accept(leaf[i]);
+                }
+                index+= end-(index & 0x01f);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence-index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+
+        @Override
+        public VectorSpliterator copy() {
+            return new VectorSpliterator(origin,fence);
+        }
+    }
+}
@@ -9,8 +9,6 @@ import cyclops.function.Function4;
 import com.oath.cyclops.hkt.DataWitness.treeMap;
 import cyclops.data.base.RedBlackTree;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import lombok.experimental.Wither;
@@ -23,7 +21,6 @@ import java.util.Objects;
 import java.util.function.*;
 import java.util.stream.Stream;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
                                             Higher2<treeMap,K,V>,
                                             Serializable{
@@ -33,6 +30,10 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
     @Wither()
     private final Comparator<K> comparator;
 
+    private TreeMap(RedBlackTree.Tree<K,V> map, Comparator<K> comparator) {
+        this.map = RedBlackTree.rootIsBlack(map);
+        this.comparator = comparator;
+    }
 
     public ReactiveSeq<Tuple2<K,V>> stream(){
         return map.stream();
@@ -7,6 +7,7 @@ import com.oath.cyclops.types.persistent.PersistentCollection;
 import com.oath.cyclops.types.persistent.PersistentIndexed;
 import cyclops.control.Either;
 import cyclops.control.Option;
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
 import cyclops.data.base.BAMT;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
@@ -25,7 +26,6 @@ import java.io.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class Vector<T> implements ImmutableList<T>,
@@ -48,9 +48,57 @@ public class Vector<T> implements ImmutableList<T>,
         return ( Vector<T>)appendAll((Iterable<T>)list);
     }
 
-    static <T> Collector<T, List<T>, Vector<T>> collector() {
-        Collector<T, ?, List<T>> c  = Collectors.toList();
-        return Collectors.<T, List<T>, Iterable<T>,Vector<T>>collectingAndThen((Collector)c,Vector::fromIterable);
+    static <T> Collector<T, Builder<T>, Vector<T>> collector() {
+        return Collector.of(Vector::builder,Builder::append,(a,b)->a.appendAll(b.build()),Builder::build);
+    }
+
+    /**
+     * @return A mutable Builder for efficiently constructing a Vector one element at a time
+     */
+    public static <T> Builder<T> builder(){
+        return new Builder<>(BAMT.Transient.empty());
+    }
+
+    /**
+     * @return A mutable Builder initialized with the contents of this Vector. Appending via the Builder does not affect this Vector
+     */
+    public Builder<T> transientCopy(){
+        return new Builder<>(BAMT.Transient.from(root,tail,size));
+    }
+
+    /**
+     * A mutable Builder for Vectors, appended elements are written in place into the underlying BAMT node arrays
+     * (rather than copying them on each addition). A Builder is not thread safe and should be confined to a single thread,
+     * build may be called multiple times and each Vector returned is immutable.
+     *
+     * @param <T> Data type of the elements in the Vector
+     */
+    public static final class Builder<T>{
+        private final BAMT.Transient<T> trie;
+
+        private Builder(BAMT.Transient<T> trie) {
+            this.trie = trie;
+        }
+
+        public Builder<T> append(T value){
+            trie.append(value);
+            return this;
+        }
+
+        public Builder<T> appendAll(Iterable<? extends T> values){
+            for(T next : values){
+                trie.append(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return trie.size();
+        }
+
+        public Vector<T> build(){
+            return new Vector<>(trie.freezeRoot(),trie.freezeTail(),trie.size());
+        }
     }
     @Override
     public boolean containsValue(T value) {
@@ -129,25 +177,30 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> removeAt(long i) {
-        return (Vector<T>)ImmutableList.super.removeAt(i);
+        if(i<0||i>=size)
+            return this;
+        return take(i).appendAll(drop(i+1));
     }
 
     @Override
     public Vector<T> insertAt(int pos, T... values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,Arrays.asList(values));
     }
     @Override
     public Vector<T> insertAt(int i, T e){
-        return (Vector<T>)ImmutableList.super.insertAt(i,e);
+        return insertAt(i,Arrays.asList(e));
     }
 
     @Override
     public Vector<T> insertAt(int pos, Iterable<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        if(pos<0||pos>size)
+            return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return take(pos).appendAll(values)
+                        .appendAll(drop(pos));
     }
     @Override
     public Vector<T> insertAt(int pos, ReactiveSeq<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,(Iterable<? extends T>)values);
     }
     public Vector<T> plusAll(int i, Iterable<? extends T> values){
         return insertAt(i,values);
@@ -210,18 +263,14 @@ public class Vector<T> implements ImmutableList<T>,
         if(it instanceof Vector){
             return (Vector<T>)it;
         }
-        Vector<T> res = empty();
-        for(T next : it){
-            res = res.plus(next);
-        }
-        return res;
+        return Vector.<T>builder().appendAll(it).build();
     }
     public static <T> Vector<T> of(T... value){
-        Vector<T> res = empty();
+        Builder<T> res = builder();
         for(T next : value){
-            res = res.plus(next);
+            res.append(next);
         }
-        return res;
+        return res.build();
     }
 
 
@@ -230,28 +279,26 @@ public class Vector<T> implements ImmutableList<T>,
     }
 
     public ReactiveSeq<T> stream(){
-        return ReactiveSeq.fromIterable(this);
+        return ReactiveSeq.fromSpliterator(spliterator());
+    }
+
+    /**
+     * @return A sized Spliterator that splits on leaf (32 element) boundaries, allowing parallel Streams to divide
+     * this Vector between threads
+     */
+    @Override
+    public Spliterator<T> spliterator(){
+        return new VectorSpliterator(0,size);
     }
 
     public Vector<T> filter(Predicate<? super T> pred){
-        int newSize= 0;
-        BAMT.NestedArray<T> newRoot =new BAMT.Zero<>();
-        BAMT.ActiveTail<T> newTail = BAMT.ActiveTail.emptyTail();
+        Builder<T> res = builder();
         for (T t : this) {
             if(pred.test(t)) {
-                if (newTail.size() < 32) {
-                    newTail = newTail.append(t);
-                    newSize++;
-                } else {
-                    newRoot = newRoot.append(newTail);
-                    newTail = BAMT.ActiveTail.tail(t);
-                    newSize++;
-                }
+                res.append(t);
             }
-
-
         }
-        return new Vector<>(newRoot,newTail,newSize);
+        return res.build();
     }
 
     public <R> Vector<R> map(Function<? super T, ? extends R> fn){
@@ -406,31 +453,17 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public <U, R> Vector<R> zip(Iterable<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
-        int newSize= 0;
-        BAMT.NestedArray<R> newRoot =new BAMT.Zero<>();
-        BAMT.ActiveTail<R> newTail = BAMT.ActiveTail.emptyTail();
+        Builder<R> res = builder();
         Iterator<? extends U> it = other.iterator();
         for (T t : this) {
             if(it.hasNext()) {
-                R r = zipper.apply(t, it.next());
-                if(newTail.size()<32) {
-                    newTail = newTail.append(r);
-                    newSize++;
-                }else{
-                    newRoot = newRoot.append(newTail);
-                    newTail = BAMT.ActiveTail.tail(r);
-                    newSize++;
-                }
+                res.append(zipper.apply(t, it.next()));
             }
             else{
                 break;
             }
-
-
-
-
         }
-        return new Vector<R>(newRoot,newTail,newSize);
+        return res.build();
        // return (Vector<R>) ImmutableList.super.zip(other,zipper);
     }
 
@@ -573,7 +606,9 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> slice(long from, long to) {
-        return (Vector<T>) ImmutableList.super.slice(from,to);
+        if(from<0)
+            return (Vector<T>) ImmutableList.super.slice(from,to);
+        return drop(from).take(to-from);
     }
 
 
@@ -594,7 +629,9 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> deleteBetween(int start, int end) {
-        return (Vector<T>) ImmutableList.super.deleteBetween(start,end);
+        if(end<=start)
+            return this;
+        return take(start).appendAll(drop(end));
     }
 
     @Override
@@ -645,24 +682,11 @@ public class Vector<T> implements ImmutableList<T>,
 
   @Override
     public <R> Vector<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
-      int newSize= 0;
-      BAMT.NestedArray<R> newRoot =new BAMT.Zero<>();
-      BAMT.ActiveTail<R> newTail = BAMT.ActiveTail.emptyTail();
+      Builder<R> res = builder();
       for (T t : this) {
-          for(R r : fn.apply(t)) {
-
-              if(newTail.size()<32) {
-                  newTail = newTail.append(r);
-                  newSize++;
-              }else{
-                  newRoot = newRoot.append(newTail);
-                  newTail = BAMT.ActiveTail.tail(r);
-                  newSize++;
-              }
-
-          }
+          res.appendAll(fn.apply(t));
       }
-      return new Vector<R>(newRoot,newTail,newSize);
+      return res.build();
     }
 
     public Either<Integer,Vector<T>> set(int pos, T value) {
@@ -718,12 +742,12 @@ public class Vector<T> implements ImmutableList<T>,
         private void readObject(ObjectInputStream s) throws ClassNotFoundException, IOException {
             s.defaultReadObject();
             final int size = s.readInt();
-            Vector<T> res = empty();
+            Builder<T> res = builder();
             for (int i = 0; i < size; i++) {
                 T n = (T) s.readObject();
-                res = res.append(n);
+                res.append(n);
             }
-            v=res;
+            v=res.build();
         }
     }
 
@@ -738,31 +762,11 @@ public class Vector<T> implements ImmutableList<T>,
     }
 
     public Vector<T> takeRight(int num){
-        if(num<=0)
-            return empty();
-        if(num>=size())
-            return this;
-        if(num==tail.size())
-            return new Vector<>(new BAMT.Zero<>(),tail,num);
-        if(num<tail.size()){
-            BAMT.ActiveTail<T> newTail = tail.takeRight(num);
-            return new Vector<>(new BAMT.Zero<>(),newTail,newTail.size());
-        }
-        return (Vector<T>)ImmutableList.super.dropRight(num);
+        return drop(size()-(long)num);
     }
 
     public Vector<T> dropRight(int num){
-        if(num<=0)
-            return this;
-        if(num>=size())
-            return empty();
-        if(tail.size()==1){
-            return new Vector<>(this.root,BAMT.ActiveTail.emptyTail(),size()-1).drop(num-1);
-        }
-        if(tail.size()>0){
-            return new Vector<>(this.root,tail.dropRight(num),size()-(Math.min(tail.size(),num))).dropRight(num-tail.size());
-        }
-        return unitStream(stream().dropRight(num));
+        return take(size()-(long)num);
     }
     @Override
     public Vector<T> drop(long num) {
@@ -770,10 +774,11 @@ public class Vector<T> implements ImmutableList<T>,
             return this;
         if(num>=size())
             return empty();
-        if(size()<32){
-            return new Vector<>(this.root,tail.drop((int)num),size()-(int)num);
+        int rootSize = size-tail.size();
+        if(num>=rootSize){
+            return new Vector<>(new BAMT.Zero<>(),tail.drop((int)num-rootSize),size()-(int)num);
         }
-        return unitStream(stream().drop(num));
+        return new Vector<>(BAMT.Relaxed.drop(root,rootSize,(int)num),tail,size()-(int)num);
     }
 
     @Override
@@ -782,10 +787,11 @@ public class Vector<T> implements ImmutableList<T>,
             return empty();
         if(num>=size())
             return this;
-        if(size()<32){
-            return new Vector<T>(this.root,tail.dropRight(Math.max(tail.size()-(int)num,0)),(int)num);
+        int rootSize = size-tail.size();
+        if(num>rootSize){
+            return new Vector<T>(this.root,tail.dropRight(size-(int)num),(int)num);
         }
-        return unitStream(stream().take(num));
+        return new Vector<T>(BAMT.Relaxed.take(root,(int)num),BAMT.ActiveTail.emptyTail(),(int)num);
     }
 
     @Override
@@ -796,38 +802,7 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> prependAll(Iterable<? extends T> value) {
-        int newSize= 0;
-        BAMT.NestedArray<T> newRoot =new BAMT.Zero<>();
-        BAMT.ActiveTail<T> newTail = BAMT.ActiveTail.emptyTail();
-
-        for (T t : value) {
-
-            if(newTail.size()<32) {
-                newTail = newTail.append(t);
-                newSize++;
-            }else{
-                newRoot = newRoot.append(newTail);
-                newTail = BAMT.ActiveTail.tail(t);
-                newSize++;
-            }
-
-
-        }
-        for (T t : this) {
-
-            if(newTail.size()<32) {
-                newTail = newTail.append(t);
-                newSize++;
-            }else{
-                newRoot = newRoot.append(newTail);
-                newTail = BAMT.ActiveTail.tail(t);
-                newSize++;
-            }
-
-
-        }
-
-        return new Vector<>(newRoot,newTail,newSize);
+        return Vector.fromIterable((Iterable<T>)value).appendAll(this);
     }
 
     public Vector<T> append(T value) {
@@ -836,23 +811,15 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> appendAll(Iterable<? extends T> value) {
-        int newSize= size;
-        BAMT.NestedArray<T> newRoot =root;
-        BAMT.ActiveTail<T> newTail = tail;
-        for (T t : value) {
-
-                if(newTail.size()<32) {
-                    newTail = newTail.append(t);
-                    newSize++;
-                }else{
-                    newRoot = newRoot.append(newTail);
-                    newTail = BAMT.ActiveTail.tail(t);
-                    newSize++;
-                }
-
-
+        if(value instanceof Vector && ((Vector<T>)value).size()>=32){
+            Vector<T> other = (Vector<T>)value;
+            int rootSize = size-tail.size();
+            BAMT.NestedArray<T> left = BAMT.Relaxed.concat(root,rootSize,BAMT.Relaxed.leaf(tail),tail.size());
+            BAMT.NestedArray<T> joined = BAMT.Relaxed.concat(left,size,other.root,other.size-other.tail.size());
+            return new Vector<>(joined,other.tail,size+other.size);
         }
-        return new Vector<>(newRoot,newTail,newSize);
+        return transientCopy().appendAll(value)
+                              .build();
     }
     public Vector<T> subList(int start, int end){
         return drop(start).take(end-start);
@@ -1120,4 +1087,68 @@ public class Vector<T> implements ImmutableList<T>,
     public static <T> Higher<vector, T> widen(Vector<T> narrow) {
       return narrow;
     }
+
+    final class VectorSpliterator implements CopyableSpliterator<T>{
+        private int origin;
+        private int index;
+        private final int fence;
+
+        VectorSpliterator(int index, int fence) {
+            this.origin = index;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            int aligned = mid & ~0x01f;
+            if(aligned>index)
+                mid = aligned;
+            if(mid<=index)
+                return null;
+            VectorSpliterator split = new VectorSpliterator(index,mid);
+            origin = mid;
+            index = mid;
+            return split;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if(index<fence){
+                action.accept(getOrElse(index++,null));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            int tailStart = size-tail.size();
+            int from = index;
+            index = fence;
+            if(from<tailStart) {
+                int end = Math.min(fence, tailStart);
+                root.forEach(from, end, action);
+                from = end;
+            }
+            if(from<fence)
+                tail.forEach(from-tailStart,fence-tailStart,action);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence-index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+
+        @Override
+        public Spliterator<T> copy() {
+            return new VectorSpliterator(origin,fence);
+        }
+    }
 }
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -45,6 +46,14 @@ public class BAMT<T> {
 
         public <R> NestedArray<R> map(Function<? super T, ? extends R> fn);
 
+        /**
+         * Pass the elements from position from (inclusive) to position to (exclusive) to action, in order
+         */
+        default void forEach(int from, int to, Consumer<? super T> action){
+            for(int pos=from;pos<to;pos++)
+                action.accept(getOrElse(pos,null));
+        }
+
     }
     public interface PopulatedArray<T> extends NestedArray<T>{
         public T getOrElseGet(int pos, Supplier<T> alt);
@@ -53,6 +62,22 @@ public class BAMT<T> {
         public T[] getNestedArrayAt(int pos);
         public PopulatedArray<T> set(int pos, T value);
 
+        /*
+         * Walks each (32 element) leaf array directly, rather than descending the tree once per element
+         */
+        @Override
+        default void forEach(int from, int to, Consumer<? super T> action){
+            int pos = from;
+            while(pos<to){
+                T[] leaf = getNestedArrayAt(pos);
+                int start = pos & 0x01f;
+                int n = Math.min(SIZE-start,to-pos);
+                for(int i=start;i<start+n;i++)
+                    action.accept(leaf[i]);
+                pos+=n;
+            }
+        }
+
     }
 
     public static class ArrayUtils{
@@ -80,6 +105,184 @@ public class BAMT<T> {
         }
     }
 
+    /**
+     * A mutable, single threaded builder for BAMT structures. Nodes along the rightmost path are allocated with a
+     * capacity of 32 and filled in place, so appending does not copy arrays. Calling freezeRoot / freezeTail produces
+     * exactly sized copies of the rightmost path, leaving every array reachable from the persistent result untouched by
+     * further appends. A Transient must not be shared between threads.
+     *
+     * @param <T> Data type of the elements
+     */
+    public static class Transient<T>{
+        private static final int MAX_DEPTH = 6;
+
+        private Object[] root;
+        private int depth;
+        private int rootSize;
+        private Object[] tail = new Object[32];
+        private int tailSize;
+        private NestedArray<T> prefix;
+        private int prefixSize;
+
+        public static <T> Transient<T> empty(){
+            return new Transient<>();
+        }
+
+        public static <T> Transient<T> from(NestedArray<T> root, ActiveTail<T> tail, int size){
+            Transient<T> res = new Transient<>();
+            if(root instanceof Relaxed){
+                //appended elements are built into a regular trie and concatenated on freeze
+                res.prefix = root;
+                res.prefixSize = size - tail.size();
+            }
+            Object[] array = rootArray(root);
+            if(array!=null) {
+                res.depth = depthOf(root);
+                res.root = res.depth == 1 ? array : editableSpine(array, res.depth);
+                res.rootSize = size - tail.size();
+            }
+            System.arraycopy(tail.array,0,res.tail,0,tail.array.length);
+            res.tailSize = tail.array.length;
+            return res;
+        }
+
+        public Transient<T> append(T value){
+            if(tailSize==32){
+                pushLeaf(tail);
+                tail = new Object[32];
+                tailSize = 0;
+            }
+            tail[tailSize++]=value;
+            return this;
+        }
+
+        public int size(){
+            return prefixSize+rootSize+tailSize;
+        }
+
+        public ActiveTail<T> freezeTail(){
+            return new ActiveTail<>((T[])Arrays.copyOf(tail,tailSize));
+        }
+
+        public NestedArray<T> freezeRoot(){
+            if(prefix!=null)
+                return Relaxed.concat(prefix,prefixSize,freezeTrie(),rootSize);
+            return freezeTrie();
+        }
+
+        private NestedArray<T> freezeTrie(){
+            switch(depth){
+                case 0:
+                    return new Zero<>();
+                case 1:
+                    return One.one((T[])root);
+                case 2:
+                    return Two.two((Object[][])trim(root,2,rootSize));
+                case 3:
+                    return Three.three((Object[][][])trim(root,3,rootSize));
+                case 4:
+                    return Four.four((Object[][][][])trim(root,4,rootSize));
+                case 5:
+                    return Five.five((Object[][][][][])trim(root,5,rootSize));
+                default:
+                    return Six.six((Object[][][][][][])trim(root,6,rootSize));
+            }
+        }
+
+        private void pushLeaf(Object[] leaf){
+            if(depth==0){
+                root = leaf;
+                depth = 1;
+                rootSize = 32;
+                return;
+            }
+            if(rootSize == 1 << (NestedArray.BITS_IN_INDEX * depth)){
+                if(depth==MAX_DEPTH)
+                    return; //BAMT is full
+                Object[] newRoot = newNode(depth+1);
+                newRoot[0]=root;
+                root = newRoot;
+                depth++;
+            }
+            Object[] node = root;
+            for(int level=depth;level>2;level--){
+                int indx = NestedArray.mask(rootSize,NestedArray.BITS_IN_INDEX*(level-1));
+                Object[] child = (Object[])node[indx];
+                if(child==null){
+                    child = newNode(level-1);
+                    node[indx]=child;
+                }
+                node = child;
+            }
+            node[NestedArray.mask(rootSize,NestedArray.BITS_IN_INDEX)]=leaf;
+            rootSize+=32;
+        }
+
+        private static Object[] newNode(int level){
+            switch(level){
+                case 2:
+                    return new Object[32][];
+                case 3:
+                    return new Object[32][][];
+                case 4:
+                    return new Object[32][][][];
+                case 5:
+                    return new Object[32][][][][];
+                default:
+                    return new Object[32][][][][][];
+            }
+        }
+
+        private static Object[] trim(Object[] node, int level, int count){
+            int childCapacity = 1 << (NestedArray.BITS_IN_INDEX * (level-1));
+            int children = (count + childCapacity -1) / childCapacity;
+            Object[] res = Arrays.copyOf(node,children);
+            if(level>2 && children>0){
+                int last = children-1;
+                res[last] = trim((Object[])node[last],level-1,count-last*childCapacity);
+            }
+            return res;
+        }
+
+        private static Object[] editableSpine(Object[] node, int level){
+            Object[] res = Arrays.copyOf(node,32);
+            if(level>2 && node.length>0){
+                res[node.length-1] = editableSpine((Object[])node[node.length-1],level-1);
+            }
+            return res;
+        }
+
+        private static Object[] rootArray(NestedArray<?> root){
+            if(root instanceof One)
+                return ((One)root).array;
+            if(root instanceof Two)
+                return ((Two)root).array;
+            if(root instanceof Three)
+                return ((Three)root).array;
+            if(root instanceof Four)
+                return ((Four)root).array;
+            if(root instanceof Five)
+                return ((Five)root).array;
+            if(root instanceof Six)
+                return ((Six)root).array;
+            return null;
+        }
+
+        private static int depthOf(NestedArray<?> root){
+            if(root instanceof One)
+                return 1;
+            if(root instanceof Two)
+                return 2;
+            if(root instanceof Three)
+                return 3;
+            if(root instanceof Four)
+                return 4;
+            if(root instanceof Five)
+                return 5;
+            return 6;
+        }
+    }
+
     @AllArgsConstructor
     public static class ActiveTail<T> implements PopulatedArray<T>{
         private final int bitShiftDepth =0;
@@ -1034,4 +1237,418 @@ public class BAMT<T> {
         }
 
     }
+
+    /**
+     * A relaxed radix balanced (RRB) tree. Nodes carry a table of cumulative child sizes (stored in the final slot of
+     * the node array), so that leaves and subtrees need not be full. This allows concatenation, splitting and
+     * insertion in the middle of a Vector in O(log n) time while index lookups remain effectively constant.
+     *
+     * Trees are represented as a node array and a height, at height 0 the node is a leaf of elements. Children of a
+     * relaxed node may be relaxed nodes or regular (left packed) BAMT arrays, such as those held by {@link Two} or
+     * {@link Three}. All nodes created by this class are relaxed.
+     *
+     * @param <T> Data type of the elements
+     */
+    public static final class Relaxed<T> implements PopulatedArray<T>{
+        private static final int E_MAX = 2;
+
+        private final Object[] node;
+        private final int height;
+        private final int size;
+
+        private Relaxed(Object[] node, int height, int size) {
+            this.node = node;
+            this.height = height;
+            this.size = size;
+        }
+
+        /**
+         * Concatenate two BAMT structures
+         *
+         * @param left First structure
+         * @param leftSize Number of elements in the first structure
+         * @param right Second structure
+         * @param rightSize Number of elements in the second structure
+         * @return A structure containing the elements of left followed by those of right
+         */
+        public static <T> NestedArray<T> concat(NestedArray<T> left, int leftSize, NestedArray<T> right, int rightSize){
+            if(rightSize==0)
+                return left;
+            if(leftSize==0)
+                return right;
+            Object[] merged = concatSubTree(nodeOf(left),heightOf(left),nodeOf(right),heightOf(right),true);
+            return shrink(merged,Math.max(heightOf(left),heightOf(right))+1,leftSize+rightSize);
+        }
+
+        /**
+         * @param tail A tail of up to 32 elements
+         * @return A Relaxed tree consisting of a single leaf holding the elements of the tail
+         */
+        public static <T> NestedArray<T> leaf(ActiveTail<T> tail){
+            if(tail.array.length==0)
+                return new Zero<>();
+            return new Relaxed<>(tail.array,0,tail.array.length);
+        }
+
+        /**
+         * @param root BAMT structure
+         * @param n Number of elements to keep (0 &lt; n &lt;= size of root)
+         * @return A structure containing the first n elements of root
+         */
+        public static <T> NestedArray<T> take(NestedArray<T> root, int n){
+            return shrink(take(nodeOf(root),heightOf(root),n),heightOf(root),n);
+        }
+
+        /**
+         * @param root BAMT structure
+         * @param rootSize Number of elements in root
+         * @param n Number of elements to remove from the start (0 &lt;= n &lt; rootSize)
+         * @return A structure containing all but the first n elements of root
+         */
+        public static <T> NestedArray<T> drop(NestedArray<T> root, int rootSize, int n){
+            if(n==0)
+                return root;
+            return shrink(drop(nodeOf(root),heightOf(root),n),heightOf(root),rootSize-n);
+        }
+
+        private static <T> NestedArray<T> shrink(Object[] node, int height, int size){
+            while(height>0 && childCount(node)==1){
+                node = (Object[])node[0];
+                height--;
+            }
+            return new Relaxed<>(node,height,size);
+        }
+
+        private static Object[] nodeOf(NestedArray<?> root){
+            if(root instanceof Relaxed)
+                return ((Relaxed)root).node;
+            return Transient.rootArray(root);
+        }
+
+        private static int heightOf(NestedArray<?> root){
+            if(root instanceof Relaxed)
+                return ((Relaxed)root).height;
+            return Transient.depthOf(root)-1;
+        }
+
+        private static boolean isRelaxed(Object[] node){
+            return node[node.length-1] instanceof int[];
+        }
+
+        private static int childCount(Object[] node){
+            return isRelaxed(node) ? node.length-1 : node.length;
+        }
+
+        private static int sizeOf(Object[] node, int height){
+            if(height==0)
+                return node.length;
+            if(isRelaxed(node)){
+                int[] sizes = (int[])node[node.length-1];
+                return sizes[sizes.length-1];
+            }
+            return ((node.length-1) << (BITS_IN_INDEX*height)) + sizeOf((Object[])last(node),height-1);
+        }
+
+        private static int slots(Object[] node, int height){
+            return height==0 ? node.length : childCount(node);
+        }
+
+        private static Object[] relaxed(Object[] children, int count, int height){
+            Object[] res = Arrays.copyOf(children,count+1,Object[].class);
+            int[] sizes = new int[count];
+            int total = 0;
+            for(int i=0;i<count;i++){
+                total+=sizeOf((Object[])children[i],height-1);
+                sizes[i]=total;
+            }
+            res[count]=sizes;
+            return res;
+        }
+
+        /**
+         * Locate the child of node that contains pos
+         *
+         * @return index of the child, with offset[0] set to the number of elements in preceding children
+         */
+        private static int childIndex(Object[] node, int height, int pos, int[] offset){
+            int shift = BITS_IN_INDEX*height;
+            if(isRelaxed(node)){
+                int[] sizes = (int[])node[node.length-1];
+                int indx = pos >>> shift;
+                while(sizes[indx]<=pos){
+                    indx++;
+                }
+                offset[0] = indx==0 ? 0 : sizes[indx-1];
+                return indx;
+            }
+            int indx = pos >>> shift;
+            offset[0] = indx << shift;
+            return indx;
+        }
+
+        private static Object[] leafFor(Object[] node, int height, int pos, int[] offset){
+            int start = 0;
+            while(height>0){
+                int indx = childIndex(node,height,pos-start,offset);
+                start+=offset[0];
+                node = (Object[])node[indx];
+                height--;
+            }
+            offset[0]=start;
+            return node;
+        }
+
+        private static Object[] take(Object[] node, int height, int n){
+            if(height==0)
+                return n==node.length ? node : Arrays.copyOf(node,n,Object[].class);
+            int[] offset = {0};
+            int indx = childIndex(node,height,n-1,offset);
+            Object[] children = Arrays.copyOf(node,indx+1,Object[].class);
+            children[indx] = take((Object[])node[indx],height-1,n-offset[0]);
+            return relaxed(children,indx+1,height);
+        }
+
+        private static Object[] drop(Object[] node, int height, int n){
+            if(height==0)
+                return n==0 ? node : Arrays.copyOfRange(node,n,node.length,Object[].class);
+            int[] offset = {0};
+            int indx = childIndex(node,height,n,offset);
+            int count = childCount(node);
+            Object[] children = new Object[count-indx];
+            System.arraycopy(node,indx,children,0,count-indx);
+            children[0] = drop((Object[])node[indx],height-1,n-offset[0]);
+            return relaxed(children,children.length,height);
+        }
+
+        private static Object[] set(Object[] node, int height, int pos, Object value){
+            Object[] res = node.clone();
+            if(height==0){
+                res[pos]=value;
+                return res;
+            }
+            int[] offset = {0};
+            int indx = childIndex(node,height,pos,offset);
+            res[indx] = set((Object[])node[indx],height-1,pos-offset[0],value);
+            return res;
+        }
+
+        private static Object[] map(Object[] node, int height, Function<Object,Object> fn){
+            Object[] res = new Object[node.length];
+            if(height==0){
+                for(int i=0;i<node.length;i++){
+                    res[i]=fn.apply(node[i]);
+                }
+                return res;
+            }
+            int count = childCount(node);
+            for(int i=0;i<count;i++){
+                res[i]=map((Object[])node[i],height-1,fn);
+            }
+            if(count<node.length)
+                res[count]=node[count];
+            return res;
+        }
+
+        /**
+         * Merge the right edge of left with the left edge of right, as described by Bagwell and Rompf in
+         * RRB-Trees: Efficient Immutable Vectors.
+         *
+         * @return A node of height max(leftHeight,rightHeight)+1 containing one or two children
+         */
+        private static Object[] concatSubTree(Object[] left, int leftHeight, Object[] right, int rightHeight, boolean top){
+            if(leftHeight>rightHeight){
+                Object[] mid = concatSubTree((Object[])left[childCount(left)-1],leftHeight-1,right,rightHeight,false);
+                return rebalance(left,mid,null,leftHeight);
+            }
+            if(leftHeight<rightHeight){
+                Object[] mid = concatSubTree(left,leftHeight,(Object[])right[0],rightHeight-1,false);
+                return rebalance(null,mid,right,rightHeight);
+            }
+            if(leftHeight==0){
+                if(top && left.length+right.length<=SIZE){
+                    Object[] merged = Arrays.copyOf(left,left.length+right.length,Object[].class);
+                    System.arraycopy(right,0,merged,left.length,right.length);
+                    return relaxed(new Object[]{merged},1,1);
+                }
+                return relaxed(new Object[]{left,right},2,1);
+            }
+            Object[] mid = concatSubTree((Object[])left[childCount(left)-1],leftHeight-1,(Object[])right[0],rightHeight-1,false);
+            return rebalance(left,mid,right,leftHeight);
+        }
+
+        private static Object[] rebalance(Object[] left, Object[] mid, Object[] right, int height){
+            int leftCount = left==null ? 0 : childCount(left)-1;
+            int midCount = childCount(mid);
+            int rightCount = right==null ? 0 : childCount(right)-1;
+            Object[] all = new Object[leftCount+midCount+rightCount];
+            if(left!=null)
+                System.arraycopy(left,0,all,0,leftCount);
+            System.arraycopy(mid,0,all,leftCount,midCount);
+            if(right!=null)
+                System.arraycopy(right,1,all,leftCount+midCount,rightCount);
+
+            Object[] balanced = redistribute(all,height-1);
+            if(balanced.length<=SIZE){
+                return relaxed(new Object[]{relaxed(balanced,balanced.length,height)},1,height+1);
+            }
+            Object[] first = relaxed(Arrays.copyOfRange(balanced,0,SIZE),SIZE,height);
+            Object[] second = relaxed(Arrays.copyOfRange(balanced,SIZE,balanced.length),balanced.length-SIZE,height);
+            return relaxed(new Object[]{first,second},2,height+1);
+        }
+
+        /**
+         * Compute a concatenation plan for the supplied nodes (reducing the number of nodes to within E_MAX of the
+         * optimal number) and copy their contents accordingly. Nodes that are unaffected by the plan are reused.
+         */
+        private static Object[] redistribute(Object[] all, int height){
+            int[] slots = new int[all.length];
+            int total = 0;
+            for(int i=0;i<all.length;i++){
+                slots[i] = slots((Object[])all[i],height);
+                total+=slots[i];
+            }
+            int optimal = ((total-1) / SIZE) +1;
+            int[] plan = Arrays.copyOf(slots,slots.length);
+            int len = plan.length;
+            int i=0;
+            while(optimal+E_MAX<len){
+                while(plan[i]>SIZE-E_MAX/2){
+                    i++;
+                }
+                int remaining = plan[i];
+                do{
+                    int minSize = Math.min(remaining+plan[i+1],SIZE);
+                    plan[i]=minSize;
+                    remaining = remaining + plan[i+1] - minSize;
+                    i++;
+                }while(remaining>0);
+                for(int j=i;j<len-1;j++){
+                    plan[j]=plan[j+1];
+                }
+                i--;
+                len--;
+            }
+
+            Object[] result = new Object[len];
+            int src = 0;
+            int offset = 0;
+            for(int k=0;k<len;k++){
+                int required = plan[k];
+                if(offset==0 && slots[src]==required){
+                    result[k]=all[src++];
+                    continue;
+                }
+                Object[] contents = new Object[required];
+                int filled = 0;
+                while(filled<required){
+                    int toCopy = Math.min(slots[src]-offset,required-filled);
+                    System.arraycopy(all[src],offset,contents,filled,toCopy);
+                    filled+=toCopy;
+                    offset+=toCopy;
+                    if(offset==slots[src]){
+                        src++;
+                        offset=0;
+                    }
+                }
+                result[k] = height==0 ? contents : relaxed(contents,required,height);
+            }
+            return result;
+        }
+
+        public int size(){
+            return size;
+        }
+
+        @Override
+        public NestedArray<T> append(ActiveTail<T> tail) {
+            return concat(this,size,leaf(tail),tail.size());
+        }
+
+        @Override
+        public T getOrElseGet(int pos, Supplier<T> alt) {
+            if(pos<0||pos>=size)
+                return alt.get();
+            return getElement(pos);
+        }
+
+        @Override
+        public T getOrElse(int pos, T alt) {
+            if(pos<0||pos>=size)
+                return alt;
+            return getElement(pos);
+        }
+
+        @Override
+        public Option<T> get(int pos) {
+            if(pos<0||pos>=size)
+                return Option.none();
+            return Option.some(getElement(pos));
+        }
+
+        private T getElement(int pos){
+            int[] offset = {0};
+            Object[] leaf = leafFor(node,height,pos,offset);
+            return (T)leaf[pos-offset[0]];
+        }
+
+        @Override
+        public T[] getNestedArrayAt(int pos) {
+            return (T[])leafFor(node,height,pos,new int[1]);
+        }
+
+        @Override
+        public void forEach(int from, int to, Consumer<? super T> action) {
+            final int[] offset = {0};
+            int pos = from;
+            while(pos<to){
+                Object[] leaf = leafFor(node,height,pos,offset);
+                int start = pos-offset[0];
+                int n = Math.min(leaf.length-start,to-pos);
+                for(int i=start;i<start+n;i++)
+                    action.accept((T)leaf[i]);
+                pos+=n;
+            }
+        }
+
+        @Override
+        public Relaxed<T> set(int pos, T value) {
+            return new Relaxed<>(set(node,height,pos,value),height,size);
+        }
+
+        @Override
+        public <R> Relaxed<R> map(Function<? super T, ? extends R> fn) {
+            return new Relaxed<>(map(node,height,(Function<Object,Object>)fn),height,size);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                final int[] offset = {0};
+                int pos = 0;
+                Object[] leaf = new Object[0];
+                int leafStart = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return pos<size;
+                }
+
+                @Override
+                public T next() {
+                    if(pos>=size)
+                        throw new NoSuchElementException();
+                    if(pos-leafStart>=leaf.length){
+                        leaf = leafFor(node,height,pos,offset);
+                        leafStart = offset[0];
+                    }
+                    return (T)leaf[pos++ - leafStart];
+                }
+            };
+        }
+
+        @Override
+        public ReactiveSeq<T> stream() {
+            return ReactiveSeq.fromIterable(this::iterator);
+        }
+    }
 }
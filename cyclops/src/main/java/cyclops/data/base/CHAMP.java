@@ -0,0 +1,529 @@
+package cyclops.data.base;
+
+
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
+import cyclops.control.Option;
+import cyclops.data.LazySeq;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Compressed Hash-Array Mapped Prefix-tree (CHAMP) nodes, as described by Steindorfer and Vinju in
+ * Optimizing Hash-Array Mapped Tries for Fast and Lean Immutable JVM Collections.
+ *
+ * Unlike the {@link HAMT} BitsetNode / ValueNode layout, each node stores its entries inline as alternating key / value
+ * slots at the start of a single array, with sub-nodes at the end of the same array. A datamap and a nodemap record
+ * which of the 32 hash positions hold an entry and which hold a sub-node. Removing the per entry ValueNode roughly
+ * halves the memory used per entry, and iteration walks contiguous arrays rather than chasing a pointer per entry.
+ *
+ * CHAMP nodes implement {@link HAMT.Node} and can be used (and bulk built via {@link HAMT.Transient}) wherever a HAMT
+ * is expected.
+ */
+public final class CHAMP {
+
+    private static final int BITS_IN_INDEX = HAMT.BITS_IN_INDEX;
+    private static final int HASH_CODE_LENGTH = 32;
+
+    private static final BitmapIndexedNode EMPTY = new BitmapIndexedNode<>(0, 0, new Object[0], 0, null);
+
+    private CHAMP() {
+    }
+
+    public static <K, V> HAMT.Node<K, V> empty() {
+        return EMPTY;
+    }
+
+    static int mask(int hash, int shift) {
+        return (hash >>> shift) & (HAMT.SIZE - 1);
+    }
+
+    static int bitpos(int mask) {
+        return 1 << mask;
+    }
+
+    static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private static <K, V> HAMT.Node<K, V> mergeTwo(Object edit, K key0, V value0, int hash0, K key1, V value1, int hash1, int shift) {
+        if (shift >= HASH_CODE_LENGTH) {
+            return new CollisionNode<>(hash0, new Object[]{key0, value0, key1, value1});
+        }
+        int mask0 = mask(hash0, shift);
+        int mask1 = mask(hash1, shift);
+        if (mask0 != mask1) {
+            Object[] content = mask0 < mask1 ? new Object[]{key0, value0, key1, value1} : new Object[]{key1, value1, key0, value0};
+            return new BitmapIndexedNode<>(bitpos(mask0) | bitpos(mask1), 0, content, 2, edit);
+        }
+        HAMT.Node<K, V> node = mergeTwo(edit, key0, value0, hash0, key1, value1, hash1, shift + BITS_IN_INDEX);
+        return new BitmapIndexedNode<>(0, bitpos(mask0), new Object[]{node}, 2, edit);
+    }
+
+    /**
+     * A node holding up to 32 entries or sub-nodes, indexed by 5 bits of the key hash
+     */
+    public static final class BitmapIndexedNode<K, V> implements HAMT.Node<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+        private int size;
+        private final transient Object edit;
+
+        private BitmapIndexedNode(int dataMap, int nodeMap, Object[] content, int size, Object edit) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+            this.size = size;
+            this.edit = edit;
+        }
+
+        int payloadArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        int nodeArity() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        private K keyAt(int index) {
+            return (K) content[2 * index];
+        }
+
+        private V valueAt(int index) {
+            return (V) content[2 * index + 1];
+        }
+
+        private HAMT.Node<K, V> nodeAt(int index) {
+            return (HAMT.Node<K, V>) content[content.length - 1 - index];
+        }
+
+        private boolean ownedBy(Object edit) {
+            return edit != null && this.edit == edit;
+        }
+
+        private BitmapIndexedNode<K, V> editable(Object edit) {
+            return ownedBy(edit) ? this : new BitmapIndexedNode<>(dataMap, nodeMap, content.clone(), size, edit);
+        }
+
+        @Override
+        public HAMT.Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+            return plus(null, bitShiftDepth, hash, key, value);
+        }
+
+        @Override
+        public HAMT.Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
+            int bit = bitpos(mask(hash, bitShiftDepth));
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                K current = keyAt(index);
+                if (Objects.equals(current, key)) {
+                    if (current == key && valueAt(index) == value)
+                        return this;
+                    BitmapIndexedNode<K, V> updated = editable(edit);
+                    updated.content[2 * index] = key;
+                    updated.content[2 * index + 1] = value;
+                    return updated;
+                }
+                HAMT.Node<K, V> node = mergeTwo(edit, current, valueAt(index), current.hashCode(), key, value, hash, bitShiftDepth + BITS_IN_INDEX);
+                return migrateInlineToNode(edit, bit, node);
+            }
+            if ((nodeMap & bit) != 0) {
+                int pos = content.length - 1 - index(nodeMap, bit);
+                HAMT.Node<K, V> node = (HAMT.Node<K, V>) content[pos];
+                int nodeSize = node.size(); //the node may be updated in place
+                HAMT.Node<K, V> updatedNode = node.plus(edit, bitShiftDepth + BITS_IN_INDEX, hash, key, value);
+                if (updatedNode == node && !ownedBy(edit))
+                    return this;
+                BitmapIndexedNode<K, V> updated = editable(edit);
+                updated.content[pos] = updatedNode;
+                updated.size += updatedNode.size() - nodeSize;
+                return updated;
+            }
+            int pos = 2 * index(dataMap, bit);
+            Object[] added = new Object[content.length + 2];
+            System.arraycopy(content, 0, added, 0, pos);
+            added[pos] = key;
+            added[pos + 1] = value;
+            System.arraycopy(content, pos, added, pos + 2, content.length - pos);
+            return new BitmapIndexedNode<>(dataMap | bit, nodeMap, added, size + 1, edit);
+        }
+
+        private HAMT.Node<K, V> migrateInlineToNode(Object edit, int bit, HAMT.Node<K, V> node) {
+            int oldPos = 2 * index(dataMap, bit);
+            int newPos = content.length - 2 - index(nodeMap, bit);
+            Object[] migrated = new Object[content.length - 1];
+            System.arraycopy(content, 0, migrated, 0, oldPos);
+            System.arraycopy(content, oldPos + 2, migrated, oldPos, newPos - oldPos);
+            migrated[newPos] = node;
+            System.arraycopy(content, newPos + 2, migrated, newPos + 1, content.length - newPos - 2);
+            return new BitmapIndexedNode<>(dataMap ^ bit, nodeMap | bit, migrated, size + 1, edit);
+        }
+
+        private HAMT.Node<K, V> migrateNodeToInline(int bit, K key, V value) {
+            int oldPos = content.length - 1 - index(nodeMap, bit);
+            int newPos = 2 * index(dataMap, bit);
+            Object[] migrated = new Object[content.length + 1];
+            System.arraycopy(content, 0, migrated, 0, newPos);
+            migrated[newPos] = key;
+            migrated[newPos + 1] = value;
+            System.arraycopy(content, newPos, migrated, newPos + 2, oldPos - newPos);
+            System.arraycopy(content, oldPos + 1, migrated, oldPos + 2, content.length - oldPos - 1);
+            return new BitmapIndexedNode<>(dataMap | bit, nodeMap ^ bit, migrated, size - 1, null);
+        }
+
+        @Override
+        public HAMT.Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+            int bit = bitpos(mask(hash, bitShiftDepth));
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                if (!Objects.equals(keyAt(index), key))
+                    return this;
+                Object[] removed = new Object[content.length - 2];
+                System.arraycopy(content, 0, removed, 0, 2 * index);
+                System.arraycopy(content, 2 * index + 2, removed, 2 * index, content.length - 2 * index - 2);
+                return new BitmapIndexedNode<>(dataMap ^ bit, nodeMap, removed, size - 1, null);
+            }
+            if ((nodeMap & bit) != 0) {
+                int pos = content.length - 1 - index(nodeMap, bit);
+                HAMT.Node<K, V> node = (HAMT.Node<K, V>) content[pos];
+                HAMT.Node<K, V> updatedNode = node.minus(bitShiftDepth + BITS_IN_INDEX, hash, key);
+                if (updatedNode.size() == node.size())
+                    return this;
+                if (updatedNode.size() == 1) {
+                    //keep the trie canonical, single entries are always stored inline
+                    Tuple2<K, V> entry = updatedNode.stream().firstValue(null);
+                    return migrateNodeToInline(bit, entry._1(), entry._2());
+                }
+                Object[] updated = content.clone();
+                updated[pos] = updatedNode;
+                return new BitmapIndexedNode<>(dataMap, nodeMap, updated, size - 1, null);
+            }
+            return this;
+        }
+
+        @Override
+        public Option<V> get(int bitShiftDepth, int hash, K key) {
+            int bit = bitpos(mask(hash, bitShiftDepth));
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                return Objects.equals(keyAt(index), key) ? Option.of(valueAt(index)) : Option.none();
+            }
+            if ((nodeMap & bit) != 0) {
+                return nodeAt(index(nodeMap, bit)).get(bitShiftDepth + BITS_IN_INDEX, hash, key);
+            }
+            return Option.none();
+        }
+
+        @Override
+        public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+            int bit = bitpos(mask(hash, bitShiftDepth));
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                return Objects.equals(keyAt(index), key) ? valueAt(index) : alt;
+            }
+            if ((nodeMap & bit) != 0) {
+                return nodeAt(index(nodeMap, bit)).getOrElse(bitShiftDepth + BITS_IN_INDEX, hash, key, alt);
+            }
+            return alt;
+        }
+
+        @Override
+        public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+            int bit = bitpos(mask(hash, bitShiftDepth));
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                return Objects.equals(keyAt(index), key) ? valueAt(index) : alt.get();
+            }
+            if ((nodeMap & bit) != 0) {
+                return nodeAt(index(nodeMap, bit)).getOrElseGet(bitShiftDepth + BITS_IN_INDEX, hash, key, alt);
+            }
+            return alt.get();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public LazySeq<Tuple2<K, V>> lazyList() {
+            return LazySeq.fromStream(stream());
+        }
+
+        @Override
+        public ReactiveSeq<Tuple2<K, V>> stream() {
+            return ReactiveSeq.fromSpliterator(new NodeSpliterator<>(this, 0, payloadArity() + nodeArity(), null));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof BitmapIndexedNode))
+                return false;
+            BitmapIndexedNode<?, ?> other = (BitmapIndexedNode<?, ?>) o;
+            return dataMap == other.dataMap && nodeMap == other.nodeMap && size == other.size && Arrays.equals(content, other.content);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * dataMap + nodeMap) + Arrays.hashCode(content);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder s = new StringBuilder("{d:" + Integer.toBinaryString(dataMap) + ",n:" + Integer.toBinaryString(nodeMap) + ",s:" + size);
+            for (int i = 0; i < payloadArity(); i++) {
+                s.append(",[k:" + keyAt(i) + ",v:" + valueAt(i) + "]");
+            }
+            for (int i = 0; i < nodeArity(); i++) {
+                s.append("," + nodeAt(i));
+            }
+            return s.append("}").toString();
+        }
+    }
+
+    /**
+     * Entries whose keys have identical hash codes
+     */
+    public static final class CollisionNode<K, V> implements HAMT.Node<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int hash;
+        private final Object[] content;
+
+        private CollisionNode(int hash, Object[] content) {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(K key) {
+            for (int i = 0; i < content.length; i += 2) {
+                if (Objects.equals(content[i], key))
+                    return i;
+            }
+            return -1;
+        }
+
+        @Override
+        public HAMT.Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+            int index = indexOf(key);
+            if (index == -1) {
+                Object[] added = Arrays.copyOf(content, content.length + 2);
+                added[content.length] = key;
+                added[content.length + 1] = value;
+                return new CollisionNode<>(hash, added);
+            }
+            Object[] updated = content.clone();
+            updated[index] = key;
+            updated[index + 1] = value;
+            return new CollisionNode<>(hash, updated);
+        }
+
+        @Override
+        public HAMT.Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+            int index = indexOf(key);
+            if (index == -1)
+                return this;
+            Object[] removed = new Object[content.length - 2];
+            System.arraycopy(content, 0, removed, 0, index);
+            System.arraycopy(content, index + 2, removed, index, content.length - index - 2);
+            return new CollisionNode<>(hash, removed);
+        }
+
+        @Override
+        public Option<V> get(int bitShiftDepth, int hash, K key) {
+            int index = indexOf(key);
+            return index == -1 ? Option.none() : Option.of((V) content[index + 1]);
+        }
+
+        @Override
+        public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+            int index = indexOf(key);
+            return index == -1 ? alt : (V) content[index + 1];
+        }
+
+        @Override
+        public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+            int index = indexOf(key);
+            return index == -1 ? alt.get() : (V) content[index + 1];
+        }
+
+        @Override
+        public int size() {
+            return content.length / 2;
+        }
+
+        @Override
+        public LazySeq<Tuple2<K, V>> lazyList() {
+            return LazySeq.fromStream(stream());
+        }
+
+        @Override
+        public ReactiveSeq<Tuple2<K, V>> stream() {
+            return ReactiveSeq.fromSpliterator(spliterator());
+        }
+
+        private Spliterator<Tuple2<K, V>> spliterator() {
+            Object[] entries = new Object[size()];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = Tuple.tuple(content[2 * i], content[2 * i + 1]);
+            }
+            return Spliterators.spliterator(entries, Spliterator.IMMUTABLE);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof CollisionNode))
+                return false;
+            CollisionNode<K, V> other = (CollisionNode<K, V>) o;
+            if (hash != other.hash || size() != other.size())
+                return false;
+            for (int i = 0; i < content.length; i += 2) {
+                int index = other.indexOf((K) content[i]);
+                if (index == -1 || !Objects.equals(content[i + 1], other.content[index + 1]))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "[COLLISION : h:" + hash + "," + Arrays.toString(content) + "]";
+        }
+    }
+
+    /**
+     * A sized Spliterator over a range of the slots (entries followed by sub-nodes) of a BitmapIndexedNode. Splitting
+     * divides the slot range, descending into a sub-node when only one remains.
+     */
+    static final class NodeSpliterator<K, V> implements CopyableSpliterator<Tuple2<K, V>> {
+        private BitmapIndexedNode<K, V> node;
+        private int index;
+        private int fence;
+        private Spliterator<Tuple2<K, V>> current;
+
+        NodeSpliterator(BitmapIndexedNode<K, V> node, int index, int fence, Spliterator<Tuple2<K, V>> current) {
+            this.node = node;
+            this.index = index;
+            this.fence = fence;
+            this.current = current;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tuple2<K, V>> action) {
+            while (true) {
+                if (current != null) {
+                    if (current.tryAdvance(action))
+                        return true;
+                    current = null;
+                }
+                if (index >= fence)
+                    return false;
+                int payload = node.payloadArity();
+                if (index < payload) {
+                    action.accept(Tuple.tuple(node.keyAt(index), node.valueAt(index)));
+                    index++;
+                    return true;
+                }
+                current = spliterator(node.nodeAt(index++ - payload));
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Tuple2<K, V>> action) {
+            if (current != null) {
+                current.forEachRemaining(action);
+                current = null;
+            }
+            int payload = node.payloadArity();
+            for (; index < fence && index < payload; index++) {
+                action.accept(Tuple.tuple(node.keyAt(index), node.valueAt(index)));
+            }
+            for (; index < fence; index++) {
+                forEach(node.nodeAt(index - payload), action);
+            }
+        }
+
+        private static <K, V> void forEach(HAMT.Node<K, V> node, Consumer<? super Tuple2<K, V>> action) {
+            if (node instanceof BitmapIndexedNode) {
+                BitmapIndexedNode<K, V> bitmapNode = (BitmapIndexedNode<K, V>) node;
+                int payload = bitmapNode.payloadArity();
+                for (int i = 0; i < payload; i++) {
+                    action.accept(Tuple.tuple(bitmapNode.keyAt(i), bitmapNode.valueAt(i)));
+                }
+                int nodes = bitmapNode.nodeArity();
+                for (int i = 0; i < nodes; i++) {
+                    forEach(bitmapNode.nodeAt(i), action);
+                }
+            } else {
+                ((CollisionNode<K, V>) node).spliterator().forEachRemaining(action);
+            }
+        }
+
+        private static <K, V> Spliterator<Tuple2<K, V>> spliterator(HAMT.Node<K, V> node) {
+            if (node instanceof BitmapIndexedNode) {
+                BitmapIndexedNode<K, V> bitmapNode = (BitmapIndexedNode<K, V>) node;
+                return new NodeSpliterator<>(bitmapNode, 0, bitmapNode.payloadArity() + bitmapNode.nodeArity(), null);
+            }
+            return ((CollisionNode<K, V>) node).spliterator();
+        }
+
+        @Override
+        public Spliterator<Tuple2<K, V>> trySplit() {
+            int payload = node.payloadArity();
+            if (current == null && fence - index == 1 && index >= payload && node.nodeAt(index - payload) instanceof BitmapIndexedNode) {
+                node = (BitmapIndexedNode<K, V>) node.nodeAt(index - payload);
+                index = 0;
+                fence = node.payloadArity() + node.nodeArity();
+            }
+            if (current != null && index == fence) {
+                return current.trySplit();
+            }
+            int mid = (index + fence) >>> 1;
+            if (current == null && mid == index)
+                return null;
+            NodeSpliterator<K, V> prefix = new NodeSpliterator<>(node, index, mid, current);
+            current = null;
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = current == null ? 0 : current.estimateSize();
+            int payload = node.payloadArity();
+            for (int i = index; i < fence; i++) {
+                size += i < payload ? 1 : node.nodeAt(i - payload).size();
+            }
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Spliterator<Tuple2<K, V>> copy() {
+            return new NodeSpliterator<>(node, index, fence, current == null ? null : CopyableSpliterator.copy(current));
+        }
+    }
+}
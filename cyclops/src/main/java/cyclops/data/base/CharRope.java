@@ -0,0 +1,345 @@
+package cyclops.data.base;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A persistent rope of chars. Leaves hold slices of shared char[] chunks of up to {@link #CHUNK_SIZE} chars, and Concat
+ * nodes are kept height balanced (as in an AVL tree), so length is O(1) and charAt, substring and concat are O(log n).
+ *
+ * Substrings share the chunk arrays of the rope they were taken from, rather than copying them.
+ */
+public interface CharRope {
+
+    int CHUNK_SIZE = 256;
+
+    static Node empty() {
+        return Leaf.EMPTY;
+    }
+
+    static Node of(CharSequence seq) {
+        int length = seq.length();
+        if (length == 0)
+            return empty();
+        String str = seq.toString();
+        Node[] level = new Node[(length + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        for (int i = 0; i < level.length; i++) {
+            int start = i * CHUNK_SIZE;
+            int end = Math.min(length, start + CHUNK_SIZE);
+            char[] chunk = new char[end - start];
+            str.getChars(start, end, chunk, 0);
+            level[i] = new Leaf(chunk, 0, chunk.length);
+        }
+        return balanced(level);
+    }
+
+    /**
+     * Build a rope from the first length chars of the supplied array, copying them into new chunks
+     */
+    static Node of(char[] chars, int length) {
+        return of(java.nio.CharBuffer.wrap(chars, 0, length));
+    }
+
+    /**
+     * Pair up nodes of equal height level by level, giving a perfectly balanced tree
+     */
+    static Node balanced(Node[] level) {
+        int size = level.length;
+        while (size > 1) {
+            int next = 0;
+            for (int i = 0; i < size; i += 2) {
+                level[next++] = i + 1 < size ? new Concat(level[i], level[i + 1]) : level[i];
+            }
+            size = next;
+        }
+        return level[0];
+    }
+
+    static Node concat(Node left, Node right) {
+        if (left.length() == 0)
+            return right;
+        if (right.length() == 0)
+            return left;
+        int length = left.length() + right.length();
+        if (length <= CHUNK_SIZE) {
+            char[] chunk = new char[length];
+            left.getChars(chunk, 0);
+            right.getChars(chunk, left.length());
+            return new Leaf(chunk, 0, length);
+        }
+        int hl = left.height();
+        int hr = right.height();
+        if (hl > hr + 1) {
+            Concat c = (Concat) left;
+            return balance(c.left, concat(c.right, right));
+        }
+        if (hr > hl + 1) {
+            Concat c = (Concat) right;
+            return balance(concat(left, c.left), c.right);
+        }
+        return new Concat(left, right);
+    }
+
+    /**
+     * Join two balanced nodes whose heights differ by at most two, rotating once if needed
+     */
+    static Node balance(Node left, Node right) {
+        int hl = left.height();
+        int hr = right.height();
+        if (hl > hr + 1) {
+            Concat l = (Concat) left;
+            if (l.left.height() >= l.right.height())
+                return new Concat(l.left, new Concat(l.right, right));
+            Concat lr = (Concat) l.right;
+            return new Concat(new Concat(l.left, lr.left), new Concat(lr.right, right));
+        }
+        if (hr > hl + 1) {
+            Concat r = (Concat) right;
+            if (r.right.height() >= r.left.height())
+                return new Concat(new Concat(left, r.left), r.right);
+            Concat rl = (Concat) r.left;
+            return new Concat(new Concat(left, rl.left), new Concat(rl.right, r.right));
+        }
+        return new Concat(left, right);
+    }
+
+    static boolean contentEquals(Node a, Node b) {
+        if (a == b)
+            return true;
+        if (a.length() != b.length())
+            return false;
+        ChunkIterator ia = new ChunkIterator(a);
+        ChunkIterator ib = new ChunkIterator(b);
+        Leaf la = null;
+        Leaf lb = null;
+        int pa = 0;
+        int pb = 0;
+        int remaining = a.length();
+        while (remaining > 0) {
+            if (la == null || pa == la.length) {
+                la = ia.next();
+                pa = 0;
+            }
+            if (lb == null || pb == lb.length) {
+                lb = ib.next();
+                pb = 0;
+            }
+            int n = Math.min(la.length - pa, lb.length - pb);
+            for (int i = 0; i < n; i++) {
+                if (la.chars[la.offset + pa + i] != lb.chars[lb.offset + pb + i])
+                    return false;
+            }
+            pa += n;
+            pb += n;
+            remaining -= n;
+        }
+        return true;
+    }
+
+    interface ChunkConsumer {
+        void accept(char[] chars, int offset, int length);
+    }
+
+    interface Node extends Serializable {
+
+        int length();
+
+        int height();
+
+        char charAt(int index);
+
+        /**
+         * @param from Start index, inclusive
+         * @param to End index, exclusive
+         */
+        Node substring(int from, int to);
+
+        /**
+         * Copy the chars of this rope into dest, starting at destOffset
+         */
+        void getChars(char[] dest, int destOffset);
+
+        /**
+         * Visit each chunk of this rope in order
+         */
+        void forEachChunk(ChunkConsumer consumer);
+
+        default Node concat(Node other) {
+            return CharRope.concat(this, other);
+        }
+
+        default Iterator<Leaf> chunkIterator() {
+            return new ChunkIterator(this);
+        }
+
+        default char[] toCharArray() {
+            char[] res = new char[length()];
+            getChars(res, 0);
+            return res;
+        }
+    }
+
+    final class Leaf implements Node {
+        private static final long serialVersionUID = 1L;
+        static final Leaf EMPTY = new Leaf(new char[0], 0, 0);
+
+        private final char[] chars;
+        private final int offset;
+        private final int length;
+
+        Leaf(char[] chars, int offset, int length) {
+            this.chars = chars;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public char[] chars() {
+            return chars;
+        }
+
+        public int offset() {
+            return offset;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public int height() {
+            return 0;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length)
+                throw new IndexOutOfBoundsException("" + index);
+            return chars[offset + index];
+        }
+
+        @Override
+        public Node substring(int from, int to) {
+            if (from == 0 && to == length)
+                return this;
+            if (from >= to)
+                return EMPTY;
+            return new Leaf(chars, offset + from, to - from);
+        }
+
+        @Override
+        public void getChars(char[] dest, int destOffset) {
+            System.arraycopy(chars, offset, dest, destOffset, length);
+        }
+
+        @Override
+        public void forEachChunk(ChunkConsumer consumer) {
+            if (length > 0)
+                consumer.accept(chars, offset, length);
+        }
+    }
+
+    final class Concat implements Node {
+        private static final long serialVersionUID = 1L;
+
+        private final Node left;
+        private final Node right;
+        private final int length;
+        private final int height;
+
+        Concat(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+            this.length = left.length() + right.length();
+            this.height = Math.max(left.height(), right.height()) + 1;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public int height() {
+            return height;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length)
+                throw new IndexOutOfBoundsException("" + index);
+            Node node = this;
+            while (node instanceof Concat) {
+                Concat c = (Concat) node;
+                int leftLength = c.left.length();
+                if (index < leftLength) {
+                    node = c.left;
+                } else {
+                    node = c.right;
+                    index -= leftLength;
+                }
+            }
+            return node.charAt(index);
+        }
+
+        @Override
+        public Node substring(int from, int to) {
+            if (from == 0 && to == length)
+                return this;
+            if (from >= to)
+                return Leaf.EMPTY;
+            int leftLength = left.length();
+            if (to <= leftLength)
+                return left.substring(from, to);
+            if (from >= leftLength)
+                return right.substring(from - leftLength, to - leftLength);
+            return CharRope.concat(left.substring(from, leftLength), right.substring(0, to - leftLength));
+        }
+
+        @Override
+        public void getChars(char[] dest, int destOffset) {
+            left.getChars(dest, destOffset);
+            right.getChars(dest, destOffset + left.length());
+        }
+
+        @Override
+        public void forEachChunk(ChunkConsumer consumer) {
+            left.forEachChunk(consumer);
+            right.forEachChunk(consumer);
+        }
+    }
+
+    /**
+     * In order iterator over the non-empty leaves of a rope, using an explicit stack sized to the rope height
+     */
+    final class ChunkIterator implements Iterator<Leaf> {
+        private final Node[] stack;
+        private int depth = 0;
+
+        ChunkIterator(Node root) {
+            stack = new Node[root.height() + 1];
+            if (root.length() > 0)
+                stack[depth++] = root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public Leaf next() {
+            if (depth == 0)
+                throw new NoSuchElementException();
+            Node node = stack[--depth];
+            while (node instanceof Concat) {
+                Concat c = (Concat) node;
+                if (c.right.length() > 0)
+                    stack[depth++] = c.right;
+                node = c.left;
+            }
+            return (Leaf) node;
+        }
+    }
+}
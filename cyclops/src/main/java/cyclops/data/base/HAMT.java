@@ -1,6 +1,7 @@
 package cyclops.data.base;
 
 
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
 import com.oath.cyclops.matching.Deconstruct.Deconstruct2;
 import cyclops.companion.Comparators;
 import cyclops.control.Option;
@@ -16,6 +17,9 @@ import lombok.EqualsAndHashCode;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 
@@ -58,6 +62,14 @@ public final class HAMT<K, V> implements Serializable {
 
         public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value);
 
+        /**
+         * Add a key / value pair on behalf of a {@link Transient}. Nodes owned by edit may be updated in place, all
+         * other nodes are left unchanged.
+         */
+        default Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
+            return plus(bitShiftDepth, hash, key, value);
+        }
+
         public Option<V> get(int bitShiftDepth, int hash, K key);
 
         public V getOrElse(int bitShiftDepth, int hash, K key, V alt);
@@ -315,14 +327,25 @@ public final class HAMT<K, V> implements Serializable {
         }
     }
 
-    @AllArgsConstructor
     @EqualsAndHashCode
     public static final class BitsetNode<K, V> implements Node<K, V> {
         public final int bitset;
-        private final int size;
+        private int size;
         private final Node<K, V>[] nodes;
+        private final transient Object edit;
         private static final long serialVersionUID = 1L;
 
+        public BitsetNode(int bitset, int size, Node<K, V>[] nodes) {
+            this(bitset, size, nodes, null);
+        }
+
+        private BitsetNode(int bitset, int size, Node<K, V>[] nodes, Object edit) {
+            this.bitset = bitset;
+            this.size = size;
+            this.nodes = nodes;
+            this.edit = edit;
+        }
+
         @Override
         public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
             int bitPos = bitpos(hash, bitShiftDepth);
@@ -343,6 +366,25 @@ public final class HAMT<K, V> implements Serializable {
 
         }
 
+        @Override
+        public Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
+            int bitPos = bitpos(hash, bitShiftDepth);
+            int arrayPos = index(bitPos);
+            if (absent(bitPos)) {
+                Node<K, V>[] addedNodes = new Node[nodes.length + 1];
+                System.arraycopy(nodes, 0, addedNodes, 0, arrayPos);
+                addedNodes[arrayPos] = new ValueNode<>(hash, key, value);
+                System.arraycopy(nodes, arrayPos, addedNodes, arrayPos + 1, nodes.length - arrayPos);
+                return new BitsetNode<>(bitset | bitPos, size + 1, addedNodes, edit);
+            }
+            int childSize = nodes[arrayPos].size(); //the child may be updated in place
+            Node<K, V> node = nodes[arrayPos].plus(edit, bitShiftDepth + BITS_IN_INDEX, hash, key, value);
+            BitsetNode<K, V> editable = this.edit == edit ? this : new BitsetNode<>(bitset, size, Arrays.copyOf(nodes, nodes.length), edit);
+            editable.nodes[arrayPos] = node;
+            editable.size += node.size() - childSize;
+            return editable;
+        }
+
         static int size(Node[] n) {
             int res = 0;
             for (Node next : n) {
@@ -435,7 +477,7 @@ public final class HAMT<K, V> implements Serializable {
 
         @Override
         public ReactiveSeq<Tuple2<K, V>> stream() {
-            return ReactiveSeq.of(nodes).flatMap(n -> n.stream());
+            return ReactiveSeq.fromSpliterator(new NodeSpliterator<>(nodes, 0, nodes.length, null));
         }
 
         static int bitpos(int hash, int shift) {
@@ -465,4 +507,158 @@ public final class HAMT<K, V> implements Serializable {
         }
     }
 
+    /**
+     * A mutable, single threaded builder for HAMT structures. BitsetNodes created or copied by a Transient are owned by it
+     * and updated in place by later puts, rather than copying the path from the root on every insert. Calling freeze ends
+     * ownership of all nodes, so the returned Node is unaffected by any further puts. A Transient must not be shared
+     * between threads.
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     */
+    public static final class Transient<K, V> {
+        private Node<K, V> root;
+        private Object edit = new Object();
+
+        private Transient(Node<K, V> root) {
+            this.root = root;
+        }
+
+        public static <K, V> Transient<K, V> empty() {
+            return new Transient<>(HAMT.empty());
+        }
+
+        public static <K, V> Transient<K, V> from(Node<K, V> root) {
+            return new Transient<>(root);
+        }
+
+        public Transient<K, V> put(K key, V value) {
+            root = root.plus(edit, 0, key.hashCode(), key, value);
+            return this;
+        }
+
+        public V getOrElse(K key, V alt) {
+            return root.getOrElse(key, alt);
+        }
+
+        public int size() {
+            return root.size();
+        }
+
+        public Node<K, V> freeze() {
+            edit = new Object();
+            return root;
+        }
+    }
+
+    /**
+     * A sized Spliterator over a range of sibling nodes. Splitting divides the range in two, and where a single
+     * BitsetNode remains the Spliterator descends into its children, so parallel Streams divide along the trie.
+     */
+    static final class NodeSpliterator<K, V> implements CopyableSpliterator<Tuple2<K, V>> {
+        private Node<K, V>[] nodes;
+        private int index;
+        private int fence;
+        private Spliterator<Tuple2<K, V>> current;
+
+        NodeSpliterator(Node<K, V>[] nodes, int index, int fence, Spliterator<Tuple2<K, V>> current) {
+            this.nodes = nodes;
+            this.index = index;
+            this.fence = fence;
+            this.current = current;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tuple2<K, V>> action) {
+            while (true) {
+                if (current != null) {
+                    if (current.tryAdvance(action))
+                        return true;
+                    current = null;
+                }
+                if (index >= fence)
+                    return false;
+                Node<K, V> next = nodes[index++];
+                if (next instanceof ValueNode) {
+                    action.accept(((ValueNode<K, V>) next).unapply());
+                    return true;
+                }
+                current = spliterator(next);
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Tuple2<K, V>> action) {
+            if (current != null) {
+                current.forEachRemaining(action);
+                current = null;
+            }
+            for (; index < fence; index++) {
+                forEach(nodes[index], action);
+            }
+        }
+
+        private static <K, V> void forEach(Node<K, V> node, Consumer<? super Tuple2<K, V>> action) {
+            if (node instanceof ValueNode) {
+                action.accept(((ValueNode<K, V>) node).unapply());
+            } else if (node instanceof BitsetNode) {
+                for (Node<K, V> next : ((BitsetNode<K, V>) node).nodes) {
+                    forEach(next, action);
+                }
+            } else if (node instanceof CollisionNode) {
+                ((CollisionNode<K, V>) node).bucket.forEach(action);
+            }
+        }
+
+        private static <K, V> Spliterator<Tuple2<K, V>> spliterator(Node<K, V> node) {
+            if (node instanceof BitsetNode) {
+                Node<K, V>[] children = ((BitsetNode<K, V>) node).nodes;
+                return new NodeSpliterator<>(children, 0, children.length, null);
+            }
+            if (node instanceof CollisionNode) {
+                ImmutableList<Tuple2<K, V>> bucket = ((CollisionNode<K, V>) node).bucket;
+                return Spliterators.spliterator(bucket.iterator(), bucket.size(), Spliterator.SIZED);
+            }
+            return Spliterators.emptySpliterator();
+        }
+
+        @Override
+        public Spliterator<Tuple2<K, V>> trySplit() {
+            if (current == null && fence - index == 1 && nodes[index] instanceof BitsetNode) {
+                nodes = ((BitsetNode<K, V>) nodes[index]).nodes;
+                index = 0;
+                fence = nodes.length;
+            }
+            if (current != null && index == fence) {
+                return current.trySplit();
+            }
+            int mid = (index + fence) >>> 1;
+            if (current == null && mid == index)
+                return null;
+            NodeSpliterator<K, V> prefix = new NodeSpliterator<>(nodes, index, mid, current);
+            current = null;
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = current == null ? 0 : current.estimateSize();
+            for (int i = index; i < fence; i++) {
+                size += nodes[i].size();
+            }
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Spliterator<Tuple2<K, V>> copy() {
+            return new NodeSpliterator<>(nodes, index, fence, current == null ? null : CopyableSpliterator.copy(current));
+        }
+    }
+
 }
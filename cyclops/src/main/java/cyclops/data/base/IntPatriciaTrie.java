@@ -230,9 +230,15 @@ public interface IntPatriciaTrie<V>  {
 
     static class ArrayNode<V> implements Node<V>, Deconstruct1<Node<V>[]> {
         private final Node<V>[] nodes;
+        private final int size;
 
         private ArrayNode(Node<V>[] nodes) {
             this.nodes = nodes;
+            int size = 0;
+            for (Node<V> node : nodes) {
+                size += node.size();
+            }
+            this.size = size;
         }
 
         @Override
@@ -303,12 +309,12 @@ public interface IntPatriciaTrie<V>  {
 **/
         @Override
         public boolean isEmpty() {
-            return ReactiveSeq.of(nodes).allMatch(Node::isEmpty);
+            return size == 0;
         }
 
         @Override
         public int size() {
-            return ReactiveSeq.of(nodes).sumInt(Node::size);
+            return size;
         }
 
 
@@ -0,0 +1,352 @@
+package cyclops.data.base;
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A big-endian Patricia trie keyed by unboxed longs (Okasaki and Gill, Fast Mergeable Integer Maps). Each Branch splits
+ * on the highest bit at which the keys beneath it differ, so the trie has at most 64 levels and lookups follow a single
+ * path comparing primitive longs without allocating.
+ *
+ * Keys are stored with the sign bit flipped, so that unsigned bit order matches signed key order and in order traversal
+ * visits keys in ascending order.
+ */
+public interface LongPatriciaTrie<V> {
+
+    static <V> Node<V> empty() {
+        return EmptyNode.Instance;
+    }
+
+    static long flip(long key) {
+        return key ^ Long.MIN_VALUE;
+    }
+
+    static boolean zero(long bits, long mask) {
+        return (bits & mask) == 0;
+    }
+
+    static long prefix(long bits, long mask) {
+        return bits & ~((mask << 1) - 1);
+    }
+
+    static <V> Node<V> join(long bits0, Node<V> node0, long bits1, Node<V> node1) {
+        long mask = Long.highestOneBit(bits0 ^ bits1);
+        if (zero(bits0, mask))
+            return new Branch<>(prefix(bits0, mask), mask, node0, node1);
+        return new Branch<>(prefix(bits0, mask), mask, node1, node0);
+    }
+
+    interface Node<V> extends Serializable {
+
+        boolean isEmpty();
+
+        int size();
+
+        Node<V> put(long key, V value);
+
+        Node<V> minus(long key);
+
+        V getOrElse(long key, V alt);
+
+        default Option<V> get(long key) {
+            Node<V> node = this;
+            long bits = flip(key);
+            while (node instanceof Branch) {
+                Branch<V> branch = (Branch<V>) node;
+                if (prefix(bits, branch.mask) != branch.prefix)
+                    return Option.none();
+                node = zero(bits, branch.mask) ? branch.left : branch.right;
+            }
+            if (node instanceof Leaf && ((Leaf<V>) node).key == key)
+                return Option.some(((Leaf<V>) node).value);
+            return Option.none();
+        }
+
+        default V getOrElseGet(long key, Supplier<? extends V> alt) {
+            Node<V> node = this;
+            long bits = flip(key);
+            while (node instanceof Branch) {
+                Branch<V> branch = (Branch<V>) node;
+                if (prefix(bits, branch.mask) != branch.prefix)
+                    return alt.get();
+                node = zero(bits, branch.mask) ? branch.left : branch.right;
+            }
+            if (node instanceof Leaf && ((Leaf<V>) node).key == key)
+                return ((Leaf<V>) node).value;
+            return alt.get();
+        }
+
+        default boolean containsKey(long key) {
+            Node<V> node = this;
+            long bits = flip(key);
+            while (node instanceof Branch) {
+                Branch<V> branch = (Branch<V>) node;
+                if (prefix(bits, branch.mask) != branch.prefix)
+                    return false;
+                node = zero(bits, branch.mask) ? branch.left : branch.right;
+            }
+            return node instanceof Leaf && ((Leaf<V>) node).key == key;
+        }
+
+        /**
+         * Visit every entry with a key between from and to (both inclusive) in ascending key order, without visiting
+         * sub-tries that lie outside the range
+         */
+        void forEachInRange(long from, long to, ObjLongConsumer<? super V> consumer);
+
+        default void forEach(ObjLongConsumer<? super V> consumer) {
+            forEachInRange(Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+        }
+
+        default Iterator<Tuple2<Long, V>> iterator() {
+            return new NodeIterator<>(this);
+        }
+
+        default ReactiveSeq<Tuple2<Long, V>> stream() {
+            return ReactiveSeq.fromIterable(() -> iterator());
+        }
+    }
+
+    final class EmptyNode<V> implements Node<V> {
+        private static final long serialVersionUID = 1L;
+        static final EmptyNode Instance = new EmptyNode();
+
+        private EmptyNode() {
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public Node<V> put(long key, V value) {
+            return new Leaf<>(key, value);
+        }
+
+        @Override
+        public Node<V> minus(long key) {
+            return this;
+        }
+
+        @Override
+        public V getOrElse(long key, V alt) {
+            return alt;
+        }
+
+        @Override
+        public void forEachInRange(long from, long to, ObjLongConsumer<? super V> consumer) {
+
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+
+        private Object readResolve() {
+            return Instance;
+        }
+    }
+
+    final class Leaf<V> implements Node<V> {
+        private static final long serialVersionUID = 1L;
+        private final long key;
+        private final V value;
+
+        private Leaf(long key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+
+        @Override
+        public Node<V> put(long key, V value) {
+            if (this.key == key)
+                return this.value == value ? this : new Leaf<>(key, value);
+            return join(flip(key), new Leaf<>(key, value), flip(this.key), this);
+        }
+
+        @Override
+        public Node<V> minus(long key) {
+            return this.key == key ? EmptyNode.Instance : this;
+        }
+
+        @Override
+        public V getOrElse(long key, V alt) {
+            return this.key == key ? value : alt;
+        }
+
+        @Override
+        public void forEachInRange(long from, long to, ObjLongConsumer<? super V> consumer) {
+            if (key >= from && key <= to)
+                consumer.accept(value, key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Leaf))
+                return false;
+            Leaf<?> leaf = (Leaf<?>) o;
+            return key == leaf.key && Objects.equals(value, leaf.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(key) ^ Objects.hashCode(value);
+        }
+    }
+
+    final class Branch<V> implements Node<V> {
+        private static final long serialVersionUID = 1L;
+        private final long prefix;
+        private final long mask;
+        private final Node<V> left;
+        private final Node<V> right;
+        private final int size;
+
+        private Branch(long prefix, long mask, Node<V> left, Node<V> right) {
+            this.prefix = prefix;
+            this.mask = mask;
+            this.left = left;
+            this.right = right;
+            this.size = left.size() + right.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Node<V> put(long key, V value) {
+            long bits = flip(key);
+            if (prefix(bits, mask) != prefix)
+                return join(bits, new Leaf<>(key, value), prefix, this);
+            if (zero(bits, mask)) {
+                Node<V> updated = left.put(key, value);
+                return updated == left ? this : new Branch<>(prefix, mask, updated, right);
+            }
+            Node<V> updated = right.put(key, value);
+            return updated == right ? this : new Branch<>(prefix, mask, left, updated);
+        }
+
+        @Override
+        public Node<V> minus(long key) {
+            long bits = flip(key);
+            if (prefix(bits, mask) != prefix)
+                return this;
+            if (zero(bits, mask)) {
+                Node<V> updated = left.minus(key);
+                if (updated == left)
+                    return this;
+                return updated.isEmpty() ? right : new Branch<>(prefix, mask, updated, right);
+            }
+            Node<V> updated = right.minus(key);
+            if (updated == right)
+                return this;
+            return updated.isEmpty() ? left : new Branch<>(prefix, mask, left, updated);
+        }
+
+        @Override
+        public V getOrElse(long key, V alt) {
+            Node<V> node = this;
+            long bits = flip(key);
+            while (node instanceof Branch) {
+                Branch<V> branch = (Branch<V>) node;
+                if (prefix(bits, branch.mask) != branch.prefix)
+                    return alt;
+                node = zero(bits, branch.mask) ? branch.left : branch.right;
+            }
+            return node.getOrElse(key, alt);
+        }
+
+        @Override
+        public void forEachInRange(long from, long to, ObjLongConsumer<? super V> consumer) {
+            long low = flip(prefix);
+            long high = flip(prefix | ((mask << 1) - 1));
+            if (high < from || low > to)
+                return;
+            left.forEachInRange(from, to, consumer);
+            right.forEachInRange(from, to, consumer);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Branch))
+                return false;
+            Branch<?> branch = (Branch<?>) o;
+            return prefix == branch.prefix && mask == branch.mask && size == branch.size
+                && left.equals(branch.left) && right.equals(branch.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return left.hashCode() + right.hashCode();
+        }
+    }
+
+    /**
+     * In order iterator using an explicit stack, the trie is at most 65 nodes deep
+     */
+    final class NodeIterator<V> implements Iterator<Tuple2<Long, V>> {
+        private final Node<V>[] stack = new Node[65];
+        private int depth = 0;
+
+        NodeIterator(Node<V> root) {
+            if (!root.isEmpty())
+                stack[depth++] = root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public Tuple2<Long, V> next() {
+            if (depth == 0)
+                throw new NoSuchElementException();
+            Node<V> node = stack[--depth];
+            while (node instanceof Branch) {
+                Branch<V> branch = (Branch<V>) node;
+                stack[depth++] = branch.right;
+                node = branch.left;
+            }
+            Leaf<V> leaf = (Leaf<V>) node;
+            return Tuple.tuple(leaf.key, leaf.value);
+        }
+    }
+}
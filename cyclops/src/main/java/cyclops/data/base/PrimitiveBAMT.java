@@ -0,0 +1,207 @@
+package cyclops.data.base;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * A persistent bitmapped array trie whose leaves are primitive arrays (int[], long[] or double[]) of exactly 32 elements.
+ * Interior nodes are exactly sized Object arrays, as in {@link BAMT}, and updates copy only the path from the root to the
+ * affected leaf. The trie is agnostic to the leaf type - leaves are created, copied and read by the owning collection
+ * (see IntVector, LongVector and DoubleVector).
+ */
+public final class PrimitiveBAMT implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    static final int BITS_IN_INDEX = 5;
+    static final int SIZE = 1 << BITS_IN_INDEX;
+    static final int MASK = SIZE-1;
+
+    private static final PrimitiveBAMT EMPTY = new PrimitiveBAMT(new Object[0], BITS_IN_INDEX, 0);
+
+    private final Object[] root;
+    private final int shift;
+    private final int size;
+
+    private PrimitiveBAMT(Object[] root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    public static PrimitiveBAMT empty(){
+        return EMPTY;
+    }
+
+    /**
+     * @return The number of elements stored in the leaves of this trie (always a multiple of 32)
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * @param pos Index of an element stored in this trie
+     * @return The leaf array containing the element at pos
+     */
+    public Object leafFor(int pos){
+        Object[] node = root;
+        for(int level=shift;level>BITS_IN_INDEX;level-=BITS_IN_INDEX){
+            node = (Object[])node[(pos >>> level) & MASK];
+        }
+        return node[(pos >>> BITS_IN_INDEX) & MASK];
+    }
+
+    /**
+     * @param leaf A full leaf array (32 elements) to append
+     * @return A new trie with the leaf added after all existing leaves
+     */
+    public PrimitiveBAMT appendLeaf(Object leaf){
+        if(size == capacity(shift)){
+            return new PrimitiveBAMT(new Object[]{root,newPath(shift,leaf)},shift+BITS_IN_INDEX,size+SIZE);
+        }
+        return new PrimitiveBAMT(pushLeaf(shift,root,leaf),shift,size+SIZE);
+    }
+
+    /**
+     * @param pos Index of an element stored in this trie
+     * @param leaf A replacement for the leaf containing the element at pos
+     * @return A new trie sharing all nodes off the path to pos
+     */
+    public PrimitiveBAMT setLeaf(int pos, Object leaf){
+        return new PrimitiveBAMT(setLeaf(shift,root,pos,leaf),shift,size);
+    }
+
+    /**
+     * @param fn Function to transform each leaf, must return a new leaf of the same length
+     * @return A trie with the same shape as this one and each leaf transformed
+     */
+    public PrimitiveBAMT mapLeaves(UnaryOperator<Object> fn){
+        return new PrimitiveBAMT(mapLeaves(shift,root,fn),shift,size);
+    }
+
+    public void forEachLeaf(Consumer<Object> consumer){
+        forEachLeaf(shift,root,consumer);
+    }
+
+    private Object[] pushLeaf(int level, Object[] node, Object leaf){
+        int indx = (size >>> level) & MASK;
+        Object[] updated = Arrays.copyOf(node,Math.max(node.length,indx+1));
+        if(level==BITS_IN_INDEX || indx>=node.length){
+            updated[indx] = newPath(level-BITS_IN_INDEX,leaf);
+        }else{
+            updated[indx] = pushLeaf(level-BITS_IN_INDEX,(Object[])node[indx],leaf);
+        }
+        return updated;
+    }
+
+    private static Object newPath(int level, Object leaf){
+        if(level==0)
+            return leaf;
+        return new Object[]{newPath(level-BITS_IN_INDEX,leaf)};
+    }
+
+    private static long capacity(int shift){
+        return 1L << (shift+BITS_IN_INDEX);
+    }
+
+    private static Object[] setLeaf(int level, Object[] node, int pos, Object leaf){
+        Object[] updated = Arrays.copyOf(node,node.length);
+        int indx = (pos >>> level) & MASK;
+        updated[indx] = level==BITS_IN_INDEX ? leaf : setLeaf(level-BITS_IN_INDEX,(Object[])node[indx],pos,leaf);
+        return updated;
+    }
+
+    private static Object[] mapLeaves(int level, Object[] node, UnaryOperator<Object> fn){
+        Object[] res = new Object[node.length];
+        for(int i=0;i<node.length;i++){
+            res[i] = level==BITS_IN_INDEX ? fn.apply(node[i]) : mapLeaves(level-BITS_IN_INDEX,(Object[])node[i],fn);
+        }
+        return res;
+    }
+
+    private static void forEachLeaf(int level, Object[] node, Consumer<Object> consumer){
+        for(int i=0;i<node.length;i++){
+            if(level==BITS_IN_INDEX)
+                consumer.accept(node[i]);
+            else
+                forEachLeaf(level-BITS_IN_INDEX,(Object[])node[i],consumer);
+        }
+    }
+
+    /**
+     * A mutable, single threaded builder for PrimitiveBAMT. As with {@link BAMT.Transient} nodes on the rightmost
+     * path are allocated with spare capacity and filled in place, freeze returns exactly sized copies of that path only.
+     */
+    public static final class Transient {
+        private Object[] root;
+        private int shift;
+        private int size;
+
+        private Transient(Object[] root, int shift, int size) {
+            this.root = root;
+            this.shift = shift;
+            this.size = size;
+        }
+
+        public static Transient empty(){
+            return new Transient(new Object[SIZE],BITS_IN_INDEX,0);
+        }
+
+        public static Transient from(PrimitiveBAMT trie){
+            return new Transient(editableSpine(trie.shift,trie.root),trie.shift,trie.size);
+        }
+
+        public int size(){
+            return size;
+        }
+
+        public Transient appendLeaf(Object leaf){
+            if(size == capacity(shift)){
+                Object[] newRoot = new Object[SIZE];
+                newRoot[0]=root;
+                root = newRoot;
+                shift+=BITS_IN_INDEX;
+            }
+            Object[] node = root;
+            for(int level=shift;level>BITS_IN_INDEX;level-=BITS_IN_INDEX){
+                int indx = (size >>> level) & MASK;
+                Object[] child = (Object[])node[indx];
+                if(child==null){
+                    child = new Object[SIZE];
+                    node[indx]=child;
+                }
+                node = child;
+            }
+            node[(size >>> BITS_IN_INDEX) & MASK] = leaf;
+            size+=SIZE;
+            return this;
+        }
+
+        public PrimitiveBAMT freeze(){
+            if(size==0)
+                return EMPTY;
+            return new PrimitiveBAMT(trim(shift,root,size),shift,size);
+        }
+
+        private static Object[] trim(int level, Object[] node, int count){
+            int childCapacity = 1 << level;
+            int children = (count + childCapacity -1) / childCapacity;
+            Object[] res = Arrays.copyOf(node,children);
+            if(level>BITS_IN_INDEX){
+                int last = children-1;
+                res[last] = trim(level-BITS_IN_INDEX,(Object[])node[last],count-last*childCapacity);
+            }
+            return res;
+        }
+
+        private static Object[] editableSpine(int level, Object[] node){
+            Object[] res = Arrays.copyOf(node,SIZE);
+            if(level>BITS_IN_INDEX && node.length>0){
+                res[node.length-1] = editableSpine(level-BITS_IN_INDEX,(Object[])node[node.length-1]);
+            }
+            return res;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package cyclops.data.base;
 
 
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
 import com.oath.cyclops.matching.Deconstruct.Deconstruct5;
 import com.oath.cyclops.matching.Sealed2;
 import cyclops.control.Option;
@@ -16,7 +17,11 @@ import cyclops.data.tuple.Tuple5;
 import lombok.experimental.Wither;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -33,7 +38,7 @@ public interface RedBlackTree extends Serializable{
         Tree<K,V> tree[] = new Tree[1];
         tree[0]= new Leaf(comp);
         stream.forEach(t->{
-            tree[0] = tree[0].plus(t._1(),t._2());
+            tree[0] = rootIsBlack(tree[0].plus(t._1(),t._2()));
         });
         return tree[0];
     }
@@ -258,8 +263,7 @@ public interface RedBlackTree extends Serializable{
             return comp;
         }
         public ReactiveSeq<Tuple2<K,V>> stream(){
-            ReactiveSeq<Tuple2<K, V>> current = ReactiveSeq.of(Tuple.tuple(key, value));
-            return ReactiveSeq.concat(left.stream(),current,right.stream());
+            return ReactiveSeq.fromSpliterator(new TreeSpliterator<>(this));
         }
 
         @Override
@@ -332,4 +336,98 @@ public interface RedBlackTree extends Serializable{
         }
 
     }
+
+    /**
+     * An in-order Spliterator over a Tree. The Nodes awaiting traversal are held on an explicit stack (the bottom of the
+     * stack being nearest the root), splitting hands the prefix of the traversal to a new Spliterator and keeps the
+     * right subtree of the deepest pending Node, so parallel Streams divide the Tree roughly in half at each split.
+     */
+    static final class TreeSpliterator<K,V> implements CopyableSpliterator<Tuple2<K,V>> {
+        //smallest estimated size worth splitting further
+        static final int MIN_SPLIT = 64;
+
+        private final Tree<K,V> root;
+        private final List<Node<K,V>> stack;
+        private boolean skipLastRight;
+        private long est;
+        //size of root, computed (in O(n)) at most once
+        private long rootSize = -1;
+        private int consumed;
+
+        TreeSpliterator(Tree<K,V> root) {
+            this.root = root;
+            this.stack = new ArrayList<>();
+            this.est = -1;
+            pushLeft(root);
+        }
+
+        private TreeSpliterator(List<Node<K,V>> stack, boolean skipLastRight, long est) {
+            this.root = null;
+            this.stack = stack;
+            this.skipLastRight = skipLastRight;
+            this.est = est;
+        }
+
+        private void pushLeft(Tree<K,V> tree) {
+            while (!tree.isEmpty()) {
+                Node<K,V> node = (Node<K,V>) tree;
+                stack.add(node);
+                tree = node.left;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tuple2<K,V>> action) {
+            if (stack.isEmpty())
+                return false;
+            Node<K,V> node = stack.remove(stack.size() - 1);
+            if (!(stack.isEmpty() && skipLastRight))
+                pushLeft(node.right);
+            consumed++;
+            action.accept(Tuple.tuple(node.key, node.value));
+            return true;
+        }
+
+        @Override
+        public Spliterator<Tuple2<K,V>> trySplit() {
+            long size = estimateSize();
+            if (size < MIN_SPLIT)
+                return null;
+            //split at the highest pending node with a right subtree, descending the left spine past those without one
+            int splitAt = skipLastRight ? 1 : 0;
+            while (splitAt < stack.size() && stack.get(splitAt).right.isEmpty())
+                splitAt++;
+            if (splitAt >= stack.size())
+                return null;
+            Node<K,V> pivot = stack.get(splitAt);
+            List<Node<K,V>> prefix = new ArrayList<>(stack.subList(splitAt, stack.size()));
+            stack.subList(splitAt, stack.size()).clear();
+            pushLeft(pivot.right);
+            est = size - (size >>> 1);
+            consumed = 0;
+            return new TreeSpliterator<>(prefix, true, size >>> 1);
+        }
+
+        @Override
+        public long estimateSize() {
+            if (est < 0) {
+                if (rootSize < 0)
+                    rootSize = root.size();
+                return rootSize - consumed;
+            }
+            return Math.max(est - consumed, 0);
+        }
+
+        @Override
+        public int characteristics() {
+            return est < 0 ? ORDERED | SIZED | DISTINCT | NONNULL | IMMUTABLE : ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Spliterator<Tuple2<K,V>> copy() {
+            if (est < 0 && consumed == 0)
+                return new TreeSpliterator<>(root);
+            return new TreeSpliterator<>(new ArrayList<>(stack), skipLastRight, estimateSize());
+        }
+    }
 }
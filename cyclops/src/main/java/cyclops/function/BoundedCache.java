@@ -0,0 +1,683 @@
+package cyclops.function;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * A bounded, thread safe {@link Cacheable} for use with {@link Memoize} and {@link FluentFunctions}. Entries can be
+ * limited by count (evicted with W-TinyLFU or LRU), expired a fixed time after they were written or last read, and held
+ * via weak keys.
+ *
+ * <pre>
+ * {@code
+ *  BoundedCache<User> cache = BoundedCache.<User>maximumSize(10_000)
+ *                                         .withExpireAfterWrite(5, TimeUnit.MINUTES);
+ *
+ *  Function1<Long,User> lookup = Memoize.memoizeFunction(this::loadUser, cache);
+ *
+ *  cache.stats().hitRate();
+ * }
+ * </pre>
+ *
+ * Reads are served from a ConcurrentHashMap without locking, and recorded in a small lossy buffer that is replayed
+ * against the eviction policy under a lock on the next write (or when it fills up). Values are computed at most once
+ * per key at a time, as with the unbounded Memoize variants.
+ *
+ * The with methods each return a new, empty cache with the changed setting.
+ *
+ * @param <OUT> Type of the cached values
+ */
+public final class BoundedCache<OUT> implements Cacheable<OUT> {
+
+    public enum Eviction {
+        /**
+         * Window TinyLFU : new entries enter a small LRU window, and only displace an entry in the main (segmented LRU)
+         * region if they have been requested more often, according to a decaying frequency sketch. Resists scans and
+         * one-off keys, and is the default.
+         */
+        W_TINY_LFU,
+        /**
+         * Evict the least recently used entry
+         */
+        LRU
+    }
+
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+    private static final long NEVER = 0L;
+    private static final Object NULL_KEY = new Object();
+    private static final int READ_BUFFER_SIZE = 64;
+
+    private final long maximumSize;
+    private final Eviction eviction;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final boolean weakKeys;
+    private final LongSupplier ticker;
+
+    private final ConcurrentHashMap<Object, Node<OUT>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicReferenceArray<Node<OUT>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong reads = new AtomicLong();
+    private final ReferenceQueue<Object> collectedKeys = new ReferenceQueue<>();
+    private final Policy policy;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private BoundedCache(long maximumSize, Eviction eviction, long expireAfterWriteNanos, long expireAfterAccessNanos,
+                         boolean weakKeys, LongSupplier ticker) {
+        if (maximumSize < 0)
+            throw new IllegalArgumentException("maximumSize must not be negative " + maximumSize);
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.weakKeys = weakKeys;
+        this.ticker = ticker;
+        this.policy = eviction == Eviction.W_TINY_LFU && maximumSize != UNBOUNDED ? new TinyLfuPolicy(maximumSize)
+                                                                                   : new LruPolicy(maximumSize);
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries to retain
+     * @return A cache holding at most maximumSize entries, evicted by W-TinyLFU
+     */
+    public static <OUT> BoundedCache<OUT> maximumSize(long maximumSize) {
+        return new BoundedCache<>(maximumSize, Eviction.W_TINY_LFU, NEVER, NEVER, false, System::nanoTime);
+    }
+
+    /**
+     * @return A cache with no size limit, for use with time based expiry or weak keys
+     */
+    public static <OUT> BoundedCache<OUT> unbounded() {
+        return new BoundedCache<>(UNBOUNDED, Eviction.LRU, NEVER, NEVER, false, System::nanoTime);
+    }
+
+    public BoundedCache<OUT> withMaximumSize(long maximumSize) {
+        return new BoundedCache<>(maximumSize, eviction, expireAfterWriteNanos, expireAfterAccessNanos, weakKeys, ticker);
+    }
+
+    public BoundedCache<OUT> withEviction(Eviction eviction) {
+        return new BoundedCache<>(maximumSize, eviction, expireAfterWriteNanos, expireAfterAccessNanos, weakKeys, ticker);
+    }
+
+    /**
+     * @return A cache whose entries are recomputed once duration has passed since they were stored
+     */
+    public BoundedCache<OUT> withExpireAfterWrite(long duration, TimeUnit unit) {
+        return new BoundedCache<>(maximumSize, eviction, positive(duration, unit), expireAfterAccessNanos, weakKeys, ticker);
+    }
+
+    /**
+     * @return A cache whose entries are recomputed once duration has passed since they were last read (or stored)
+     */
+    public BoundedCache<OUT> withExpireAfterAccess(long duration, TimeUnit unit) {
+        return new BoundedCache<>(maximumSize, eviction, expireAfterWriteNanos, positive(duration, unit), weakKeys, ticker);
+    }
+
+    /**
+     * @return A cache that holds its keys weakly, and drops entries once their key is garbage collected. As with
+     * other weak key caches, keys are compared by identity rather than equals.
+     */
+    public BoundedCache<OUT> withWeakKeys() {
+        return new BoundedCache<>(maximumSize, eviction, expireAfterWriteNanos, expireAfterAccessNanos, true, ticker);
+    }
+
+    BoundedCache<OUT> withTicker(LongSupplier ticker) {
+        return new BoundedCache<>(maximumSize, eviction, expireAfterWriteNanos, expireAfterAccessNanos, weakKeys, ticker);
+    }
+
+    private static long positive(long duration, TimeUnit unit) {
+        if (duration <= 0)
+            throw new IllegalArgumentException("duration must be positive " + duration);
+        return unit.toNanos(duration);
+    }
+
+    @Override
+    public OUT computeIfAbsent(Object key, Function<Object, OUT> fn) {
+        Object k = key == null ? NULL_KEY : key;
+        Object lookup = weakKeys ? new WeakKey(k, null) : k;
+        long now = ticker.getAsLong();
+        Node<OUT> node = data.get(lookup);
+        if (node != null) {
+            if (!isExpired(node, now)) {
+                hits.increment();
+                if (expireAfterAccessNanos != NEVER)
+                    node.accessTime = now;
+                afterRead(node);
+                return node.value;
+            }
+            removeExpired(node);
+        }
+        misses.increment();
+        Object storeKey = weakKeys ? new WeakKey(k, collectedKeys) : k;
+        Node<OUT>[] created = new Node[1];
+        Node<OUT> result = data.computeIfAbsent(storeKey, sk -> created[0] = new Node<>(sk, fn.apply(key), now));
+        if (created[0] != null)
+            afterWrite(created[0]);
+        return result.value;
+    }
+
+    /**
+     * @return The number of entries currently held. Expired entries are included until they are cleaned up.
+     */
+    public long size() {
+        return data.size();
+    }
+
+    /**
+     * Remove all entries from the cache. Statistics are retained.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            drainReads();
+            for (Node<OUT> node : data.values()) {
+                if (data.remove(node.key, node))
+                    policy.remove(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replay pending reads against the eviction policy, and remove expired and collected entries
+     */
+    public void cleanUp() {
+        lock.lock();
+        try {
+            maintain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return A snapshot of the hit, miss and eviction counts for this cache
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private boolean isExpired(Node<OUT> node, long now) {
+        return (expireAfterWriteNanos != NEVER && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos != NEVER && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    private void removeExpired(Node<OUT> node) {
+        lock.lock();
+        try {
+            if (data.remove(node.key, node)) {
+                policy.remove(node);
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void afterRead(Node<OUT> node) {
+        if (maximumSize == UNBOUNDED && expireAfterAccessNanos == NEVER)
+            return;
+        int index = (int) (reads.getAndIncrement() & (READ_BUFFER_SIZE - 1));
+        if (!readBuffer.compareAndSet(index, null, node) && lock.tryLock()) {
+            try {
+                maintain();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(Node<OUT> node) {
+        lock.lock();
+        try {
+            if (data.get(node.key) == node)
+                policy.add(node);
+            maintain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void maintain() {
+        drainReads();
+        drainCollectedKeys();
+        expire();
+        Node<OUT> victim;
+        while ((victim = (Node<OUT>) policy.evict()) != null) {
+            data.remove(victim.key, victim);
+            evictions.increment();
+        }
+    }
+
+    private void drainReads() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Node<OUT> node = readBuffer.getAndSet(i, null);
+            if (node != null)
+                policy.access(node);
+        }
+    }
+
+    private void drainCollectedKeys() {
+        Reference<?> ref;
+        while ((ref = collectedKeys.poll()) != null) {
+            Node<OUT> node = data.remove(ref);
+            if (node != null) {
+                policy.remove(node);
+                evictions.increment();
+            }
+        }
+    }
+
+    private void expire() {
+        if (expireAfterWriteNanos == NEVER && expireAfterAccessNanos == NEVER)
+            return;
+        long now = ticker.getAsLong();
+        Node<OUT> node;
+        while ((node = (Node<OUT>) policy.oldest(n -> isExpired((Node<OUT>) n, now))) != null) {
+            policy.remove(node);
+            if (data.remove(node.key, node))
+                evictions.increment();
+        }
+    }
+
+    /**
+     * Hit, miss and eviction counts for a BoundedCache. Entries removed because they expired or their key was
+     * collected are counted as evictions.
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        Stats(long hitCount, long missCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        public long hitCount() {
+            return hitCount;
+        }
+
+        public long missCount() {
+            return missCount;
+        }
+
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        public long requestCount() {
+            return hitCount + missCount;
+        }
+
+        /**
+         * @return The proportion of requests served from the cache, or 1.0 if there have been no requests
+         */
+        public double hitRate() {
+            long requests = requestCount();
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + "]";
+        }
+    }
+
+    /**
+     * A weakly referenced key, compared by the identity of its referent. Lookups use an instance without a queue.
+     */
+    static final class WeakKey extends WeakReference<Object> {
+        private final int hash;
+
+        WeakKey(Object key, ReferenceQueue<Object> queue) {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof WeakKey))
+                return false;
+            Object referent = get();
+            return referent != null && referent == ((WeakKey) o).get();
+        }
+    }
+
+    static final class Node<OUT> {
+        static final int NONE = 0, WINDOW = 1, PROBATION = 2, PROTECTED = 3;
+
+        final Object key;
+        final OUT value;
+        final long writeTime;
+        volatile long accessTime;
+
+        //guarded by the cache lock
+        int queue = NONE;
+        Node<?> prev;
+        Node<?> next;
+
+        Node(Object key, OUT value, long now) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+
+        int hash() {
+            return key.hashCode();
+        }
+    }
+
+    /**
+     * An intrusive doubly linked list of Nodes, least recently used first
+     */
+    static final class AccessOrder {
+        private final Node<?> sentinel = new Node<>(null, null, 0L);
+        private long size = 0;
+
+        AccessOrder() {
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+        }
+
+        Node<?> first() {
+            return sentinel.next == sentinel ? null : sentinel.next;
+        }
+
+        Node<?> last() {
+            return sentinel.prev == sentinel ? null : sentinel.prev;
+        }
+
+        long size() {
+            return size;
+        }
+
+        void addLast(Node<?> node) {
+            node.prev = sentinel.prev;
+            node.next = sentinel;
+            sentinel.prev.next = node;
+            sentinel.prev = node;
+            size++;
+        }
+
+        void unlink(Node<?> node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToLast(Node<?> node) {
+            unlink(node);
+            addLast(node);
+        }
+    }
+
+    /**
+     * Eviction policy state, only accessed while holding the cache lock
+     */
+    abstract static class Policy {
+        final long maximumSize;
+
+        Policy(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        abstract void add(Node<?> node);
+
+        abstract void access(Node<?> node);
+
+        abstract void remove(Node<?> node);
+
+        abstract long size();
+
+        /**
+         * @return The next entry to evict to bring the cache within its maximum size, already removed from the policy,
+         * or null if the cache is within bounds
+         */
+        abstract Node<?> evict();
+
+        /**
+         * @return The least recently used entry matching the predicate, from the head of any queue, or null
+         */
+        abstract Node<?> oldest(Predicate<Node<?>> expired);
+
+        static Node<?> head(AccessOrder order, Predicate<Node<?>> test) {
+            Node<?> first = order.first();
+            return first != null && test.test(first) ? first : null;
+        }
+    }
+
+    static final class LruPolicy extends Policy {
+        private final AccessOrder order = new AccessOrder();
+
+        LruPolicy(long maximumSize) {
+            super(maximumSize);
+        }
+
+        @Override
+        void add(Node<?> node) {
+            node.queue = Node.WINDOW;
+            order.addLast(node);
+        }
+
+        @Override
+        void access(Node<?> node) {
+            if (node.queue == Node.WINDOW)
+                order.moveToLast(node);
+        }
+
+        @Override
+        void remove(Node<?> node) {
+            if (node.queue != Node.NONE) {
+                order.unlink(node);
+                node.queue = Node.NONE;
+            }
+        }
+
+        @Override
+        long size() {
+            return order.size();
+        }
+
+        @Override
+        Node<?> evict() {
+            if (order.size() <= maximumSize)
+                return null;
+            Node<?> victim = order.first();
+            remove(victim);
+            return victim;
+        }
+
+        @Override
+        Node<?> oldest(Predicate<Node<?>> expired) {
+            return head(order, expired);
+        }
+    }
+
+    /**
+     * W-TinyLFU : a 1% LRU admission window in front of a segmented LRU main region (20% probation, 80% protected).
+     * Entries leaving the window compete with the probation victim, and the one with the lower estimated frequency is
+     * evicted.
+     */
+    static final class TinyLfuPolicy extends Policy {
+        private final AccessOrder window = new AccessOrder();
+        private final AccessOrder probation = new AccessOrder();
+        private final AccessOrder protectedOrder = new AccessOrder();
+        private final long windowMaximum;
+        private final long protectedMaximum;
+        private final FrequencySketch sketch;
+        private long candidates = 0;
+
+        TinyLfuPolicy(long maximumSize) {
+            super(maximumSize);
+            this.windowMaximum = Math.max(1, maximumSize / 100);
+            this.protectedMaximum = (maximumSize - windowMaximum) * 4 / 5;
+            this.sketch = new FrequencySketch(maximumSize);
+        }
+
+        @Override
+        void add(Node<?> node) {
+            sketch.increment(node.hash());
+            node.queue = Node.WINDOW;
+            window.addLast(node);
+        }
+
+        @Override
+        void access(Node<?> node) {
+            if (node.queue == Node.NONE)
+                return;
+            sketch.increment(node.hash());
+            if (node.queue == Node.WINDOW) {
+                window.moveToLast(node);
+            } else if (node.queue == Node.PROBATION) {
+                probation.unlink(node);
+                node.queue = Node.PROTECTED;
+                protectedOrder.addLast(node);
+                while (protectedOrder.size() > protectedMaximum) {
+                    Node<?> demoted = protectedOrder.first();
+                    protectedOrder.unlink(demoted);
+                    demoted.queue = Node.PROBATION;
+                    probation.addLast(demoted);
+                }
+            } else {
+                protectedOrder.moveToLast(node);
+            }
+        }
+
+        @Override
+        void remove(Node<?> node) {
+            switch (node.queue) {
+                case Node.WINDOW:
+                    window.unlink(node);
+                    break;
+                case Node.PROBATION:
+                    probation.unlink(node);
+                    break;
+                case Node.PROTECTED:
+                    protectedOrder.unlink(node);
+                    break;
+                default:
+                    return;
+            }
+            node.queue = Node.NONE;
+        }
+
+        @Override
+        long size() {
+            return window.size() + probation.size() + protectedOrder.size();
+        }
+
+        @Override
+        Node<?> evict() {
+            while (window.size() > windowMaximum) {
+                Node<?> candidate = window.first();
+                window.unlink(candidate);
+                candidate.queue = Node.PROBATION;
+                probation.addLast(candidate);
+                candidates++;
+            }
+            if (size() <= maximumSize) {
+                candidates = 0;
+                return null;
+            }
+            Node<?> victim = probation.first();
+            if (victim == null)
+                victim = protectedOrder.first() != null ? protectedOrder.first() : window.first();
+            candidates = Math.min(candidates, probation.size());
+            Node<?> candidate = candidates > 0 ? probation.last() : null;
+            Node<?> evicted = victim;
+            if (candidate != null && candidate != victim) {
+                if (sketch.frequency(candidate.hash()) <= sketch.frequency(victim.hash()))
+                    evicted = candidate;
+            }
+            if (evicted == candidate)
+                candidates--;
+            remove(evicted);
+            return evicted;
+        }
+
+        @Override
+        Node<?> oldest(Predicate<Node<?>> expired) {
+            Node<?> node = head(window, expired);
+            if (node == null)
+                node = head(probation, expired);
+            if (node == null)
+                node = head(protectedOrder, expired);
+            return node;
+        }
+    }
+
+    /**
+     * A count-min sketch of 4 bit counters estimating how often each key has been requested. All counters are halved
+     * once the number of increments reaches ten times the maximum size, so that old popularity decays.
+     */
+    static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xb3f2a9c5, 0x2f9ca6a1, 0x7d4e5c13};
+
+        private final byte[] table;
+        private final int mask;
+        private final long sampleSize;
+        private long additions = 0;
+
+        FrequencySketch(long maximumSize) {
+            int width = Integer.highestOneBit((int) Math.min(Math.max(maximumSize, 16), 1 << 24) - 1) << 1;
+            this.table = new byte[width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * Math.max(maximumSize, 16);
+        }
+
+        private int index(int hash, int i) {
+            int h = (hash ^ (hash >>> 16)) * SEEDS[i];
+            h ^= h >>> 15;
+            return h & mask;
+        }
+
+        int frequency(int hash) {
+            int min = Integer.MAX_VALUE;
+            for (int i = 0; i < SEEDS.length; i++)
+                min = Math.min(min, table[index(hash, i)]);
+            return min;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = index(hash, i);
+                if (table[index] < 15) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++)
+                    table[i] = (byte) (table[i] >>> 1);
+                additions /= 2;
+            }
+        }
+    }
+}
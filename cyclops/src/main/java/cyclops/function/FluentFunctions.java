@@ -1147,7 +1147,7 @@ public class FluentFunctions {
          * @return A caching (memoizing) version of this BiFunction, outputs for all inputs will be cached (unless ejected from the cache)
          */
         public FluentBiFunction<T1, T2, R> memoize(final Cacheable<R> cache) {
-            return withFn(Memoize.memoizeBiFunction(fn));
+            return withFn(Memoize.memoizeBiFunction(fn, cache));
         }
 
         /**
@@ -1556,7 +1556,7 @@ public class FluentFunctions {
          * @return A caching (memoizing) version of this BiFunction, outputs for all inputs will be cached (unless ejected from the cache)
          */
         public FluentTriFunction<T1, T2, T3, R> memoize3(final Cacheable<R> cache) {
-            return withFn(Memoize.memoizeTriFunction(fn));
+            return withFn(Memoize.memoizeTriFunction(fn, cache));
         }
         /**
          * @param name To give this TriFunction
@@ -6,12 +6,15 @@ import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import cyclops.control.Future;
 import cyclops.reactive.ReactiveSeq;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
@@ -396,4 +399,112 @@ public class Memoize {
         return (t) -> t==null? nullR.computeIfAbsent(()->p.test(null)) : memoised.apply(t);
     }
 
+    /**
+     * Memoize a Future returning function with single flight semantics : concurrent callers for the same key share one
+     * in flight Future, rather than each calling fn. Failed Futures are not cached, the next call for that key calls fn
+     * again.
+     *
+     * <pre>
+     * {@code
+     *  Function1<Long,Future<User>> loadUser = Memoize.memoizeFutureFunction(id->Future.of(()->userService.load(id),ex));
+     * }
+     * </pre>
+     *
+     * @param fn Future returning function to memoize
+     * @return Memoized function
+     */
+    public static <T, R> Function1<T, Future<R>> memoizeFutureFunction(final Function<T, Future<R>> fn) {
+        final Map<Object, Object> slots = new ConcurrentHashMap<>();
+        return memoizeFutureFunction(fn, (key, f) -> slots.computeIfAbsent(key, f), 0L);
+    }
+
+    /**
+     * Memoize a Future returning function with single flight semantics (see {@link #memoizeFutureFunction(Function)}),
+     * serving completed values for up to staleAfterMillis and then refreshing them in the background. Callers continue
+     * to receive the last successful value while the refresh runs, and if the refresh fails the stale value is kept
+     * (and refreshed again on the next call).
+     *
+     * @param fn Future returning function to memoize
+     * @param staleAfterMillis Time in millis after a value completes before it is refreshed
+     * @return Memoized function
+     */
+    public static <T, R> Function1<T, Future<R>> memoizeFutureFunction(final Function<T, Future<R>> fn, long staleAfterMillis) {
+        final Map<Object, Object> slots = new ConcurrentHashMap<>();
+        return memoizeFutureFunction(fn, (key, f) -> slots.computeIfAbsent(key, f), TimeUnit.MILLISECONDS.toNanos(staleAfterMillis));
+    }
+
+    /**
+     * Memoize a Future returning function with single flight semantics (see {@link #memoizeFutureFunction(Function)}),
+     * using the supplied Cacheable (e.g. a {@link BoundedCache}) to hold one entry per key.
+     *
+     * @param fn Future returning function to memoize
+     * @param cache Cachable to store the results
+     * @return Memoized function
+     */
+    public static <T, R> Function1<T, Future<R>> memoizeFutureFunction(final Function<T, Future<R>> fn, final Cacheable<Object> cache) {
+        return memoizeFutureFunction(fn, cache, 0L);
+    }
+
+    private static <T, R> Function1<T, Future<R>> memoizeFutureFunction(final Function<T, Future<R>> fn, final Cacheable<Object> cache,
+                                                                         long staleAfterNanos) {
+        FutureSlot<R> nullSlot = new FutureSlot<>();
+        return t -> {
+            FutureSlot<R> slot = t == null ? nullSlot : (FutureSlot<R>) cache.soften().computeIfAbsent(t, k -> new FutureSlot<R>());
+            return slot.get(() -> fn.apply(t), staleAfterNanos);
+        };
+    }
+
+    /**
+     * Holds the current Future for a single key. Only the caller that swaps a new promise into an empty or failed slot
+     * calls the underlying function, everyone else shares that promise.
+     */
+    private static final class FutureSlot<R> {
+        private final AtomicReference<Future<R>> current = new AtomicReference<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+        private volatile long completedAt;
+
+        Future<R> get(Supplier<Future<R>> load, long staleAfterNanos) {
+            for (;;) {
+                Future<R> active = current.get();
+                if (active != null && !active.isFailed()) {
+                    if (staleAfterNanos > 0 && active.isSuccess() && System.nanoTime() - completedAt >= staleAfterNanos
+                            && refreshing.compareAndSet(false, true)) {
+                        refresh(load);
+                    }
+                    return active;
+                }
+                Future<R> promise = Future.future();
+                if (current.compareAndSet(active, promise)) {
+                    try {
+                        load.get().getFuture().whenComplete((value, error) -> {
+                            if (error != null) {
+                                promise.completeExceptionally(error);
+                            } else {
+                                completedAt = System.nanoTime();
+                                promise.complete(value);
+                            }
+                        });
+                    } catch (Throwable t) {
+                        promise.completeExceptionally(t);
+                    }
+                    return promise;
+                }
+            }
+        }
+
+        private void refresh(Supplier<Future<R>> load) {
+            try {
+                load.get().getFuture().whenComplete((value, error) -> {
+                    if (error == null) {
+                        completedAt = System.nanoTime();
+                        current.set(Future.ofResult(value));
+                    }
+                    refreshing.set(false);
+                });
+            } catch (Throwable t) {
+                refreshing.set(false);
+            }
+        }
+    }
+
 }
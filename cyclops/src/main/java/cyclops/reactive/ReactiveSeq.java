@@ -62,7 +62,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -955,31 +954,13 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     }
     default <R> R foldParallel(Function<? super Stream<T>,? extends R> fn){
 
-
-        Queue<T> queue = QueueFactories.<T>unboundedNonBlockingQueue().build().withTimeout(1);
-
-
-        AtomicReference<Continuation> ref = new AtomicReference<>(null);
-        Continuation cont =
-                new Continuation(()->{
-
-                    if(ref.get()==null && ref.compareAndSet(null,Continuation.empty())){
-                        try {
-                            //use the first consuming thread to tell this Stream onto the Queue
-                            this.spliterator().forEachRemaining(queue::offer);
-                        }finally {
-                            queue.close();
-                        }
-
-                    }
-
-
-                        return Continuation.empty();
-                    });
-        ;
-
-        queue.addContinuation(cont);
-        return fn.apply(queue.jdkStream().parallel());
+        Spliterator<T> split = this.spliterator();
+        if(split.hasCharacteristics(Spliterator.SIZED)){
+            //sized sources (e.g. Vector, HashMap, TreeMap) can be divided directly by the fork join framework
+            return fn.apply(StreamSupport.stream(split,true));
+        }
+        //otherwise divide into batches pulled from the source by whichever task is splitting it
+        return fn.apply(StreamSupport.stream(new PartitioningSpliterator<>(split),true));
 
     }
     default <R> R foldParallel(ForkJoinPool fj,Function<? super Stream<T>,? extends R> fn){
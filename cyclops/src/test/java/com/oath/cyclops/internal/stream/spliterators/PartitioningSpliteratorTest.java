@@ -0,0 +1,63 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class PartitioningSpliteratorTest {
+
+    private static Spliterator<Integer> unsplittable(int size) {
+        Iterator<Integer> it = IntStream.range(0, size).iterator();
+        return new Spliterators.AbstractSpliterator<Integer>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(java.util.function.Consumer<? super Integer> action) {
+                if (!it.hasNext())
+                    return false;
+                action.accept(it.next());
+                return true;
+            }
+
+            @Override
+            public Spliterator<Integer> trySplit() {
+                return null;
+            }
+        };
+    }
+
+    @Test
+    public void splitsUnsplittableSourcesIntoOrderedBatches() {
+        PartitioningSpliterator<Integer> split = new PartitioningSpliterator<>(unsplittable(1000));
+        Spliterator<Integer> first = split.trySplit();
+        Spliterator<Integer> second = split.trySplit();
+        assertThat(first, notNullValue());
+        assertThat(first.estimateSize(), equalTo((long) PartitioningSpliterator.BATCH_UNIT));
+        assertThat(second.estimateSize(), equalTo(2L * PartitioningSpliterator.BATCH_UNIT));
+
+        List<Integer> values = new ArrayList<>();
+        first.forEachRemaining(values::add);
+        second.forEachRemaining(values::add);
+        split.forEachRemaining(values::add);
+        assertThat(values, equalTo(IntStream.range(0, 1000).boxed().collect(Collectors.toList())));
+        assertThat(split.trySplit(), nullValue());
+    }
+
+    @Test
+    public void parallelStreamsSeeEveryElementInOrder() {
+        List<Integer> values = StreamSupport.stream(new PartitioningSpliterator<>(unsplittable(100_000)), true)
+                                            .map(i -> i * 2)
+                                            .collect(Collectors.toList());
+        assertThat(values, equalTo(IntStream.range(0, 100_000).map(i -> i * 2).boxed().collect(Collectors.toList())));
+    }
+}
@@ -0,0 +1,87 @@
+package com.oath.cyclops.internal.stream.spliterators.push.fused;
+
+import com.oath.cyclops.internal.stream.spliterators.push.*;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public class FusedOperatorTest extends AbstractOperatorTest {
+
+    private static Operator<Integer> fused(Operator<Integer> source){
+        Operator<Integer> doubled = FusedOperator.map(source, i -> i * 2);
+        Operator<Integer> even = FusedOperator.filter(doubled, i -> i % 2 == 0);
+        return FusedOperator.map(even, i -> i / 2);
+    }
+
+    public Operator<Integer> createEmpty(){
+        return fused(new ArrayOfValuesOperator<>());
+    }
+    public Operator<Integer> createOne(){
+        return fused(new SingleValueOperator<>(1));
+    }
+
+    public Operator<Integer> createThree(){
+        return fused(new ArrayOfValuesOperator<>(1,2,3));
+    }
+    public Operator<Integer> createTwoAndError(){
+        return fused(Fixtures.twoAndErrorSource);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return fused(Fixtures.threeErrorsSource);
+    }
+
+    @Test
+    public void adjacentStagesCollapse(){
+        assertThat(createThree(), instanceOf(FusedOperator.class));
+        assertThat(FusedOperator.map(new ArrayOfValuesOperator<>(1), i -> i), instanceOf(MapOperator.class));
+        assertThat(FusedOperator.filter(new ArrayOfValuesOperator<>(1), i -> true), instanceOf(FilterOperator.class));
+    }
+
+    @Test
+    public void filteredElementsRequestMore(){
+        Operator<Integer> odd = FusedOperator.filter(FusedOperator.map(new ArrayOfValuesOperator<>(1, 2, 3, 4, 5), i -> i + 1), i -> i % 2 == 0);
+        odd.subscribe(values::add, errors::add, () -> onComplete = true).request(2l);
+        assertThat(values, equalTo(Arrays.asList(2, 4)));
+    }
+
+    @Test
+    public void mixedChainsMatchJdkStreams(){
+        List<Integer> expected = Stream.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+                                       .map(i -> i * 3)
+                                       .filter(i -> i % 2 == 0)
+                                       .map(i -> i + 1)
+                                       .filter(i -> i > 10)
+                                       .flatMap(i -> Stream.of(i, -i))
+                                       .collect(Collectors.toList());
+
+        assertThat(ReactiveSeq.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+                              .map(i -> i * 3)
+                              .filter(i -> i % 2 == 0)
+                              .map(i -> i + 1)
+                              .filter(i -> i > 10)
+                              .flatMap(i -> Stream.of(i, -i))
+                              .toList(), equalTo(expected));
+        assertThat(Spouts.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+                         .map(i -> i * 3)
+                         .filter(i -> i % 2 == 0)
+                         .map(i -> i + 1)
+                         .filter(i -> i > 10)
+                         .flatMap(i -> Stream.of(i, -i))
+                         .toList(), equalTo(expected));
+        assertThat(Spouts.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+                         .map(i -> i * 3)
+                         .filter(i -> i % 2 == 0)
+                         .map(i -> i + 1)
+                         .filter(i -> i > 10)
+                         .iterator().next(), equalTo(expected.get(0)));
+    }
+}
@@ -0,0 +1,130 @@
+package com.oath.cyclops.util.stream.scheduling;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HashedWheelSchedulerTest {
+
+    HashedWheelScheduler scheduler;
+
+    @Before
+    public void setup(){
+        scheduler = new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, 8);
+    }
+    @After
+    public void shutdown(){
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void firesAfterDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        Scheduler.Timer timer = scheduler.schedule(fired::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertThat(System.nanoTime()-start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+        assertTrue(timer.isExpired());
+        assertFalse(timer.cancel());
+    }
+    @Test
+    public void firesAfterSeveralRotations() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        scheduler.schedule(fired::countDown, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertThat(System.nanoTime()-start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30)));
+    }
+    @Test
+    public void zeroDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(2);
+        scheduler.schedule(fired::countDown, 0, TimeUnit.MILLISECONDS);
+        scheduler.schedule(fired::countDown, -1, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+    }
+    @Test
+    public void cancelled() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger(0);
+        Scheduler.Timer timer = scheduler.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(timer.cancel());
+        assertFalse(timer.cancel());
+        assertTrue(timer.isCancelled());
+        Thread.sleep(100);
+        assertThat(runs.get(), equalTo(0));
+        assertFalse(timer.isExpired());
+    }
+    @Test
+    public void manyTimers() throws InterruptedException {
+        int count = 10_000;
+        CountDownLatch fired = new CountDownLatch(count/2);
+        AtomicInteger cancelledRuns = new AtomicInteger(0);
+        List<Scheduler.Timer> cancel = new ArrayList<>();
+        for(int i=0;i<count;i++){
+            if(i%2==0)
+                scheduler.schedule(fired::countDown, i%100, TimeUnit.MILLISECONDS);
+            else
+                cancel.add(scheduler.schedule(cancelledRuns::incrementAndGet, 200+i%100, TimeUnit.MILLISECONDS));
+        }
+        for(Scheduler.Timer next : cancel)
+            assertTrue(next.cancel());
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        Thread.sleep(400);
+        assertThat(cancelledRuns.get(), equalTo(0));
+    }
+    @Test
+    public void runsOnExecutor() throws InterruptedException {
+        ExecutorService ex = Executors.newSingleThreadExecutor();
+        try {
+            AtomicReference<Thread> thread = new AtomicReference<>();
+            CountDownLatch fired = new CountDownLatch(1);
+            scheduler.schedule(() -> {
+                thread.set(Thread.currentThread());
+                fired.countDown();
+            }, 1, TimeUnit.MILLISECONDS, ex);
+
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+            assertThat(thread.get().getName().startsWith("cyclops-wheel-scheduler"), equalTo(false));
+        }finally{
+            ex.shutdown();
+        }
+    }
+    @Test
+    public void survivesFailingTask() throws InterruptedException {
+        scheduler.schedule(() -> {
+            throw new IllegalStateException("expected");
+        }, 1, TimeUnit.MILLISECONDS);
+        CountDownLatch fired = new CountDownLatch(1);
+        scheduler.schedule(fired::countDown, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+    }
+    @Test(expected=IllegalStateException.class)
+    public void scheduleAfterShutdown(){
+        scheduler.shutdown();
+        scheduler.schedule(() -> {}, 1, TimeUnit.MILLISECONDS);
+    }
+    @Test(expected=IllegalArgumentException.class)
+    public void noTick(){
+        new HashedWheelScheduler(0, TimeUnit.MILLISECONDS, 8);
+    }
+}
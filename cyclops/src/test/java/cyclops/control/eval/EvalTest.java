@@ -15,6 +15,7 @@ import org.junit.Test;
 import reactor.core.publisher.Flux;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -752,6 +753,104 @@ public class EvalTest {
 
 
 
+    @Test
+    public void deepLaterMap(){
+        Eval<Long> chain = Eval.later(()->0l);
+        for(int i=0;i<1_000_000;i++)
+            chain = chain.map(x->x+1);
+        assertThat(chain.get(),equalTo(1_000_000l));
+    }
+    @Test
+    public void deepLaterFlatMap(){
+        Eval<Long> chain = Eval.later(()->0l);
+        for(int i=0;i<1_000_000;i++)
+            chain = chain.flatMap(x->Eval.later(()->x+1).map(y->y));
+        assertThat(chain.get(),equalTo(1_000_000l));
+    }
+    @Test
+    public void laterMapIsLazy(){
+        Eval<Integer> chain = Eval.later(()->{
+            times++;
+            return 1;
+        }).map(i->i+1)
+          .flatMap(i->Eval.later(()->i*2));
+        assertThat(times,equalTo(0));
+        assertThat(chain.get(),equalTo(4));
+        assertThat(times,equalTo(1));
+    }
+    @Test
+    public void laterStagesEvaluatedOnce(){
+        AtomicInteger calls = new AtomicInteger(0);
+        Eval<Integer> root = Eval.later(()->{
+            calls.incrementAndGet();
+            return 1;
+        });
+        Eval<Integer> shared = root.map(i->{
+            calls.incrementAndGet();
+            return i+1;
+        });
+        Eval<Integer> doubled = shared.map(i->i*2);
+        Eval<Integer> tripled = shared.map(i->i*3);
+        assertThat(doubled.get(),equalTo(4));
+        assertThat(tripled.get(),equalTo(6));
+        assertThat(doubled.get(),equalTo(4));
+        assertThat(shared.get(),equalTo(2));
+        assertThat(root.get(),equalTo(1));
+        assertThat(calls.get(),equalTo(2));
+    }
+    @Test
+    public void laterSharedStagesConcurrently() throws InterruptedException {
+        for(int run=0;run<50;run++) {
+            AtomicInteger rootCalls = new AtomicInteger(0);
+            AtomicInteger mapCalls = new AtomicInteger(0);
+            AtomicInteger flatMapCalls = new AtomicInteger(0);
+            AtomicInteger innerCalls = new AtomicInteger(0);
+            Eval<Integer> root = Eval.later(() -> {
+                rootCalls.incrementAndGet();
+                return 1;
+            });
+            Eval<Integer> shared = root.map(i -> {
+                mapCalls.incrementAndGet();
+                return i + 1;
+            }).flatMap(i -> {
+                flatMapCalls.incrementAndGet();
+                return Eval.later(() -> i).map(n -> {
+                    innerCalls.incrementAndGet();
+                    return n * 10;
+                });
+            });
+            int threads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            AtomicInteger wrong = new AtomicInteger(0);
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                Eval<Integer> tail = shared.map(i -> i + offset);
+                new Thread(() -> {
+                    try {
+                        start.await();
+                        if (tail.get() != 20 + offset)
+                            wrong.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        wrong.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+            start.countDown();
+            assertThat(done.await(10, TimeUnit.SECONDS), equalTo(true));
+            assertThat(wrong.get(), equalTo(0));
+            assertThat(rootCalls.get(), equalTo(1));
+            assertThat(mapCalls.get(), equalTo(1));
+            assertThat(flatMapCalls.get(), equalTo(1));
+            assertThat(innerCalls.get(), equalTo(1));
+        }
+    }
+    @Test
+    public void laterMapNull(){
+        assertThat(Eval.later(()->null).map(i->i==null ? "empty" : "full").get(),equalTo("empty"));
+    }
     @Test
     public void asyncZip(){
         Eval.CompletableEval<Integer,Integer> cm =  Eval.eval();
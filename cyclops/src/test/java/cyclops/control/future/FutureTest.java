@@ -32,12 +32,17 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.awt.*;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -182,6 +187,85 @@ public class FutureTest {
     }
 
 
+    @Test
+    public void firstSuccessCancelsLosers(){
+        Future<Integer> loser = Future.future();
+        Future<Integer> result = Future.firstSuccess(Future.ofResult(1),loser);
+
+        assertThat(result.get(), is(equalTo(Try.success(1))));
+        assertTrue(loser.isCancelled());
+    }
+    @Test
+    public void firstSuccessAllFail(){
+        Future<Integer> result = Future.firstSuccess(Future.ofError(new RuntimeException()),none);
+
+        assertTrue(result.isFailed());
+        assertThat(result.get().failureGet().orElse(null),equalTo(exception));
+    }
+    @Test
+    public void anyOfCancelsLosers(){
+        Future<Integer> winner = Future.future();
+        Future<Integer> loser = Future.future();
+        Future<Integer> result = Future.anyOf(winner,loser);
+        assertFalse(loser.isCancelled());
+
+        winner.complete(10);
+        assertThat(result.get(), is(equalTo(Try.success(10))));
+        assertTrue(loser.isCancelled());
+    }
+    @Test
+    public void allOfCancellationPropagates(){
+        Future<Integer> a = Future.future();
+        Future<Integer> b = Future.future();
+        Future<Integer> all = Future.allOf(a,b);
+
+        all.cancel();
+        assertTrue(a.isCancelled());
+        assertTrue(b.isCancelled());
+    }
+    @Test
+    public void withTimeout(){
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            Future<Integer> never = Future.future();
+            Future<Integer> result = never.withTimeout(10, TimeUnit.MILLISECONDS, scheduler);
+
+            assertThat(result.get().failureGet().orElse(null), instanceOf(TimeoutException.class));
+            assertTrue(never.isCancelled());
+        }finally {
+            scheduler.shutdown();
+        }
+    }
+    @Test
+    public void withTimeoutCompletes(){
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            Future<Integer> ft = Future.future();
+            Future<Integer> result = ft.withTimeout(Duration.ofSeconds(10), scheduler);
+            ft.complete(10);
+
+            assertThat(result.get(), is(equalTo(Try.success(10))));
+            assertThat(just.withTimeout(Duration.ofSeconds(10), scheduler), sameInstance(just));
+        }finally {
+            scheduler.shutdown();
+        }
+    }
+    @Test
+    public void anyOfWithTimeoutCancelsInputs(){
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            Future<Integer> a = Future.future();
+            Future<Integer> b = Future.future();
+            Future<Integer> result = Future.anyOf(a,b).withTimeout(10, TimeUnit.MILLISECONDS, scheduler);
+
+            assertTrue(result.get().isFailure());
+            assertTrue(a.isCancelled());
+            assertTrue(b.isCancelled());
+        }finally {
+            scheduler.shutdown();
+        }
+    }
+
     @Test
     public void testZip(){
         assertThat(Future.ofResult(10).zip(Eval.now(20),(a, b)->a+b).orElse(-100),equalTo(30));
@@ -238,6 +322,19 @@ public class FutureTest {
 
     }
     @Test
+    public void scheduleCancelled() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean(false);
+        Future<String> scheduled = Future.schedule(50, Executors.newScheduledThreadPool(1), ()->{
+            ran.set(true);
+            return "hello";
+        });
+        scheduled.cancel();
+        Thread.sleep(200);
+
+        assertFalse(ran.get());
+        assertTrue(scheduled.isCancelled());
+    }
+    @Test
     public void scheduleCron(){
 
         long start = System.currentTimeMillis();
@@ -287,6 +384,32 @@ public class FutureTest {
         assertThat(maybes.map(s->s.toList()).orElse(Arrays.asList()),equalTo(Arrays.asList(10,1)));
     }
     @Test
+    public void testSequenceArray() {
+        Future<ReactiveSeq<Integer>> maybes = Future.sequence(just, Future.ofResult(1));
+        assertThat(maybes.map(s->s.toList()).orElse(Arrays.asList()),equalTo(Arrays.asList(10,1)));
+    }
+    @Test
+    public void testSequenceAsync() {
+        Seq<Future<Integer>> futures = Seq.range(0,200)
+                                          .map(i->Future.of(()->i,ex));
+        Future<ReactiveSeq<Integer>> maybes = Future.sequence(futures);
+        assertThat(maybes.map(s->s.toList()).orElse(Arrays.asList()),equalTo(ReactiveSeq.range(0,200).toList()));
+    }
+    @Test
+    public void testSequenceFailsFast() {
+        Future<Integer> pending = Future.future();
+        Future<ReactiveSeq<Integer>> maybes = Future.sequence(Arrays.asList(just,pending,none));
+        assertTrue(maybes.isFailed());
+        assertThat(maybes.get().failureGet().orElse(null),equalTo(exception));
+    }
+    @Test
+    public void testSequenceCancellationPropagates() {
+        Future<Integer> pending = Future.future();
+        Future<ReactiveSeq<Integer>> maybes = Future.sequence(Stream.of(just,pending));
+        maybes.cancel();
+        assertTrue(pending.isCancelled());
+    }
+    @Test
     public void testSequenceCF() {
         CompletableFuture<ReactiveSeq<Integer>> maybes = CompletableFutures.sequence(Arrays.asList(just.getFuture(),none.getFuture(), Future.ofResult(1).getFuture()));
         assertThat(maybes.isCompletedExceptionally(),equalTo(true));
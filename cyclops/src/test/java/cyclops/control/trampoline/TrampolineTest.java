@@ -42,6 +42,47 @@ public class TrampolineTest {
     assertThat(Trampoline.more(()->Trampoline.done(10)).flatMap(i->Trampoline.done(i*2)).get(),equalTo(20));
     assertThat(loop(500000,10).flatMap(i->Trampoline.done(i*2)).get(),equalTo(892396852));
   }
+  @Test
+  public void deepLeftNestedFlatMap(){
+    Trampoline<Integer> chain = Trampoline.done(0);
+    for(int i=0;i<1_000_000;i++)
+      chain = chain.flatMap(x->Trampoline.done(x+1));
+    assertThat(chain.get(),equalTo(1_000_000));
+  }
+  @Test
+  public void deepMap(){
+    Trampoline<Integer> chain = Trampoline.more(()->Trampoline.done(0));
+    for(int i=0;i<1_000_000;i++)
+      chain = chain.map(x->x+1);
+    assertThat(chain.get(),equalTo(1_000_000));
+  }
+  @Test
+  public void deepRecursiveFlatMap(){
+    assertThat(sum(1_000_000).get(),equalTo(500000500000l));
+  }
+  Trampoline<Long> sum(long n){
+    if(n==0)
+      return Trampoline.done(0l);
+    return Trampoline.more(()->Trampoline.done(n))
+                     .flatMap(x->sum(x-1).map(r->r+x));
+  }
+  @Test
+  public void flatMapIsLazy(){
+    int[] called = {0};
+    Trampoline<Integer> chain = Trampoline.done(10).flatMap(i->{
+      called[0]++;
+      return Trampoline.done(i*2);
+    });
+    assertThat(called[0],equalTo(0));
+    assertThat(chain.get(),equalTo(20));
+    assertThat(called[0],equalTo(1));
+  }
+  @Test
+  public void zipFlatMapped(){
+    Trampoline<Integer> a = loop(5000,5).flatMap(i->Trampoline.more(()->Trampoline.done(i+1)));
+    Trampoline<Integer> b = loop(5000,5).map(i->i+2);
+    assertThat(a.zip(b,(x,y)->y-x).get(),equalTo(1));
+  }
 
 
 	@Test @Ignore
@@ -47,6 +47,17 @@ public class BagTest extends BaseImmutableSetTest {
         assertThat(bag1,equalTo(bag2));
     }
     @Test
+    public void bulkCounts(){
+        Bag<Integer> bag = Bag.fromIterable(ReactiveSeq.range(0,10_000).map(i->i%100));
+        assertThat(bag.size(),equalTo(10_000));
+        assertThat(bag.instances(7),equalTo(100));
+        Bag<Integer> more = bag.plusAll(Arrays.asList(7,7,1000));
+        assertThat(more.size(),equalTo(10_003));
+        assertThat(more.instances(7),equalTo(102));
+        assertThat(more.instances(1000),equalTo(1));
+        assertThat(bag.instances(7),equalTo(100));
+    }
+    @Test
     public void minus(){
         Bag<Integer> bag1 = Bag.of(1,2,3,4,10,1,1,2);
         assertThat(bag1.removeValue(1).instances(1),equalTo(2));
@@ -0,0 +1,147 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.basetests.BasePrimitiveVectorTest;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class DoubleVectorTest extends BasePrimitiveVectorTest<DoubleVector> {
+
+    @Override
+    protected DoubleVector create(int size){
+        DoubleVector.Builder b = DoubleVector.builder();
+        for(int i=0;i<size;i++){
+            b.append(i);
+        }
+        return b.build();
+    }
+    @Override
+    protected DoubleVector empty() {
+        return DoubleVector.empty();
+    }
+    @Override
+    protected DoubleVector of(int... values) {
+        DoubleVector.Builder b = DoubleVector.builder();
+        for(int next : values)
+            b.append(next);
+        return b.build();
+    }
+    @Override
+    protected Number box(int value) {
+        return (double)value;
+    }
+    @Override
+    protected int size(DoubleVector vec) {
+        return vec.size();
+    }
+    @Override
+    protected Number getOrElse(DoubleVector vec, int pos, int alt) {
+        return vec.getOrElse(pos,alt);
+    }
+    @Override
+    protected Option<? extends Number> get(DoubleVector vec, int pos) {
+        return vec.get(pos);
+    }
+    @Override
+    protected DoubleVector plus(DoubleVector vec, int value) {
+        return vec.plus(value);
+    }
+    @Override
+    protected DoubleVector append(DoubleVector vec, int value) {
+        return vec.append(value);
+    }
+    @Override
+    protected DoubleVector updateAt(DoubleVector vec, int pos, int value) {
+        return vec.updateAt(pos,value);
+    }
+    @Override
+    protected DoubleVector appendAll(DoubleVector vec, DoubleVector values) {
+        return vec.appendAll(values);
+    }
+    @Override
+    protected DoubleVector add(DoubleVector vec, int value) {
+        return vec.map(i->i+value);
+    }
+    @Override
+    protected DoubleVector times(DoubleVector vec, int value) {
+        return vec.map(i->i*value);
+    }
+    @Override
+    protected DoubleVector evens(DoubleVector vec) {
+        return vec.filter(i->i%2==0);
+    }
+    @Override
+    protected Number foldLeftSum(DoubleVector vec) {
+        return vec.foldLeft(0,(a,b)->a+b);
+    }
+    @Override
+    protected Number sum(DoubleVector vec) {
+        return vec.sum();
+    }
+    @Override
+    protected Number parallelSum(DoubleVector vec) {
+        return vec.doubleStream().parallel().sum();
+    }
+    @Override
+    protected List<? extends Number> toList(DoubleVector vec) {
+        return vec.stream().toList();
+    }
+    @Override
+    protected DoubleVector fromBoxedStream(DoubleVector vec) {
+        return DoubleVector.fromStream(vec.stream());
+    }
+    @Override
+    protected DoubleVector fromPrimitiveStream(DoubleVector vec) {
+        return DoubleVector.fromDoubleStream(vec.doubleStream());
+    }
+    @Override
+    protected DoubleVector fromPrimitiveSeq() {
+        return DoubleVector.fromStream(ReactiveSeq.ofDoubles(1,2,3));
+    }
+    @Override
+    protected Spliterator<?> spliterator(DoubleVector vec) {
+        return vec.spliterator();
+    }
+    @Override
+    protected Spliterator<?> streamSpliterator(DoubleVector vec) {
+        return vec.stream().spliterator();
+    }
+    @Override
+    protected int boxedSize(DoubleVector vec) {
+        return vec.boxed().size();
+    }
+
+    @Test
+    public void nan(){
+        DoubleVector vec = DoubleVector.of(1,Double.NaN,3);
+        assertThat(Double.isNaN(vec.getOrElse(1,0)),equalTo(true));
+        assertThat(vec,equalTo(DoubleVector.of(1,Double.NaN,3)));
+        assertThat(vec.hashCode(),equalTo(DoubleVector.of(1,Double.NaN,3).hashCode()));
+        assertThat(Double.isNaN(vec.sum()),equalTo(true));
+        assertThat(vec.filter(d->d==d).toArray(),equalTo(new double[]{1,3}));
+        assertThat(vec.toString(),equalTo("[1.0, NaN, 3.0]"));
+    }
+    @Test
+    public void negativeZero(){
+        DoubleVector positive = DoubleVector.of(0.0);
+        DoubleVector negative = DoubleVector.of(-0.0);
+        assertThat(Double.doubleToLongBits(negative.getOrElse(0,1)),equalTo(Double.doubleToLongBits(-0.0)));
+        assertThat(Double.doubleToLongBits(negative.updateAt(0,-0.0).getOrElse(0,1)),equalTo(Double.doubleToLongBits(-0.0)));
+        assertThat(positive.equals(negative),equalTo(false));
+        assertThat(negative,equalTo(DoubleVector.of(-0.0)));
+        assertThat(negative.toString(),equalTo("[-0.0]"));
+        assertThat(negative.filter(d->d==0).size(),equalTo(1));
+    }
+    @Test
+    public void specialValuesSerialization() throws Exception{
+        DoubleVector vec = DoubleVector.of(Double.NaN,-0.0,Double.POSITIVE_INFINITY,Double.NEGATIVE_INFINITY,Double.MIN_VALUE);
+        assertThat(roundTrip(vec),equalTo(vec));
+        assertThat(DoubleVector.fromDoubleStream(vec.doubleStream()),equalTo(vec));
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.Test;
 
 
 import java.util.ArrayList;
+import java.util.Spliterator;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.*;
@@ -105,6 +106,65 @@ public class HashMapTest {
         System.out.println(v.size());
     }
 
+  @Test
+  public void bulkBuilds(){
+      java.util.HashMap<Integer,Integer> jdk = new java.util.HashMap<>();
+      for(int i=0;i<10_000;i++){
+          jdk.put(i,i*2);
+      }
+      HashMap<Integer,Integer> map = HashMap.fromMap(jdk);
+      assertThat(map.size(),equalTo(10_000));
+      assertThat(HashMap.fromStream(map.stream()),equalTo(map));
+      HashMap<Integer,Integer> merged = HashMap.<Integer,Integer>empty().put(-1,-1).put(5,5).putAll(map);
+      assertThat(merged.size(),equalTo(10_001));
+      assertThat(merged.getOrElse(5,0),equalTo(10));
+      assertThat(map.getOrElse(-1,0),equalTo(0));
+      for(int i=0;i<10_000;i++){
+          assertThat(merged.getOrElse(i,-5),equalTo(i*2));
+      }
+  }
+  @Test
+  public void spliteratorSplitsInParallel(){
+      HashMap<Integer,Integer> map = HashMap.empty();
+      for(int i=0;i<100_000;i++){
+          map = map.put(i,i);
+      }
+      for(int i=0;i<100;i++){
+          map = map.put(new Collider(i).hashCode(),i);
+      }
+      long expected = map.stream().foldLeft(0L,(a,t)->a+t._2());
+      Spliterator<Tuple2<Integer,Integer>> split = map.stream().spliterator();
+      assertTrue(split.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+      assertFalse(split.hasCharacteristics(Spliterator.ORDERED));
+      Spliterator<Tuple2<Integer,Integer>> prefix = split.trySplit();
+      assertThat(prefix.estimateSize()+split.estimateSize(),equalTo((long)map.size()));
+      assertThat(map.stream().foldParallel(s->s.mapToLong(t->t._2()).sum()),equalTo(expected));
+      assertThat(map.stream().foldParallel(s->s.count()),equalTo((long)map.size()));
+  }
+  @Test
+  public void spliteratorWithCollisions(){
+      HashMap<Collider,Integer> map = HashMap.empty();
+      for(int i=0;i<1000;i++){
+          map = map.put(new Collider(i),i);
+      }
+      assertThat(map.stream().count(),equalTo(1000L));
+      assertThat(map.stream().foldParallel(s->s.mapToInt(t->t._2()).sum()),equalTo(999*1000/2));
+  }
+  @AllArgsConstructor
+  static class Collider{
+      int value;
+
+      @Override
+      public int hashCode() {
+          return value % 10;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+          return o instanceof Collider && ((Collider)o).value==value;
+      }
+  }
+
   @Test
   public void removeMissingKey(){
     MatcherAssert.assertThat(HashMap.of(1,"a",2,"b").removeAll(0),equalTo(HashMap.of(1,"a",2,"b")));
@@ -0,0 +1,115 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.basetests.BasePrimitiveVectorTest;
+import cyclops.reactive.ReactiveSeq;
+
+import java.util.List;
+import java.util.Spliterator;
+
+public class IntVectorTest extends BasePrimitiveVectorTest<IntVector> {
+
+    @Override
+    protected IntVector create(int size){
+        IntVector.Builder b = IntVector.builder();
+        for(int i=0;i<size;i++){
+            b.append(i);
+        }
+        return b.build();
+    }
+    @Override
+    protected IntVector empty() {
+        return IntVector.empty();
+    }
+    @Override
+    protected IntVector of(int... values) {
+        IntVector.Builder b = IntVector.builder();
+        for(int next : values)
+            b.append(next);
+        return b.build();
+    }
+    @Override
+    protected Number box(int value) {
+        return value;
+    }
+    @Override
+    protected int size(IntVector vec) {
+        return vec.size();
+    }
+    @Override
+    protected Number getOrElse(IntVector vec, int pos, int alt) {
+        return vec.getOrElse(pos,alt);
+    }
+    @Override
+    protected Option<? extends Number> get(IntVector vec, int pos) {
+        return vec.get(pos);
+    }
+    @Override
+    protected IntVector plus(IntVector vec, int value) {
+        return vec.plus(value);
+    }
+    @Override
+    protected IntVector append(IntVector vec, int value) {
+        return vec.append(value);
+    }
+    @Override
+    protected IntVector updateAt(IntVector vec, int pos, int value) {
+        return vec.updateAt(pos,value);
+    }
+    @Override
+    protected IntVector appendAll(IntVector vec, IntVector values) {
+        return vec.appendAll(values);
+    }
+    @Override
+    protected IntVector add(IntVector vec, int value) {
+        return vec.map(i->i+value);
+    }
+    @Override
+    protected IntVector times(IntVector vec, int value) {
+        return vec.map(i->i*value);
+    }
+    @Override
+    protected IntVector evens(IntVector vec) {
+        return vec.filter(i->i%2==0);
+    }
+    @Override
+    protected Number foldLeftSum(IntVector vec) {
+        return vec.foldLeft(0,(a,b)->a+b);
+    }
+    @Override
+    protected Number sum(IntVector vec) {
+        return vec.sum();
+    }
+    @Override
+    protected Number parallelSum(IntVector vec) {
+        return vec.intStream().parallel().sum();
+    }
+    @Override
+    protected List<? extends Number> toList(IntVector vec) {
+        return vec.stream().toList();
+    }
+    @Override
+    protected IntVector fromBoxedStream(IntVector vec) {
+        return IntVector.fromStream(vec.stream());
+    }
+    @Override
+    protected IntVector fromPrimitiveStream(IntVector vec) {
+        return IntVector.fromIntStream(vec.intStream());
+    }
+    @Override
+    protected IntVector fromPrimitiveSeq() {
+        return IntVector.fromStream(ReactiveSeq.ofInts(1,2,3));
+    }
+    @Override
+    protected Spliterator<?> spliterator(IntVector vec) {
+        return vec.spliterator();
+    }
+    @Override
+    protected Spliterator<?> streamSpliterator(IntVector vec) {
+        return vec.stream().spliterator();
+    }
+    @Override
+    protected int boxedSize(IntVector vec) {
+        return vec.boxed().size();
+    }
+}
@@ -16,6 +16,7 @@ import java.util.stream.Stream;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.*;
 
@@ -741,4 +742,82 @@ public class LazyStringTest {
         assertThat(empty.toString(),equalTo(""));
         assertThat(str.toString(),equalTo("hello world"));
     }
+
+    @Test
+    public void largeStringsSpanChunks() {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            b.append(i % 10);
+        }
+        String expected = b.toString();
+        LazyString large = LazyString.of(expected);
+        assertThat(large.size(), equalTo(5000));
+        assertThat(large.charAt(4321), equalTo(expected.charAt(4321)));
+        assertThat(large.substring(250, 4750).toString(), equalTo(expected.substring(250, 4750)));
+
+        LazyString doubled = large.appendAll(large);
+        assertThat(doubled.size(), equalTo(10000));
+        assertThat(doubled.toString(), equalTo(expected + expected));
+        assertThat(doubled.substring(4990, 5010).toString(), equalTo(expected.substring(4990) + expected.substring(0, 10)));
+        assertThat(doubled.substring(0, 5000), equalTo(large));
+        assertThat(doubled.substring(0, 5000).hashCode(), equalTo(large.hashCode()));
+        assertThat(doubled.removeAt(5000).insertAt(5000, '0'), equalTo(doubled));
+    }
+
+    @Test
+    public void chunks() {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            b.append((char) ('a' + i % 26));
+        }
+        LazyString large = LazyString.of(b);
+        assertThat(large.chunks().join(), equalTo(b.toString()));
+        assertThat(large.chunks().count() > 1, equalTo(true));
+        assertThat(empty.chunks().count(), equalTo(0l));
+    }
+
+    @Test
+    public void hashCodeMatchesLazySeq() {
+        assertThat(str.hashCode(), equalTo(helloWorld.hashCode()));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void updateAtNull() {
+        str.updateAt(0,null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void lazyNullFailsWhenPacked() {
+        LazyString.fromLazySeq(LazySeq.of('h',null,'e')).length();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void appendNull() {
+        str.append((Character)null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void insertStreamAtNull() {
+        str.insertStreamAt(1,Stream.of('a',null));
+    }
+
+    @Test
+    public void notNullBeforePacking() {
+        LazyString lazy = LazyString.fromLazySeq(LazySeq.of('h',null,'e',null));
+        assertThat(lazy.notNull().length(),equalTo(2));
+        assertThat(lazy.notNull().get(1),equalTo(Option.some('e')));
+        assertThat(str.notNull(),sameInstance(str));
+    }
+
+    @Test
+    public void insertStreamAtLarge() {
+        char[] chars = new char[1000];
+        Arrays.fill(chars,'x');
+        LazyString large = LazyString.of(new String(chars));
+        LazyString inserted = large.insertStreamAt(500,Stream.of('a','b'));
+        assertThat(inserted.size(),equalTo(1002));
+        assertThat(inserted.charAt(500),equalTo('a'));
+        assertThat(inserted.charAt(501),equalTo('b'));
+        assertThat(inserted.removeAt(500).removeAt(500),equalTo(large));
+    }
 }
@@ -0,0 +1,109 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class LongMapTest {
+
+    @Test
+    public void empty() {
+        LongMap<String> map = LongMap.empty();
+        assertThat(map.size(), equalTo(0));
+        assertTrue(map.isEmpty());
+        assertThat(map.get(1l), equalTo(Option.none()));
+        assertThat(map.remove(1l), equalTo(map));
+    }
+
+    @Test
+    public void putGet() {
+        LongMap<String> map = LongMap.<String>empty()
+                                     .put(10l, "ten")
+                                     .put(Long.MIN_VALUE, "min")
+                                     .put(Long.MAX_VALUE, "max")
+                                     .put(-1l, "minus one")
+                                     .put(0l, "zero");
+        assertThat(map.size(), equalTo(5));
+        assertThat(map.get(10l), equalTo(Option.some("ten")));
+        assertThat(map.getOrElse(Long.MIN_VALUE, "none"), equalTo("min"));
+        assertThat(map.getOrElse(Long.MAX_VALUE, "none"), equalTo("max"));
+        assertThat(map.getOrElse(-1l, "none"), equalTo("minus one"));
+        assertThat(map.getOrElseGet(11l, () -> "none"), equalTo("none"));
+        assertTrue(map.containsKey(0l));
+        assertFalse(map.containsKey(1l));
+        assertThat(map.put(10l, "TEN").get(10l), equalTo(Option.some("TEN")));
+        assertThat(map.get(10l), equalTo(Option.some("ten")));
+    }
+
+    @Test
+    public void ascendingOrder() {
+        LongMap<Long> map = LongMap.<Long>empty();
+        for (long k : new long[]{5, -5, Long.MAX_VALUE, 0, Long.MIN_VALUE, 1l << 40, -(1l << 40)}) {
+            map = map.put(k, k);
+        }
+        List<Long> keys = new ArrayList<>();
+        map.forEach((v, k) -> keys.add(k));
+        assertThat(keys.toString(), equalTo("[" + Long.MIN_VALUE + ", " + -(1l << 40) + ", -5, 0, 5, " + (1l << 40) + ", " + Long.MAX_VALUE + "]"));
+        assertThat(map.stream().map(t -> t._1()).toList(), equalTo(keys));
+    }
+
+    @Test
+    public void range() {
+        LongMap<Long> map = LongMap.<Long>empty();
+        for (long k = -1000; k < 1000; k += 3) {
+            map = map.put(k, k * 2);
+        }
+        List<Long> keys = new ArrayList<>();
+        map.forEachInRange(-10, 10, (v, k) -> keys.add(k));
+        assertThat(keys.toString(), equalTo("[-10, -7, -4, -1, 2, 5, 8]"));
+        assertThat(map.range(-10, 10).size(), equalTo(7));
+        assertThat(map.range(2000, 3000), equalTo(LongMap.empty()));
+    }
+
+    @Test
+    public void randomMatchesTreeMap() {
+        Random random = new Random(0);
+        java.util.TreeMap<Long, Integer> expected = new java.util.TreeMap<>();
+        LongMap<Integer> map = LongMap.empty();
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(5_000) - 2_500l;
+            if (random.nextInt(4) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+        assertThat(map.size(), equalTo(expected.size()));
+        for (Map.Entry<Long, Integer> e : expected.entrySet()) {
+            assertThat(map.getOrElse(e.getKey(), null), equalTo(e.getValue()));
+        }
+        List<Long> keys = new ArrayList<>();
+        map.forEach((v, k) -> keys.add(k));
+        assertThat(keys, equalTo(new ArrayList<>(expected.keySet())));
+        assertThat(map, equalTo(LongMap.fromMap(expected)));
+    }
+
+    @Test
+    public void equalityIgnoresInsertionOrder() {
+        LongMap<String> a = LongMap.<String>empty().put(1l, "a").put(100l, "b").put(-7l, "c");
+        LongMap<String> b = LongMap.<String>empty().put(-7l, "c").put(1l, "a").put(100l, "b");
+        LongMap<String> c = LongMap.fromStream(cyclops.reactive.ReactiveSeq.of(Tuple.tuple(100l, "b"), Tuple.tuple(-7l, "c"), Tuple.tuple(1l, "a")));
+        assertThat(a, equalTo(b));
+        assertThat(a, equalTo(c));
+        assertThat(a.hashCode(), equalTo(b.hashCode()));
+        assertThat(a.remove(100l).remove(-7l), equalTo(LongMap.of(1l, "a")));
+        assertThat(a.toString(), equalTo("LongMap[{-7=c, 1=a, 100=b}]"));
+    }
+}
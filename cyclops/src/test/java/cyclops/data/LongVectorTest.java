@@ -0,0 +1,151 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.basetests.BasePrimitiveVectorTest;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class LongVectorTest extends BasePrimitiveVectorTest<LongVector> {
+
+    @Override
+    protected LongVector create(int size){
+        LongVector.Builder b = LongVector.builder();
+        for(int i=0;i<size;i++){
+            b.append(i);
+        }
+        return b.build();
+    }
+    @Override
+    protected LongVector empty() {
+        return LongVector.empty();
+    }
+    @Override
+    protected LongVector of(int... values) {
+        LongVector.Builder b = LongVector.builder();
+        for(int next : values)
+            b.append(next);
+        return b.build();
+    }
+    @Override
+    protected Number box(int value) {
+        return (long)value;
+    }
+    @Override
+    protected int size(LongVector vec) {
+        return vec.size();
+    }
+    @Override
+    protected Number getOrElse(LongVector vec, int pos, int alt) {
+        return vec.getOrElse(pos,alt);
+    }
+    @Override
+    protected Option<? extends Number> get(LongVector vec, int pos) {
+        return vec.get(pos);
+    }
+    @Override
+    protected LongVector plus(LongVector vec, int value) {
+        return vec.plus(value);
+    }
+    @Override
+    protected LongVector append(LongVector vec, int value) {
+        return vec.append(value);
+    }
+    @Override
+    protected LongVector updateAt(LongVector vec, int pos, int value) {
+        return vec.updateAt(pos,value);
+    }
+    @Override
+    protected LongVector appendAll(LongVector vec, LongVector values) {
+        return vec.appendAll(values);
+    }
+    @Override
+    protected LongVector add(LongVector vec, int value) {
+        return vec.map(i->i+value);
+    }
+    @Override
+    protected LongVector times(LongVector vec, int value) {
+        return vec.map(i->i*value);
+    }
+    @Override
+    protected LongVector evens(LongVector vec) {
+        return vec.filter(i->i%2==0);
+    }
+    @Override
+    protected Number foldLeftSum(LongVector vec) {
+        return vec.foldLeft(0,(a,b)->a+b);
+    }
+    @Override
+    protected Number sum(LongVector vec) {
+        return vec.sum();
+    }
+    @Override
+    protected Number parallelSum(LongVector vec) {
+        return vec.longStream().parallel().sum();
+    }
+    @Override
+    protected List<? extends Number> toList(LongVector vec) {
+        return vec.stream().toList();
+    }
+    @Override
+    protected LongVector fromBoxedStream(LongVector vec) {
+        return LongVector.fromStream(vec.stream());
+    }
+    @Override
+    protected LongVector fromPrimitiveStream(LongVector vec) {
+        return LongVector.fromLongStream(vec.longStream());
+    }
+    @Override
+    protected LongVector fromPrimitiveSeq() {
+        return LongVector.fromStream(ReactiveSeq.ofLongs(1,2,3));
+    }
+    @Override
+    protected Spliterator<?> spliterator(LongVector vec) {
+        return vec.spliterator();
+    }
+    @Override
+    protected Spliterator<?> streamSpliterator(LongVector vec) {
+        return vec.stream().spliterator();
+    }
+    @Override
+    protected int boxedSize(LongVector vec) {
+        return vec.boxed().size();
+    }
+
+    @Test
+    public void valuesOutsideIntRange(){
+        long[] values = {Long.MAX_VALUE,Long.MIN_VALUE,1L<<40,-(1L<<40),Integer.MAX_VALUE+1L,Integer.MIN_VALUE-1L};
+        LongVector vec = LongVector.of(values);
+        for(int i=0;i<values.length;i++)
+            assertThat(vec.getOrElse(i,0),equalTo(values[i]));
+        assertThat(vec.toArray(),equalTo(values));
+        assertThat(vec.updateAt(2,Long.MIN_VALUE).getOrElse(2,0),equalTo(Long.MIN_VALUE));
+        assertThat(vec.filter(i->i>Integer.MAX_VALUE).toArray(),equalTo(new long[]{Long.MAX_VALUE,1L<<40,Integer.MAX_VALUE+1L}));
+        assertThat(LongVector.range(Long.MAX_VALUE-3,Long.MAX_VALUE).toArray(),
+                   equalTo(new long[]{Long.MAX_VALUE-3,Long.MAX_VALUE-2,Long.MAX_VALUE-1}));
+    }
+    @Test
+    public void overflowWraps(){
+        LongVector vec = LongVector.of(Long.MAX_VALUE,1);
+        assertThat(vec.map(i->i+1).getOrElse(0,0),equalTo(Long.MIN_VALUE));
+        assertThat(vec.sum(),equalTo(Long.MIN_VALUE));
+        assertThat(vec.foldLeft(0,(a,b)->a+b),equalTo(Long.MIN_VALUE));
+        assertThat(vec.longStream().parallel().sum(),equalTo(Long.MIN_VALUE));
+    }
+    @Test
+    public void largeValuesEqualsAndSerialization() throws Exception{
+        LongVector.Builder b = LongVector.builder();
+        for(int i=0;i<3000;i++)
+            b.append(Long.MAX_VALUE-i);
+        LongVector vec = b.build();
+        assertThat(roundTrip(vec),equalTo(vec));
+        assertThat(vec.updateAt(5,5).equals(vec),equalTo(false));
+        assertThat(LongVector.of(1L<<32).equals(LongVector.of(0)),equalTo(false));
+        assertThat(LongVector.of(Long.MAX_VALUE).toString(),equalTo("["+Long.MAX_VALUE+"]"));
+    }
+}
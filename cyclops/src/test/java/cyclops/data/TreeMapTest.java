@@ -1,9 +1,23 @@
 package cyclops.data;
 
 
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Created by johnmcclean on 02/09/2017.
@@ -22,4 +36,62 @@ public class TreeMapTest {
 
         System.out.println(map.put(10,"boo!").elementAt(10).orElse(null));
     }
+
+    @Test
+    public void spliteratorSplitsInOrder(){
+        TreeMap<Integer,Integer> map = TreeMap.empty(Comparator.<Integer>naturalOrder());
+        for(int i=0;i<50_000;i++){
+            map = map.put((i*7919)%50_000,i);
+        }
+        List<Integer> keys = map.stream().map(t->t._1()).toList();
+        assertThat(keys,equalTo(ReactiveSeq.range(0,50_000).toList()));
+        Spliterator<Tuple2<Integer,Integer>> split = map.stream().spliterator();
+        assertTrue(split.hasCharacteristics(Spliterator.SIZED));
+        assertThat(split.trySplit(),notNullValue());
+        assertThat(map.stream().foldParallel(s->s.map(t->t._1()).collect(Collectors.toList())),equalTo(keys));
+        assertThat(map.stream().foldParallel(s->s.count()),equalTo(50_000L));
+    }
+    @Test
+    public void spliteratorSplitsDownToSmallBalancedParts(){
+        TreeMap<Integer,Integer> sequential = TreeMap.empty(Comparator.<Integer>naturalOrder());
+        TreeMap<Integer,Integer> scattered = TreeMap.empty(Comparator.<Integer>naturalOrder());
+        for(int i=0;i<50_000;i++){
+            sequential = sequential.put(i,i);
+            scattered = scattered.put((i*7919)%50_000,i);
+        }
+        for(TreeMap<Integer,Integer> map : Arrays.asList(sequential,scattered)){
+            Spliterator<Tuple2<Integer,Integer>> split = map.stream().spliterator();
+            Spliterator<Tuple2<Integer,Integer>> prefix = split.trySplit();
+            long prefixSize = prefix.estimateSize();
+            assertThat(prefixSize,greaterThan(50_000L/4));
+            assertThat(split.estimateSize(),greaterThan(50_000L/4));
+
+            List<Integer> prefixKeys = new ArrayList<>();
+            prefix.forEachRemaining(t->prefixKeys.add(t._1()));
+            assertThat(prefixKeys,equalTo(ReactiveSeq.range(0,prefixKeys.size()).toList()));
+            assertThat(prefixKeys.size(),greaterThan(50_000/4));
+            assertThat(prefixKeys.size(),lessThan(50_000*3/4));
+
+            List<List<Integer>> parts = new ArrayList<>();
+            splitFully(map.stream().spliterator(),parts);
+            assertThat(parts.size(),greaterThan(256));
+            List<Integer> keys = new ArrayList<>();
+            for(List<Integer> part : parts){
+                assertThat(part.size(),lessThan(50_000/64));
+                keys.addAll(part);
+            }
+            assertThat(keys,equalTo(ReactiveSeq.range(0,50_000).toList()));
+        }
+    }
+    private void splitFully(Spliterator<Tuple2<Integer,Integer>> split, List<List<Integer>> parts){
+        Spliterator<Tuple2<Integer,Integer>> prefix = split.trySplit();
+        if(prefix==null){
+            List<Integer> part = new ArrayList<>();
+            split.forEachRemaining(t->part.add(t._1()));
+            parts.add(part);
+            return;
+        }
+        splitFully(prefix,parts);
+        splitFully(split,parts);
+    }
 }
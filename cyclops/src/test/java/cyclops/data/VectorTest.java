@@ -13,12 +13,17 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
@@ -463,4 +468,162 @@ public class VectorTest extends BaseImmutableListTest {
         assertThat(ints.delete(2),equalTo(Either.right(Vector.of(1,2))));
     }
 
+    @Test
+    public void builder(){
+        for(int size : new int[]{0,1,31,32,33,1024,1025,32*32*32+7,40_000}) {
+            Vector.Builder<Integer> b = Vector.builder();
+            for (int i = 0; i < size; i++) {
+                b.append(i);
+            }
+            Vector<Integer> built = b.build();
+            assertThat(built.size(),equalTo(size));
+            assertThat(built,equalTo(Vector.range(0,size)));
+            for (int i = 0; i < size; i++) {
+                assertThat(built.getOrElse(i,-1),equalTo(i));
+            }
+            assertThat(built.plus(-1).getOrElse(size,0),equalTo(-1));
+        }
+    }
+    @Test
+    public void builderContinuesAfterBuild(){
+        Vector.Builder<Integer> b = Vector.builder();
+        for (int i = 0; i < 1000; i++) {
+            b.append(i);
+        }
+        Vector<Integer> first = b.build();
+        for (int i = 1000; i < 3000; i++) {
+            b.append(i);
+        }
+        assertThat(first,equalTo(Vector.range(0,1000)));
+        assertThat(b.build(),equalTo(Vector.range(0,3000)));
+    }
+    @Test
+    public void transientCopy(){
+        for(int size : new int[]{0,5,32,64,1024,1050,32*32*32+7}) {
+            Vector<Integer> vec = Vector.range(0, size);
+            Vector<Integer> appended = vec.transientCopy()
+                                          .appendAll(ReactiveSeq.range(size, size + 2000))
+                                          .build();
+            assertThat(vec, equalTo(ReactiveSeq.range(0, size).to(Vector::fromIterable)));
+            assertThat(appended, equalTo(Vector.range(0, size + 2000)));
+            assertThat(appended.size(),equalTo(size+2000));
+        }
+    }
+    @Test
+    public void collectorBuildsVector(){
+        Vector<Integer> vec = ReactiveSeq.range(0,5000).collect(Vector.collector());
+        assertThat(vec,equalTo(Vector.range(0,5000)));
+        Vector<Integer> par = java.util.stream.IntStream.range(0,5000).boxed().parallel().collect(Vector.collector());
+        assertThat(par,equalTo(Vector.range(0,5000)));
+    }
+    @Test
+    public void concatAndSplit(){
+        int[] sizes = {0,1,31,32,33,100,1024,1057,5000,40_000};
+        for(int a : sizes){
+            for(int b : sizes){
+                Vector<Integer> joined = Vector.range(0,a).appendAll(Vector.range(a,a+b));
+                assertThat(joined.size(),equalTo(a+b));
+                assertThat(joined,equalTo(Vector.range(0,a+b)));
+                assertThat(joined.take(a),equalTo(Vector.range(0,a)));
+                assertThat(joined.drop(a),equalTo(Vector.range(a,a+b)));
+                assertThat(joined.plus(-1).getOrElse(a+b,0),equalTo(-1));
+            }
+        }
+    }
+    @Test
+    public void randomEditsMatchArrayList(){
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        Vector<Integer> vec = Vector.empty();
+        for(int i=0;i<400;i++){
+            int pos = random.nextInt(expected.size()+1);
+            switch(random.nextInt(5)){
+                case 0:
+                    List<Integer> values = new ArrayList<>();
+                    for(int j=random.nextInt(200);j>0;j--){
+                        values.add(random.nextInt());
+                    }
+                    expected.addAll(pos,values);
+                    vec = vec.insertAt(pos,Vector.fromIterable(values));
+                    break;
+                case 1:
+                    if(pos<expected.size()){
+                        expected.remove(pos);
+                        vec = vec.removeAt(pos);
+                    }
+                    break;
+                case 2:
+                    int end = pos+random.nextInt(expected.size()-pos+1);
+                    expected = new ArrayList<>(expected.subList(pos,end));
+                    vec = vec.slice(pos,end);
+                    break;
+                case 3:
+                    if(expected.size()<50_000) {
+                        expected.addAll(new ArrayList<>(expected));
+                        vec = vec.appendAll(vec);
+                    }
+                    break;
+                default:
+                    if(pos<expected.size()){
+                        expected.set(pos,i);
+                        vec = vec.updateAt(pos,i);
+                    }
+            }
+            assertThat(vec.size(),equalTo(expected.size()));
+            assertThat(vec.toList(),equalTo(expected));
+            assertThat(vec.stream().toList(),equalTo(expected));
+            for(int j=0;j<expected.size();j+=7){
+                assertThat(vec.getOrElse(j,null),equalTo(expected.get(j)));
+            }
+        }
+    }
+    @Test
+    public void spliteratorSplitsInParallel(){
+        Vector<Integer> regular = Vector.range(0,40_000);
+        Vector<Integer> relaxed = Vector.range(0,15_000).appendAll(Vector.range(15_000,40_000)).drop(5);
+        for(Vector<Integer> vec : Arrays.asList(regular,relaxed)){
+            long expected = vec.stream().foldLeft(0L,(a,b)->a+b);
+            Spliterator<Integer> split = vec.spliterator();
+            assertTrue(split.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+            Spliterator<Integer> prefix = split.trySplit();
+            assertThat(prefix.estimateSize()+split.estimateSize(),equalTo((long)vec.size()));
+            assertThat(StreamSupport.stream(vec.spliterator(),true).mapToLong(i->i).sum(),equalTo(expected));
+            assertThat(vec.stream().foldParallel(s->s.mapToLong(i->i).sum()),equalTo(expected));
+            assertThat(vec.stream().parallel(s->s.map(i->i*2)).toList(),equalTo(vec.map(i->i*2).toList()));
+        }
+    }
+    @Test
+    public void spliteratorForEachRemaining(){
+        Vector<Integer> regular = Vector.range(0,1_000);
+        Vector<Integer> relaxed = Vector.range(0,300).appendAll(Vector.range(300,1_000)).drop(5);
+        for(Vector<Integer> vec : Arrays.asList(regular,relaxed)){
+            Spliterator<Integer> split = vec.spliterator();
+            Spliterator<Integer> prefix = split.trySplit();
+            List<Integer> values = new ArrayList<>();
+            prefix.tryAdvance(values::add);
+            prefix.forEachRemaining(values::add);
+            for(int i=0;i<40;i++)
+                split.tryAdvance(values::add);
+            split.forEachRemaining(values::add);
+            assertThat(values,equalTo(vec.toList()));
+            assertThat(split.estimateSize(),equalTo(0L));
+        }
+    }
+    @Test
+    public void streamIsRepeatable(){
+        ReactiveSeq<Integer> stream = Vector.range(0,100).stream();
+        assertThat(stream.toList(),equalTo(stream.toList()));
+        assertThat(stream.count(),equalTo(100L));
+    }
+    @Test
+    public void builderFromConcatenatedVector(){
+        Vector<Integer> joined = Vector.range(0,1000).drop(3).appendAll(Vector.range(1000,2000));
+        Vector.Builder<Integer> b = joined.transientCopy();
+        for(int i=2000;i<3000;i++){
+            b.append(i);
+        }
+        assertThat(b.build(),equalTo(Vector.range(3,3000)));
+        assertThat(joined,equalTo(Vector.range(3,2000)));
+    }
+
 }
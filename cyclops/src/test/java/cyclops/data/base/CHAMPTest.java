@@ -0,0 +1,191 @@
+package cyclops.data.base;
+
+import cyclops.control.Option;
+import cyclops.data.base.HAMT.Node;
+import cyclops.data.tuple.Tuple2;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class CHAMPTest {
+
+    static class Collider {
+        final int value;
+
+        Collider(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value % 10;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider && ((Collider) o).value == value;
+        }
+
+        @Override
+        public String toString() {
+            return "Collider[" + value + "]";
+        }
+    }
+
+    @Test
+    public void empty() {
+        Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+        assertThat(node.size(), equalTo(0));
+        assertThat(node.get(1), equalTo(Option.none()));
+        assertThat(node.minus(1), equalTo(node));
+    }
+
+    @Test
+    public void putMany() {
+        Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+        for (int i = 0; i < 10_000; i++) {
+            node = node.put(i * 31, i);
+        }
+        assertThat(node.size(), equalTo(10_000));
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(node.get(i * 31), equalTo(Option.some(i)));
+        }
+        assertThat(node.get(-1), equalTo(Option.none()));
+        assertThat(node.getOrElse(-1, -2), equalTo(-2));
+    }
+
+    @Test
+    public void putReplaces() {
+        Node<String, Integer> node = CHAMP.<String, Integer>empty().put("hello", 1).put("world", 2);
+        Node<String, Integer> replaced = node.put("hello", 10);
+        assertThat(replaced.size(), equalTo(2));
+        assertThat(replaced.get("hello"), equalTo(Option.some(10)));
+        assertThat(node.get("hello"), equalTo(Option.some(1)));
+    }
+
+    @Test
+    public void minusMany() {
+        Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+        for (int i = 0; i < 5_000; i++) {
+            node = node.put(i, i);
+        }
+        for (int i = 0; i < 5_000; i += 2) {
+            node = node.minus(i);
+        }
+        assertThat(node.size(), equalTo(2_500));
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(node.containsKey(i), equalTo(i % 2 == 1));
+        }
+        for (int i = 1; i < 5_000; i += 2) {
+            node = node.minus(i);
+        }
+        assertThat(node, equalTo(CHAMP.empty()));
+    }
+
+    @Test
+    public void collisions() {
+        Node<Collider, Integer> node = CHAMP.<Collider, Integer>empty();
+        for (int i = 0; i < 100; i++) {
+            node = node.put(new Collider(i), i);
+        }
+        assertThat(node.size(), equalTo(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(node.get(new Collider(i)), equalTo(Option.some(i)));
+        }
+        assertThat(node.stream().count(), equalTo(100L));
+        for (int i = 0; i < 100; i += 3) {
+            node = node.minus(new Collider(i));
+        }
+        assertThat(node.size(), equalTo(66));
+        assertTrue(node.get(new Collider(1)).isPresent());
+        assertThat(node.get(new Collider(3)), equalTo(Option.none()));
+    }
+
+    @Test
+    public void canonicalAfterRemoval() {
+        Node<Integer, Integer> small = CHAMP.<Integer, Integer>empty().put(1, 1);
+        Node<Integer, Integer> large = small;
+        for (int i = 2; i < 2_000; i++) {
+            large = large.put(i, i);
+        }
+        for (int i = 2; i < 2_000; i++) {
+            large = large.minus(i);
+        }
+        assertThat(large, equalTo(small));
+        assertThat(large.hashCode(), equalTo(small.hashCode()));
+    }
+
+    @Test
+    public void orderCompare() {
+        Node<String, String> a = CHAMP.<String, String>empty().put("hello", "world").put("world", "hello");
+        Node<String, String> b = CHAMP.<String, String>empty().put("world", "hello").put("hello", "world");
+
+        assertThat(a, equalTo(b));
+    }
+
+    @Test
+    public void transientMatchesPersistent() {
+        Random random = new Random(0);
+        HAMT.Transient<Integer, Integer> tr = HAMT.Transient.from(CHAMP.empty());
+        Node<Integer, Integer> persistent = CHAMP.empty();
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(10_000);
+            tr.put(key, i);
+            persistent = persistent.put(key, i);
+        }
+        Node<Integer, Integer> frozen = tr.freeze();
+        assertThat(frozen.size(), equalTo(persistent.size()));
+        assertThat(frozen, equalTo(persistent));
+    }
+
+    @Test
+    public void transientDoesNotModifySource() {
+        Node<Integer, Integer> source = CHAMP.empty();
+        for (int i = 0; i < 1_000; i++) {
+            source = source.put(i, i);
+        }
+        HAMT.Transient<Integer, Integer> tr = HAMT.Transient.from(source);
+        for (int i = 0; i < 2_000; i++) {
+            tr.put(i, -i);
+        }
+        Node<Integer, Integer> frozen = tr.freeze();
+        tr.put(5_000, 5_000);
+
+        assertThat(source.size(), equalTo(1_000));
+        assertThat(source.get(10), equalTo(Option.some(10)));
+        assertThat(frozen.size(), equalTo(2_000));
+        assertThat(frozen.get(10), equalTo(Option.some(-10)));
+        assertThat(frozen.get(5_000), equalTo(Option.none()));
+    }
+
+    @Test
+    public void streamVisitsEveryEntry() {
+        Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+        for (int i = 0; i < 10_000; i++) {
+            node = node.put(i, i * 2);
+        }
+        assertThat(node.stream().map(Tuple2::_1).toSet().size(), equalTo(10_000));
+        assertThat(node.stream().mapToInt(t -> t._2() - 2 * t._1()).sum(), equalTo(0));
+        assertThat(node.lazyList().size(), equalTo(10_000));
+    }
+
+    @Test
+    public void parallelSplits() {
+        Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+        for (int i = 0; i < 10_000; i++) {
+            node = node.put(i, i);
+        }
+        CHAMP.BitmapIndexedNode<Integer, Integer> root = (CHAMP.BitmapIndexedNode<Integer, Integer>) node;
+        CHAMP.NodeSpliterator<Integer, Integer> split = new CHAMP.NodeSpliterator<>(root, 0, root.payloadArity() + root.nodeArity(), null);
+        assertThat(split.estimateSize(), equalTo(10_000L));
+        long sum = StreamSupport.stream(split, true)
+                                .collect(Collectors.summingLong(t -> t._1()));
+        assertThat(sum, equalTo(10_000L * 9_999 / 2));
+    }
+}
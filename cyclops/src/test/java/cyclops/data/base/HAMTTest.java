@@ -205,6 +205,43 @@ public class HAMTTest {
     }
 
 
+    @Test
+    public void transientMatchesPersistent() throws Exception {
+        Node<Integer, Integer> node = HAMT.<Integer, Integer>empty();
+        HAMT.Transient<Integer, Integer> builder = HAMT.Transient.empty();
+        for (int i = 0; i < 5000; i++) {
+            int key = i % 2 == 0 ? i : i << 16; //keys sharing low order hash bits
+            node = node.put(key, i);
+            builder.put(key, i);
+        }
+        builder.put(0, -1);
+        node = node.put(0, -1);
+        Node<Integer, Integer> frozen = builder.freeze();
+        assertThat(frozen.size(), equalTo(node.size()));
+        assertThat(frozen, equalTo(node));
+        assertThat(frozen.get(0), equalTo(Option.some(-1)));
+    }
+
+    @Test
+    public void transientDoesNotModifySource() throws Exception {
+        Node<Integer, Integer> node = HAMT.<Integer, Integer>empty();
+        for (int i = 0; i < 1000; i++) {
+            node = node.put(i, i);
+        }
+        HAMT.Transient<Integer, Integer> builder = HAMT.Transient.from(node);
+        for (int i = 0; i < 2000; i++) {
+            builder.put(i, -i);
+        }
+        Node<Integer, Integer> frozen = builder.freeze();
+        builder.put(5000, 5000);
+        assertThat(node.size(), equalTo(1000));
+        assertThat(node.get(10), equalTo(Option.some(10)));
+        assertThat(frozen.size(), equalTo(2000));
+        assertThat(frozen.get(10), equalTo(Option.some(-10)));
+        assertThat(frozen.get(5000), equalTo(Option.none()));
+        assertThat(builder.freeze().size(), equalTo(2001));
+    }
+
     @Test
     public void replace() throws Exception {
         Node<Integer, Integer> node = HAMT.<Integer, Integer>empty().plus(0, 1, 1, 1);
@@ -0,0 +1,146 @@
+package cyclops.data.basetests;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests shared by IntVector, LongVector and DoubleVector. Elements are written as ints and compared boxed, as the
+ * vector's own element type (see {@link #box(int)}).
+ *
+ * @param <V> Primitive vector type
+ */
+public abstract class BasePrimitiveVectorTest<V> {
+
+    protected static final int[] SIZES = {0,1,31,32,33,64,1024,1025,32*32*32+7,40_000};
+
+    //a vector of the values 0 until size, appended one at a time via a Builder
+    protected abstract V create(int size);
+    protected abstract V empty();
+    protected abstract V of(int... values);
+    protected abstract Number box(int value);
+
+    protected abstract int size(V vec);
+    protected abstract Number getOrElse(V vec, int pos, int alt);
+    protected abstract Option<? extends Number> get(V vec, int pos);
+    protected abstract V plus(V vec, int value);
+    protected abstract V append(V vec, int value);
+    protected abstract V updateAt(V vec, int pos, int value);
+    protected abstract V appendAll(V vec, V values);
+    protected abstract V add(V vec, int value);
+    protected abstract V times(V vec, int value);
+    protected abstract V evens(V vec);
+    protected abstract Number foldLeftSum(V vec);
+    protected abstract Number sum(V vec);
+    protected abstract Number parallelSum(V vec);
+    protected abstract List<? extends Number> toList(V vec);
+    protected abstract V fromBoxedStream(V vec);
+    protected abstract V fromPrimitiveStream(V vec);
+    //a vector of 1, 2, 3 built from a ReactiveSeq backed by a primitive Spliterator
+    protected abstract V fromPrimitiveSeq();
+    protected abstract Spliterator<?> spliterator(V vec);
+    protected abstract Spliterator<?> streamSpliterator(V vec);
+    protected abstract int boxedSize(V vec);
+
+    private List<Number> boxed(int from, int to, int step, int multiplier){
+        List<Number> list = new ArrayList<>();
+        for(int i=from;i<to;i+=step)
+            list.add(box(i*multiplier));
+        return list;
+    }
+
+    @Test
+    public void getAndSize(){
+        for(int size : SIZES){
+            V vec = create(size);
+            assertThat(size(vec),equalTo(size));
+            for(int i=0;i<size;i++){
+                assertThat(getOrElse(vec,i,-1),equalTo(box(i)));
+            }
+            assertThat(getOrElse(vec,size,-1),equalTo(box(-1)));
+            assertThat(get(vec,-1),equalTo(Option.none()));
+        }
+    }
+    @Test
+    public void plus(){
+        V vec = empty();
+        for(int i=0;i<2000;i++){
+            vec = plus(vec,i);
+        }
+        assertThat(vec,equalTo(create(2000)));
+    }
+    @Test
+    public void structuralSharing(){
+        V vec = create(2000);
+        V updated = updateAt(updateAt(vec,10,-10),1999,-1999);
+        V appended = append(vec,2000);
+        assertThat(vec,equalTo(create(2000)));
+        assertThat(getOrElse(updated,10,0),equalTo(box(-10)));
+        assertThat(getOrElse(updated,1999,0),equalTo(box(-1999)));
+        assertThat(getOrElse(updated,11,0),equalTo(box(11)));
+        assertThat(size(appended),equalTo(2001));
+        assertThat(size(vec),equalTo(2000));
+    }
+    @Test
+    public void mapFilterFold(){
+        for(int size : SIZES){
+            V vec = create(size);
+            V mapped = times(vec,2);
+            assertThat(size(mapped),equalTo(size));
+            assertThat(toList(mapped),equalTo(boxed(0,size,1,2)));
+            assertThat(toList(evens(vec)),equalTo(boxed(0,size,2,1)));
+            Number expected = box(size*(size-1)/2);
+            assertThat(foldLeftSum(vec),equalTo(expected));
+            assertThat(sum(vec),equalTo(expected));
+        }
+    }
+    @Test
+    public void appendAll(){
+        V vec = appendAll(create(1000),add(create(3000),1000));
+        assertThat(vec,equalTo(create(4000)));
+    }
+    @Test
+    public void streams(){
+        V vec = create(5000);
+        assertThat(fromBoxedStream(vec),equalTo(vec));
+        assertThat(fromPrimitiveStream(vec),equalTo(vec));
+        assertThat(fromPrimitiveSeq(),equalTo(of(1,2,3)));
+        assertThat(parallelSum(vec),equalTo(sum(vec)));
+        assertTrue(spliterator(vec).hasCharacteristics(Spliterator.SIZED));
+        assertThat(spliterator(vec).trySplit().estimateSize(),equalTo(2500l));
+        assertTrue(streamSpliterator(vec) instanceof Spliterator.OfPrimitive);
+        assertThat(boxedSize(vec),equalTo(5000));
+    }
+    @Test
+    public void equalsAndHashCode(){
+        assertThat(of(1,2,3),equalTo(of(1,2,3)));
+        assertThat(of(1,2,3).hashCode(),equalTo(of(1,2,3).hashCode()));
+        assertFalse(of(1,2,3).equals(of(1,2)));
+        assertThat(of(1,2,3).toString(),equalTo(toList(of(1,2,3)).toString()));
+    }
+    @Test
+    public void serialization() throws Exception{
+        V vec = create(3000);
+        assertThat(roundTrip(vec),equalTo(vec));
+    }
+
+    protected Object roundTrip(Object value) throws Exception{
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(value);
+        out.close();
+        return new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+    }
+}
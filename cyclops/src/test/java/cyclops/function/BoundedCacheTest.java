@@ -0,0 +1,148 @@
+package cyclops.function;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class BoundedCacheTest {
+
+    AtomicInteger called = new AtomicInteger(0);
+
+    private Integer add(Integer a, Integer b) {
+        called.incrementAndGet();
+        return a + b;
+    }
+
+    @Test
+    public void memoizesFunction() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(100);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> add(i, 1), cache);
+
+        assertThat(fn.apply(10), equalTo(11));
+        assertThat(fn.apply(10), equalTo(11));
+        assertThat(called.get(), equalTo(1));
+        assertThat(cache.stats().hitCount(), equalTo(1L));
+        assertThat(cache.stats().missCount(), equalTo(1L));
+    }
+
+    @Test
+    public void fluentBiFunctionUsesCache() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(100);
+        Function2<Integer, Integer, Integer> fn = FluentFunctions.of(this::add)
+                                                                 .memoize(cache);
+        fn.apply(1, 2);
+        fn.apply(1, 2);
+
+        assertThat(called.get(), equalTo(1));
+        assertThat(cache.size(), equalTo(1L));
+    }
+
+    @Test
+    public void lruEvictsLeastRecentlyUsed() {
+        BoundedCache<Integer> cache = BoundedCache.<Integer>maximumSize(2).withEviction(BoundedCache.Eviction.LRU);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> add(i, 0), cache);
+
+        fn.apply(1);
+        fn.apply(2);
+        fn.apply(1);
+        cache.cleanUp();
+        fn.apply(3);
+        called.set(0);
+
+        fn.apply(1);
+        assertThat(called.get(), equalTo(0));
+        fn.apply(2);
+        assertThat(called.get(), equalTo(1));
+        assertThat(cache.size(), equalTo(2L));
+    }
+
+    @Test
+    public void tinyLfuStaysWithinMaximumSize() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(500);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> add(i, 0), cache);
+
+        for (int i = 0; i < 100_000; i++)
+            fn.apply(i % 50 == 0 ? i % 200 : i);
+
+        assertThat(cache.size(), lessThanOrEqualTo(500L));
+        assertThat(cache.stats().evictionCount(), greaterThan(0L));
+    }
+
+    @Test
+    public void tinyLfuRetainsFrequentKeysThroughScan() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(100);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> add(i, 0), cache);
+
+        for (int round = 0; round < 20; round++)
+            for (int i = 0; i < 50; i++)
+                fn.apply(i);
+        for (int i = 1000; i < 11_000; i++)
+            fn.apply(i);
+        called.set(0);
+        for (int i = 0; i < 50; i++)
+            fn.apply(i);
+
+        assertThat(called.get(), lessThanOrEqualTo(5));
+    }
+
+    @Test
+    public void expireAfterWrite() {
+        AtomicLong time = new AtomicLong(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer>unbounded()
+                                                  .withExpireAfterWrite(10, TimeUnit.NANOSECONDS)
+                                                  .withTicker(time::get);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> add(i, 0), cache);
+
+        fn.apply(1);
+        time.set(9);
+        fn.apply(1);
+        assertThat(called.get(), equalTo(1));
+        time.set(10);
+        fn.apply(1);
+        assertThat(called.get(), equalTo(2));
+    }
+
+    @Test
+    public void expireAfterAccess() {
+        AtomicLong time = new AtomicLong(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer>unbounded()
+                                                  .withExpireAfterAccess(10, TimeUnit.NANOSECONDS)
+                                                  .withTicker(time::get);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> add(i, 0), cache);
+
+        for (int t = 0; t < 50; t += 5) {
+            time.set(t);
+            fn.apply(1);
+        }
+        assertThat(called.get(), equalTo(1));
+        time.set(100);
+        cache.cleanUp();
+        assertThat(cache.size(), equalTo(0L));
+    }
+
+    @Test
+    public void weakKeysCompareByIdentity() {
+        BoundedCache<Integer> cache = BoundedCache.<Integer>unbounded().withWeakKeys();
+        String key = new String("key");
+
+        cache.computeIfAbsent(key, k -> 1);
+        cache.computeIfAbsent(key, k -> 2);
+        assertThat(cache.computeIfAbsent(new String("key"), k -> 3), equalTo(3));
+        assertThat(cache.size(), equalTo(2L));
+    }
+
+    @Test
+    public void invalidateAll() {
+        BoundedCache<Integer> cache = BoundedCache.maximumSize(10);
+        cache.computeIfAbsent(1, k -> 1);
+        cache.invalidateAll();
+        assertThat(cache.size(), equalTo(0L));
+    }
+}
@@ -1,9 +1,11 @@
 package cyclops.function;
 
+import cyclops.control.Future;
 import org.junit.Test;
 
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -22,4 +24,62 @@ public class MemoizeTest {
         assertThat(fn.apply(1),equalTo(2));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void futureFunctionSharesInFlightFuture() {
+        AtomicInteger calls = new AtomicInteger(0);
+        Future<Integer> pending = Future.future();
+        Function1<Integer, Future<Integer>> fn = Memoize.memoizeFutureFunction(i -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+
+        Future<Integer> first = fn.apply(1);
+        Future<Integer> second = fn.apply(1);
+        assertThat(calls.get(), equalTo(1));
+
+        pending.complete(10);
+        assertThat(first.orElse(-1), equalTo(10));
+        assertThat(second.orElse(-1), equalTo(10));
+        assertThat(fn.apply(1).orElse(-1), equalTo(10));
+        assertThat(calls.get(), equalTo(1));
+    }
+
+    @Test
+    public void futureFunctionDoesNotCacheFailures() {
+        AtomicInteger calls = new AtomicInteger(0);
+        Function1<Integer, Future<Integer>> fn = Memoize.memoizeFutureFunction(i -> calls.incrementAndGet() == 1 ?
+                Future.ofError(new RuntimeException("boom")) : Future.ofResult(i));
+
+        assertThat(fn.apply(1).isFailed(), equalTo(true));
+        assertThat(fn.apply(1).orElse(-1), equalTo(1));
+        assertThat(fn.apply(1).orElse(-1), equalTo(1));
+        assertThat(calls.get(), equalTo(2));
+    }
+
+    @Test
+    public void futureFunctionServesStaleWhileRefreshing() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger(0);
+        Function1<Integer, Future<Integer>> fn = Memoize.memoizeFutureFunction(i -> Future.ofResult(calls.incrementAndGet()), 1);
+
+        assertThat(fn.apply(1).orElse(-1), equalTo(1));
+        Thread.sleep(5);
+        assertThat(fn.apply(1).orElse(-1), equalTo(1));
+        assertThat(fn.apply(1).orElse(-1), equalTo(2));
+    }
+
+    @Test
+    public void futureFunctionWithBoundedCache() {
+        AtomicInteger calls = new AtomicInteger(0);
+        Function1<Integer, Future<Integer>> fn = Memoize.memoizeFutureFunction(i -> {
+            calls.incrementAndGet();
+            return Future.ofResult(i);
+        }, BoundedCache.maximumSize(10));
+
+        fn.apply(1);
+        fn.apply(1);
+        fn.apply((Integer)null);
+        fn.apply((Integer)null);
+        assertThat(calls.get(), equalTo(2));
+    }
+
+}
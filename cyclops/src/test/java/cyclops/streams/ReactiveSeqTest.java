@@ -36,6 +36,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static cyclops.function.Predicates.anyOf;
@@ -679,6 +680,23 @@ public class ReactiveSeqTest {
         }
     }
 
+    @Test
+    public void foldParallelUnsized(){
+        long expected = LongStream.range(0, 100_000).filter(i -> i % 3 != 0).sum();
+        assertThat(ReactiveSeq.iterate(0l, i -> i + 1)
+                              .take(100_000)
+                              .filter(i -> i % 3 != 0)
+                              .foldParallel(s -> s.mapToLong(i -> i).sum()), equalTo(expected));
+        assertThat(Spouts.iterate(0l, i -> i + 1)
+                         .take(100_000)
+                         .filter(i -> i % 3 != 0)
+                         .foldParallel(new ForkJoinPool(4), s -> s.mapToLong(i -> i).sum()), equalTo(expected));
+        assertThat(ReactiveSeq.range(0, 1000)
+                              .filter(i -> i % 2 == 0)
+                              .foldParallel(s -> s.collect(Collectors.toList())),
+                   equalTo(IntStream.range(0, 1000).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList())));
+    }
+
     @Test
     public void testLimit(){
         assertThat(ReactiveSeq.fill(1).limit(2).count(),equalTo(2l));